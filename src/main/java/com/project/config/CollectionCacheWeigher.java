@@ -0,0 +1,25 @@
+package com.project.config;
+
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs a second-level cache entry by the number of elements it holds, so a collection
+ * region can be bounded by the ids it keeps rather than by how many collections it has.
+ * A book with 200k contacts then counts 200k times what an empty one does. Anything that
+ * is not a cached collection, such as a soft lock held during a write, weighs one.
+ * Named by {@code policy.maximum.weigher} in {@code application.conf}.
+ */
+public class CollectionCacheWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        Object entry = value instanceof AbstractReadWriteAccess.Item item ? item.getValue() : value;
+        if (entry instanceof CollectionCacheEntry collection) {
+            return Math.max(1, collection.getState().length);
+        }
+        return 1;
+    }
+}
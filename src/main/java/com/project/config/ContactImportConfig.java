@@ -0,0 +1,44 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.project.config.datasource.ReadYourWritesContext;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ContactImportProperties.class)
+public class ContactImportConfig {
+
+    public static final String IMPORT_EXECUTOR = "contactImportExecutor";
+    public static final String IMPORT_WRITER_EXECUTOR = "contactImportWriterExecutor";
+
+    /**
+     * Workers that parse and validate import chunks, shared by all imports. Each import
+     * bounds its own queued chunks, so the queue is left unbounded. Not a default
+     * candidate, so the auto-configured {@code applicationTaskExecutor} is still created.
+     */
+    @Bean(name = IMPORT_EXECUTOR, defaultCandidate = false)
+    ThreadPoolTaskExecutor contactImportExecutor(ContactImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setThreadNamePrefix("contact-import-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * A thread per import that commits its batches while the request thread reads on. Its
+     * writes count as the request's own, for the read-your-writes window.
+     */
+    @Bean(name = IMPORT_WRITER_EXECUTOR, defaultCandidate = false)
+    SimpleAsyncTaskExecutor contactImportWriterExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("contact-import-writer-");
+        executor.setTaskDecorator(ReadYourWritesContext::propagate);
+        executor.setDaemon(true);
+        return executor;
+    }
+}
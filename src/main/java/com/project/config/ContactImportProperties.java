@@ -0,0 +1,39 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Sizing of the contact import pipeline behind {@code app.contacts.import}. Memory held by
+ * one import is bounded by {@code maxChunksInFlight * chunkSize + (maxBatchesInFlight + 2) * batchSize}
+ * rows: the chunks being parsed, the batch being filled, the batches queued and the one
+ * being written.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.contacts.import")
+public class ContactImportProperties {
+
+    /** Threads that parse and validate rows, shared by all imports. */
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /** Rows handed to a worker at a time. */
+    private int chunkSize = 500;
+
+    /** Chunks read ahead of the writer; the reader waits when this many are queued. */
+    private int maxChunksInFlight = 16;
+
+    /** Valid rows written per transaction. */
+    private int batchSize = 5_000;
+
+    /** Full batches queued for the writer; the reader waits when this many are queued. */
+    private int maxBatchesInFlight = 2;
+
+    /** Longest accepted row, in characters. Longer rows are rejected without being buffered. */
+    private int maxRowLength = 4_096;
+
+    /** Rejected rows reported with their line and reason; the rest are only counted. */
+    private int maxReportedErrors = 100;
+}
@@ -0,0 +1,88 @@
+package com.project.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.project.util.DatabasePlatform;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the pg_trgm indexes behind substring search on PostgreSQL. The indexes are
+ * also in postgresql-schema.sql; this covers databases migrated by Hibernate alone.
+ *
+ * <p>Runs in the background after startup and builds CONCURRENTLY, so neither readiness
+ * nor writes wait for a large table to be indexed. Best effort: without the extension or
+ * the privilege to create it, search still works through a sequential scan.
+ */
+@Component
+@Slf4j
+public class SearchIndexInitializer {
+
+    private static final List<TrigramIndex> TRIGRAM_INDEXES = List.of(
+            new TrigramIndex("idx_addressbook_name_trgm", "ON addressbooks USING gin (lower(name) gin_trgm_ops)"),
+            new TrigramIndex("idx_contact_name_trgm", "ON contacts USING gin (lower(name) gin_trgm_ops)"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+    private final TaskExecutor taskExecutor;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databasePlatform = databasePlatform;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!databasePlatform.isPostgreSql()) {
+            log.debug("Trigram search indexes skipped on {}", databasePlatform.getProductName());
+            return;
+        }
+        taskExecutor.execute(this::createTrigramIndexes);
+    }
+
+    void createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (DataAccessException ex) {
+            log.warn("pg_trgm is not available, substring search will scan: {}", ex.getMessage());
+            return;
+        }
+        for (TrigramIndex index : TRIGRAM_INDEXES) {
+            createIndex(index.name(), index.definition());
+        }
+    }
+
+    private void createIndex(String name, String definition) {
+        try {
+            // A failed concurrent build leaves an invalid index that IF NOT EXISTS would keep
+            List<Boolean> valid = jdbcTemplate.queryForList(
+                    "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?",
+                    Boolean.class, name);
+            if (!valid.isEmpty() && valid.get(0)) {
+                return;
+            }
+            if (!valid.isEmpty()) {
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+            long start = System.nanoTime();
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " " + definition);
+            log.info("Created search index {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException ex) {
+            // Typically another replica building the same index at the same time
+            log.warn("Could not create search index {}: {}", name, ex.getMessage());
+        }
+    }
+
+    private record TrigramIndex(String name, String definition) {
+    }
+}
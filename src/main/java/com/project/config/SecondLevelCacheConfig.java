@@ -0,0 +1,34 @@
+package com.project.config;
+
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hands Hibernate a cache manager of its own for the second-level cache. Left alone,
+ * the provider gives every application context in the JVM the same default manager, so
+ * two contexts (the test suite, benchmarks) would share regions and read each other's
+ * rows. Region sizes and expiry come from {@code application.conf}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer() {
+        return properties -> {
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            URI uri = URI.create("addressbook:second-level-cache:" + UUID.randomUUID());
+            properties.put(ConfigSettings.CACHE_MANAGER,
+                    provider.getCacheManager(uri, provider.getDefaultClassLoader()));
+        };
+    }
+}
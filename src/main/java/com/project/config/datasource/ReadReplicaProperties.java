@@ -0,0 +1,42 @@
+package com.project.config.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read replicas behind {@code app.datasource.read-replicas}. Replicas share the primary's
+ * {@code spring.datasource.hikari.*} pool settings and fall back to its credentials.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    private List<Replica> instances = new ArrayList<>();
+
+    /** How long a client that has just written keeps reading from the primary. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.config.datasource;
+
+/**
+ * Per-request routing state. A request that arrives inside its client's read-your-writes
+ * window, or that has committed a write itself, reads from the primary for the rest of
+ * the request. Outside a request (startup jobs, benchmarks) nothing is pinned.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Starts tracking the current request. {@code onFirstWrite} runs once, after the
+     * request's first write transaction commits.
+     */
+    public static void begin(boolean pinnedToPrimary, Runnable onFirstWrite) {
+        CURRENT.set(new State(pinnedToPrimary, onFirstWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task that does part of the current request's work on another thread, so a
+     * write it commits opens the read-your-writes window as one on the request thread would.
+     * The request thread must wait for the task before it completes the response.
+     */
+    public static Runnable propagate(Runnable task) {
+        State state = CURRENT.get();
+        if (state == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(state);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    static void writeCommitted() {
+        State state = CURRENT.get();
+        if (state == null || state.written) {
+            return;
+        }
+        state.written = true;
+        state.pinned = true;
+        state.onFirstWrite.run();
+    }
+
+    private static final class State {
+
+        private final Runnable onFirstWrite;
+        private boolean pinned;
+        private boolean written;
+
+        private State(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
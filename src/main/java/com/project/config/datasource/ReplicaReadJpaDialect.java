@@ -0,0 +1,51 @@
+package com.project.config.datasource;
+
+import java.sql.SQLException;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Lets read-only transactions that may be routed to a replica read the second-level cache
+ * but not fill it. A replica that has not caught up would otherwise put back a row that a
+ * write has just changed or deleted, and the cache, shared by every request, would then
+ * serve it to the writer's own reads on the primary. Read-only transactions of a request
+ * pinned to the primary fill the cache as before.
+ *
+ * <p>The store mode is set as an entity manager property rather than through
+ * {@code Session.setCacheMode}: {@code find} takes its cache modes from the properties
+ * and would put the loaded row regardless.
+ */
+class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    private static final String STORE_MODE = AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReadYourWritesContext.isPinnedToPrimary()) {
+            return transactionData;
+        }
+        Object storeMode = entityManager.getProperties().getOrDefault(STORE_MODE, CacheStoreMode.USE);
+        entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReplicaReadData(transactionData, entityManager, storeMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadData replicaRead) {
+            // The entity manager outlives the transaction when it is bound to the request
+            replicaRead.entityManager().setProperty(STORE_MODE, replicaRead.storeMode());
+            transactionData = replicaRead.transactionData();
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaReadData(Object transactionData, EntityManager entityManager, Object storeMode) {
+    }
+}
@@ -6,19 +6,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.project.dto.addressbook.AddressBookIdResponse;
 import com.project.dto.addressbook.AddressBookRequest;
 import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.addressbook.AddressBookSummaryResponse;
 import com.project.dto.response.ApiResponse;
 import com.project.dto.response.PagedResponse;
 import com.project.services.addressbook.AddressBookService;
+import com.project.services.addressbook.AddressBookStreamService;
 
 @RestController
 @RequestMapping("/api/v1/addressbooks")
@@ -27,6 +33,7 @@ import com.project.services.addressbook.AddressBookService;
 public class AddressBookController {
 
 	private final AddressBookService addressBookService;
+	private final AddressBookStreamService addressBookStreamService;
 
 	@PostMapping
 	@Operation(summary = "Create a new address book")
@@ -54,6 +61,26 @@ public class AddressBookController {
 		PagedResponse<AddressBookResponse> pagedResponse = addressBookService.getAllAddressBooks(pageable);
 		return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Address books with Contacts retrieved successfully"));
 	}
+
+	@GetMapping(params = "fields")
+	@Operation(summary = "Get selected fields of all address books (paginated)",
+			description = "Only the selected columns are queried and contacts are not read; contactCount comes "
+					+ "from the contact counters.")
+	public ResponseEntity<ApiResponse<PagedResponse<Map<String, Object>>>> getAllAddressBookFields(
+			@Parameter(description = "Comma-separated fields to return: id, name, description, contactCount, createdAt, updatedAt") @RequestParam String fields,
+			@Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+			@Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+			@Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
+			@Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String sortDir) {
+
+		Sort sort = sortDir.equalsIgnoreCase("desc")
+				? Sort.by(sortBy).descending()
+				: Sort.by(sortBy).ascending();
+		Pageable pageable = PageRequest.of(page, size, sort);
+
+		PagedResponse<Map<String, Object>> pagedResponse = addressBookService.getAllAddressBooks(pageable, fields);
+		return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Address books retrieved successfully"));
+	}
 	
 	@GetMapping("/all")
 	@Operation(summary = "Get all address book IDs with names (lightweight response)")
@@ -72,20 +99,77 @@ public class AddressBookController {
 	    return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Address book IDs retrieved successfully"));
 	}
 
+	@GetMapping("/summary")
+	@Operation(summary = "Get all address books with contact counts but without contacts (paginated)")
+	public ResponseEntity<ApiResponse<PagedResponse<AddressBookSummaryResponse>>> getAddressBookSummaries(
+			@Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+			@Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+			@Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
+			@Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String sortDir) {
+
+		Sort sort = sortDir.equalsIgnoreCase("desc")
+				? Sort.by(sortBy).descending()
+				: Sort.by(sortBy).ascending();
+		Pageable pageable = PageRequest.of(page, size, sort);
+
+		PagedResponse<AddressBookSummaryResponse> pagedResponse = addressBookService.getAddressBookSummaries(pageable);
+		return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Address book summaries retrieved successfully"));
+	}
+
 	@GetMapping("/{id}")
-	@Operation(summary = "Get address book by ID")
+	@Operation(summary = "Get address book by ID",
+			description = "Embeds the first 100 contacts; contactsNext links to the rest. "
+					+ "Pass contacts=stream to receive every contact in a streamed response.")
 	public ResponseEntity<ApiResponse<AddressBookResponse>> getAddressBookById(@PathVariable Long id) {
 		AddressBookResponse addressBook = addressBookService.getAddressBookById(id);
 		return ResponseEntity.ok(ApiResponse.success(addressBook, "Address book retrieved successfully"));
 	}
 
+	@GetMapping(value = "/{id}", params = "contacts=stream")
+	@Operation(summary = "Get address book by ID with every contact, streamed")
+	public ResponseEntity<StreamingResponseBody> streamAddressBookById(@PathVariable Long id) {
+		return streamResponse(addressBookStreamService.streamAddressBookById(id));
+	}
+
+	@GetMapping(value = "/{id}", params = { "fields", "!contacts" })
+	@Operation(summary = "Get selected fields of an address book by ID, without contacts")
+	public ResponseEntity<ApiResponse<Map<String, Object>>> getAddressBookFieldsById(
+			@PathVariable Long id,
+			@Parameter(description = "Comma-separated fields to return: id, name, description, contactCount, createdAt, updatedAt") @RequestParam String fields) {
+		Map<String, Object> addressBook = addressBookService.getAddressBookById(id, fields);
+		return ResponseEntity.ok(ApiResponse.success(addressBook, "Address book retrieved successfully"));
+	}
+
 	@GetMapping("/name/{name}")
-	@Operation(summary = "Get address book by exact name")
+	@Operation(summary = "Get address book by exact name",
+			description = "Embeds the first 100 contacts, as the read by ID does; contacts=stream is supported too.")
 	public ResponseEntity<ApiResponse<AddressBookResponse>> getAddressBookByName(@PathVariable String name) {
 		AddressBookResponse addressBook = addressBookService.getAddressBookByName(name);
 		return ResponseEntity.ok(ApiResponse.success(addressBook, "Address book retrieved successfully"));
 	}
 
+	@GetMapping(value = "/name/{name}", params = "contacts=stream")
+	@Operation(summary = "Get address book by exact name with every contact, streamed")
+	public ResponseEntity<StreamingResponseBody> streamAddressBookByName(@PathVariable String name) {
+		return streamResponse(addressBookStreamService.streamAddressBookByName(name));
+	}
+
+	@GetMapping(value = "/name/{name}", params = { "fields", "!contacts" })
+	@Operation(summary = "Get selected fields of an address book by exact name, without contacts")
+	public ResponseEntity<ApiResponse<Map<String, Object>>> getAddressBookFieldsByName(
+			@PathVariable String name,
+			@Parameter(description = "Comma-separated fields to return: id, name, description, contactCount, createdAt, updatedAt") @RequestParam String fields) {
+		Map<String, Object> addressBook = addressBookService.getAddressBookByName(name, fields);
+		return ResponseEntity.ok(ApiResponse.success(addressBook, "Address book retrieved successfully"));
+	}
+
+	private static ResponseEntity<StreamingResponseBody> streamResponse(
+			AddressBookStreamService.AddressBookStream stream) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(stream::writeTo);
+	}
+
 	@GetMapping("/search")
 	@Operation(summary = "Search address books by partial name (case-insensitive)")
 	public ResponseEntity<ApiResponse<PagedResponse<AddressBookResponse>>> searchByName(
@@ -6,21 +6,47 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.contact.ContactBulkLoadResponse;
+import com.project.dto.contact.ContactDataFormat;
+import com.project.dto.contact.ContactExistsRequest;
+import com.project.dto.contact.ContactExistsResponse;
+import com.project.dto.contact.ContactIdsRequest;
+import com.project.dto.contact.ContactImportResponse;
 import com.project.dto.contact.ContactRequest;
 import com.project.dto.contact.ContactResponse;
+import com.project.dto.contact.ContactUpsertResponse;
 import com.project.dto.response.ApiResponse;
+import com.project.dto.response.CursorResponse;
 import com.project.dto.response.PagedResponse;
+import com.project.services.contact.ContactBulkLoadService;
+import com.project.services.contact.ContactExportService;
+import com.project.services.contact.ContactImportService;
 import com.project.services.contact.ContactService;
+import com.project.util.ContactJsonReader;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/v1/addressbooks/{addressBookId}/contacts")
@@ -29,6 +55,10 @@ import com.project.services.contact.ContactService;
 public class ContactController {
 
     private final ContactService contactService;
+    private final ContactBulkLoadService contactBulkLoadService;
+    private final ContactImportService contactImportService;
+    private final ContactExportService contactExportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Add a new contact to an address book")
@@ -41,6 +71,46 @@ public class ContactController {
                 HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk-load", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk load contacts into an address book",
+            description = "Body is a JSON array of contacts, read as a stream. Invalid rows are rejected and "
+                    + "phone numbers already in the book are skipped; the counts are returned.")
+    public ResponseEntity<ApiResponse<ContactBulkLoadResponse>> bulkLoadContacts(
+            @PathVariable Long addressBookId,
+            HttpServletRequest request) throws IOException {
+        ContactBulkLoadResponse result = contactBulkLoadService.loadContacts(addressBookId,
+                ContactJsonReader.read(objectMapper, request.getInputStream()));
+        return ResponseEntity.ok(ApiResponse.success(result, "Contacts loaded successfully"));
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Import contacts from CSV or NDJSON",
+            description = "CSV needs a header row naming name and phoneNumber; NDJSON is one contact object per "
+                    + "line. The body is read as a stream and committed in batches. Rows that cannot be parsed "
+                    + "or are invalid are reported by line and skipped.")
+    public ResponseEntity<ApiResponse<ContactImportResponse>> importContacts(
+            @PathVariable Long addressBookId,
+            HttpServletRequest request) throws IOException {
+        ContactDataFormat format = ContactDataFormat.of(MediaType.parseMediaType(request.getContentType()));
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        ContactImportResponse result = contactImportService.importContacts(addressBookId, format,
+                new InputStreamReader(request.getInputStream(), charset));
+        return ResponseEntity.ok(ApiResponse.success(result, "Contacts imported successfully"));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all contacts in an address book as NDJSON or CSV",
+            description = "Streams the contacts in id order as the query reads them; the output can be imported "
+                    + "again.")
+    public ResponseEntity<StreamingResponseBody> exportContacts(
+            @PathVariable Long addressBookId,
+            @Parameter(description = "NDJSON or CSV") @RequestParam(defaultValue = "NDJSON") ContactDataFormat format) {
+        ContactExportService.ContactExport export = contactExportService.exportAddressBook(addressBookId, format);
+        return exportResponse(export, format, "addressbook-" + addressBookId + "-contacts");
+    }
+
     @GetMapping
     @Operation(summary = "Get all contacts in an address book (paginated)")
     public ResponseEntity<ApiResponse<PagedResponse<ContactResponse>>> getAllContacts(
@@ -59,6 +129,72 @@ public class ContactController {
         return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Contacts retrieved successfully"));
     }
 
+    @GetMapping(params = "fields")
+    @Operation(summary = "Get selected fields of all contacts in an address book (paginated)",
+            description = "Only the selected columns are queried; the address book is joined only for "
+                    + "addressBookName.")
+    public ResponseEntity<ApiResponse<PagedResponse<Map<String, Object>>>> getAllContactFields(
+            @PathVariable Long addressBookId,
+            @Parameter(description = "Comma-separated fields to return: id, name, phoneNumber, addressBookId, addressBookName, createdAt") @RequestParam String fields,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        PagedResponse<Map<String, Object>> pagedResponse = contactService.getAllContactsPaged(addressBookId,
+                pageable, fields);
+        return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Contacts retrieved successfully"));
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "Get contacts in an address book (cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<ContactResponse>>> getContactsByCursor(
+            @PathVariable Long addressBookId,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<ContactResponse> cursorResponse = contactService.getContactsByCursor(
+                addressBookId, cursor, limit, toOrder(sortBy, sortDir));
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Contacts retrieved successfully"));
+    }
+
+    @GetMapping(params = { "limit", "fields" })
+    @Operation(summary = "Get selected fields of contacts in an address book (cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<Map<String, Object>>>> getContactFieldsByCursor(
+            @PathVariable Long addressBookId,
+            @Parameter(description = "Comma-separated fields to return: id, name, phoneNumber, addressBookId, addressBookName, createdAt") @RequestParam String fields,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<Map<String, Object>> cursorResponse = contactService.getContactsByCursor(
+                addressBookId, cursor, limit, toOrder(sortBy, sortDir), fields);
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Contacts retrieved successfully"));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search contacts in an address book by partial name (case-insensitive, cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<ContactResponse>>> searchContacts(
+            @PathVariable Long addressBookId,
+            @Parameter(description = "Name to search for (partial match)") @RequestParam String name,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<ContactResponse> cursorResponse = contactService.searchContactsInAddressBook(
+                addressBookId, name, cursor, limit, toOrder(sortBy, sortDir));
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Search results retrieved successfully"));
+    }
+
     @GetMapping("/{contactId}")
     @Operation(summary = "Get a specific contact by ID")
     public ResponseEntity<ApiResponse<ContactResponse>> getContactById(
@@ -68,6 +204,16 @@ public class ContactController {
         return ResponseEntity.ok(ApiResponse.success(contact, "Contact retrieved successfully"));
     }
 
+    @GetMapping(value = "/{contactId}", params = "fields")
+    @Operation(summary = "Get selected fields of a specific contact by ID")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getContactFieldsById(
+            @PathVariable Long addressBookId,
+            @PathVariable Long contactId,
+            @Parameter(description = "Comma-separated fields to return: id, name, phoneNumber, addressBookId, addressBookName, createdAt") @RequestParam String fields) {
+        Map<String, Object> contact = contactService.getContactById(addressBookId, contactId, fields);
+        return ResponseEntity.ok(ApiResponse.success(contact, "Contact retrieved successfully"));
+    }
+
     @DeleteMapping("/{contactId}")
     @Operation(summary = "Remove a contact from an address book")
     public ResponseEntity<ApiResponse<Void>> removeContact(
@@ -85,14 +231,39 @@ public class ContactController {
         return ResponseEntity.ok(ApiResponse.success(result, "All contacts deleted successfully"));
     }
 
+    @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk upsert contacts into an address book",
+            description = "Body is a JSON array of contacts, read as a stream. A phone number the book lacks is "
+                    + "inserted, a known one takes the row's name and phone number; the counts are returned.")
+    public ResponseEntity<ApiResponse<ContactUpsertResponse>> bulkUpsertContacts(
+            @PathVariable Long addressBookId,
+            HttpServletRequest request) throws IOException {
+        ContactUpsertResponse result = contactBulkLoadService.upsertContacts(addressBookId,
+                ContactJsonReader.read(objectMapper, request.getInputStream()));
+        return ResponseEntity.ok(ApiResponse.success(result, "Contacts upserted successfully"));
+    }
+
     @DeleteMapping("/bulk")
-    @Operation(summary = "Remove multiple contacts by IDs")
+    @Operation(summary = "Remove multiple contacts by IDs (query parameter or request body)")
     public ResponseEntity<ApiResponse<Map<String, Object>>> removeContacts(
             @PathVariable Long addressBookId,
-            @Parameter(description = "Comma-separated list of contact IDs") @RequestParam List<Long> ids) {
-        int deletedCount = contactService.removeContacts(addressBookId, ids);
+            @Parameter(description = "Comma-separated list of contact IDs") @RequestParam(required = false) List<Long> ids,
+            @Valid @RequestBody(required = false) ContactIdsRequest request)
+            throws MissingServletRequestParameterException {
+        if (ids == null && request == null) {
+            throw new MissingServletRequestParameterException("ids", "List<Long>");
+        }
+        List<Long> contactIds = new ArrayList<>();
+        if (ids != null) {
+            contactIds.addAll(ids);
+        }
+        if (request != null) {
+            contactIds.addAll(request.getIds());
+        }
+
+        int deletedCount = contactService.removeContacts(addressBookId, contactIds);
         Map<String, Object> result = Map.of(
-                "requestedCount", ids.size(),
+                "requestedCount", contactIds.size(),
                 "deletedCount", deletedCount);
         return ResponseEntity.ok(ApiResponse.success(result, "Contacts deleted successfully"));
     }
@@ -124,10 +295,84 @@ public class ContactController {
         return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Unique contacts retrieved successfully"));
     }
 
+    @GetMapping(value = "/unique", params = "fields")
+    @Operation(summary = "Get selected fields of unique contacts across all address books (paginated)")
+    public ResponseEntity<ApiResponse<PagedResponse<Map<String, Object>>>> getUniqueContactFields(
+            @Parameter(description = "Comma-separated fields to return: id, name, phoneNumber, addressBookId, addressBookName, createdAt") @RequestParam String fields,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        PagedResponse<Map<String, Object>> pagedResponse = contactService.getUniqueContactsPaged(pageable, fields);
+        return ResponseEntity.ok(ApiResponse.success(pagedResponse, "Unique contacts retrieved successfully"));
+    }
+
+    @GetMapping(value = "/unique", params = "limit")
+    @Operation(summary = "Get unique contacts across all address books (cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<ContactResponse>>> getUniqueContactsByCursor(
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<ContactResponse> cursorResponse = contactService.getUniqueContactsByCursor(
+                cursor, limit, toOrder(sortBy, sortDir));
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Unique contacts retrieved successfully"));
+    }
+
+    @GetMapping(value = "/unique", params = { "limit", "fields" })
+    @Operation(summary = "Get selected fields of unique contacts across all address books (cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<Map<String, Object>>>> getUniqueContactFieldsByCursor(
+            @Parameter(description = "Comma-separated fields to return: id, name, phoneNumber, addressBookId, addressBookName, createdAt") @RequestParam String fields,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<Map<String, Object>> cursorResponse = contactService.getUniqueContactsByCursor(
+                cursor, limit, toOrder(sortBy, sortDir), fields);
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Unique contacts retrieved successfully"));
+    }
+
     @GetMapping("/count")
     @Operation(summary = "Get total contact count in an address book")
     public ResponseEntity<ApiResponse<Long>> getContactCount(@PathVariable Long addressBookId) {
         long count = contactService.getContactCount(addressBookId);
         return ResponseEntity.ok(ApiResponse.success(count, "Contact count retrieved successfully"));
     }
+
+    @PostMapping("/exists")
+    @Operation(summary = "Check which phone numbers an address book already holds",
+            description = "Takes up to 100,000 phone numbers, compared by their digits, and answers with one query. "
+                    + "Numbers come back as sent; invalid ones are listed separately.")
+    public ResponseEntity<ApiResponse<ContactExistsResponse>> findExistingPhoneNumbers(
+            @PathVariable Long addressBookId,
+            @Valid @RequestBody ContactExistsRequest request) {
+        ContactExistsResponse result = contactService.findExistingPhoneNumbers(addressBookId,
+                request.getPhoneNumbers());
+        return ResponseEntity.ok(ApiResponse.success(result, "Phone numbers checked successfully"));
+    }
+
+    static ResponseEntity<StreamingResponseBody> exportResponse(ContactExportService.ContactExport export,
+            ContactDataFormat format, String fileName) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.name().toLowerCase(Locale.ROOT))
+                        .build()
+                        .toString())
+                .body(export::writeTo);
+    }
+
+    static Sort.Order toOrder(String sortBy, String sortDir) {
+        return sortDir.equalsIgnoreCase("desc")
+                ? Sort.Order.desc(sortBy)
+                : Sort.Order.asc(sortBy);
+    }
 }
@@ -0,0 +1,68 @@
+package com.project.controller.contact;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.project.dto.contact.ContactDataFormat;
+import com.project.dto.contact.ContactResponse;
+import com.project.dto.contact.PhoneLookupResponse;
+import com.project.dto.response.ApiResponse;
+import com.project.dto.response.CursorResponse;
+import com.project.services.contact.ContactExportService;
+import com.project.services.contact.ContactService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.validation.PhoneNumber;
+
+@RestController
+@RequestMapping("/api/v1/contacts")
+@RequiredArgsConstructor
+@Tag(name = "Contacts", description = "Contact management APIs")
+public class ContactSearchController {
+
+    private final ContactService contactService;
+    private final ContactExportService contactExportService;
+    private final PhoneLookupService phoneLookupService;
+
+    @GetMapping("/search")
+    @Operation(summary = "Search contacts across all address books by partial name (case-insensitive, cursor-paginated)")
+    public ResponseEntity<ApiResponse<CursorResponse<ContactResponse>>> searchContacts(
+            @Parameter(description = "Name to search for (partial match)") @RequestParam String name,
+            @Parameter(description = "Cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Sort field (id, name); ignored when a cursor is given") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc); ignored when a cursor is given") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        CursorResponse<ContactResponse> cursorResponse = contactService.searchContacts(
+                name, cursor, limit, ContactController.toOrder(sortBy, sortDir));
+        return ResponseEntity.ok(ApiResponse.success(cursorResponse, "Search results retrieved successfully"));
+    }
+
+    @GetMapping("/by-phone/{phone}")
+    @Operation(summary = "Find the address books that hold a phone number",
+            description = "Numbers compare by their digits, so any formatting of the number finds the same books. "
+                    + "Answered from an in-memory index.")
+    public ResponseEntity<ApiResponse<PhoneLookupResponse>> findAddressBooksByPhone(
+            @Parameter(description = "Phone number, in any formatting") @PathVariable @PhoneNumber String phone) {
+        PhoneLookupResponse lookup = phoneLookupService.findAddressBooks(phone);
+        return ResponseEntity.ok(ApiResponse.success(lookup, "Address books retrieved successfully"));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export every contact in every address book as NDJSON or CSV",
+            description = "Streams the contacts in id order as the query reads them; the output can be imported "
+                    + "again.")
+    public ResponseEntity<StreamingResponseBody> exportContacts(
+            @Parameter(description = "NDJSON or CSV") @RequestParam(defaultValue = "NDJSON") ContactDataFormat format) {
+        return ContactController.exportResponse(contactExportService.exportAllContacts(format), format, "contacts");
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.controller.snapshot;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.project.dto.response.ApiResponse;
+import com.project.dto.snapshot.SnapshotRestoreResponse;
+import com.project.services.snapshot.SnapshotService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Registered only with {@code app.admin.snapshot.enabled=true}: the endpoints have no
+ * authentication of their own, and a restore replaces every table.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "app.admin.snapshot", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1/admin/snapshot")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Dataset snapshot and restore")
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    @GetMapping
+    @Operation(summary = "Download a binary snapshot of every address book and contact",
+            description = "Streamed from one consistent read of the database; restore it with POST /restore.")
+    public ResponseEntity<StreamingResponseBody> writeSnapshot(
+            @Parameter(description = "Deflate the snapshot body") @RequestParam(defaultValue = "true") boolean compress) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("addressbook.snapshot")
+                        .build()
+                        .toString())
+                .body(out -> snapshotService.writeSnapshot(Channels.newChannel(out), compress));
+    }
+
+    @PostMapping(value = "/restore", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Replace every address book and contact with a snapshot's",
+            description = "All or nothing: the existing data is only replaced if the whole snapshot is read and "
+                    + "its checksum matches.")
+    public ResponseEntity<ApiResponse<SnapshotRestoreResponse>> restoreSnapshot(HttpServletRequest request)
+            throws IOException {
+        SnapshotRestoreResponse result = snapshotService.restore(Channels.newChannel(request.getInputStream()));
+        return ResponseEntity.ok(ApiResponse.success(result, "Snapshot restored successfully"));
+    }
+}
@@ -16,6 +16,11 @@ public class AddressBookResponse {
     private String description;
     private Integer contactCount;
     private List<ContactResponse> contacts;
+    /**
+     * On a single-book read that embeds only the first contacts, the link to the page of
+     * contacts after them; null when every contact is embedded.
+     */
+    private String contactsNext;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
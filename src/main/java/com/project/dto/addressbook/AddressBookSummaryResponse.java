@@ -0,0 +1,21 @@
+package com.project.dto.addressbook;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Address book without its contacts. Built directly by a JPQL constructor expression,
+ * so the field order of the all-args constructor is part of the query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddressBookSummaryResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private Long contactCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
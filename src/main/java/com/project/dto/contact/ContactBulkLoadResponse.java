@@ -0,0 +1,21 @@
+package com.project.dto.contact;
+
+import lombok.*;
+
+/**
+ * Outcome of a bulk load. {@code received = inserted + duplicates + rejected}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactBulkLoadResponse {
+    private Long addressBookId;
+    private long received;
+    private long inserted;
+    /** Phone numbers already in the book, or repeated within the load. */
+    private long duplicates;
+    /** Rows with a blank name or an invalid phone number. */
+    private long rejected;
+    private long elapsedMillis;
+}
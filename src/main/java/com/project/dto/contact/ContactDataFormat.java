@@ -0,0 +1,34 @@
+package com.project.dto.contact;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats for importing and exporting contacts.
+ */
+public enum ContactDataFormat {
+
+    /** A header row naming the columns (at least {@code name} and {@code phoneNumber}), then one contact per record. */
+    CSV("text/csv"),
+
+    /** One JSON contact object per line. */
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE);
+
+    private final String mediaType;
+
+    ContactDataFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static ContactDataFormat of(MediaType contentType) {
+        for (ContactDataFormat format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).includes(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported contact format: " + contentType);
+    }
+}
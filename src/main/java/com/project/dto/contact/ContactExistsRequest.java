@@ -0,0 +1,20 @@
+package com.project.dto.contact;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactExistsRequest {
+
+    public static final int MAX_PHONE_NUMBERS = 100_000;
+
+    @NotNull(message = "Phone numbers are required")
+    @Size(max = MAX_PHONE_NUMBERS, message = "At most " + MAX_PHONE_NUMBERS + " phone numbers can be checked at once")
+    private List<String> phoneNumbers;
+}
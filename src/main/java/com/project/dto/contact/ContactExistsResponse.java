@@ -0,0 +1,21 @@
+package com.project.dto.contact;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * Which of the requested phone numbers an address book already holds, compared by their
+ * digits. Numbers are returned as they were sent, in request order, each once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactExistsResponse {
+    private Long addressBookId;
+    private int requested;
+    private List<String> existing;
+    /** Numbers that are not valid phone numbers, so cannot be in the book. */
+    private List<String> invalid;
+}
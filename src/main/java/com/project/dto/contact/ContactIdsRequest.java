@@ -0,0 +1,16 @@
+package com.project.dto.contact;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactIdsRequest {
+
+    @NotNull(message = "Contact ids are required")
+    private List<Long> ids;
+}
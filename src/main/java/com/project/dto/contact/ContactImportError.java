@@ -0,0 +1,12 @@
+package com.project.dto.contact;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactImportError {
+    /** The line the row starts on, 1-based. */
+    private long line;
+    private String message;
+}
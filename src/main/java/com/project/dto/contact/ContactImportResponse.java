@@ -0,0 +1,25 @@
+package com.project.dto.contact;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * Outcome of an import. {@code rows = imported + duplicates + rejected}; blank lines and
+ * the CSV header are not rows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactImportResponse {
+    private Long addressBookId;
+    private long rows;
+    private long imported;
+    /** Phone numbers already in the book, or repeated within the import. */
+    private long duplicates;
+    private long rejected;
+    /** The first rejected rows and why; {@code rejected} counts them all. */
+    private List<ContactImportError> errors;
+    private long elapsedMillis;
+}
@@ -1,5 +1,7 @@
 package com.project.dto.contact;
 
+import com.project.validation.PhoneNumber;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
@@ -13,5 +15,6 @@ public class ContactRequest {
     private String name;
 
     @NotBlank(message = "Phone number is required")
+    @PhoneNumber
     private String phoneNumber;
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.project.dto.contact;
+
+import lombok.*;
+
+/**
+ * Outcome of a bulk upsert. {@code received = inserted + updated + unchanged + duplicates + rejected}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactUpsertResponse {
+    private Long addressBookId;
+    private long received;
+    private long inserted;
+    /** Contacts whose name or phone number changed. */
+    private long updated;
+    /** Contacts already in the book exactly as sent. */
+    private long unchanged;
+    /** Rows overridden by a later row with the same phone number. */
+    private long duplicates;
+    /** Rows with a blank name or an invalid phone number. */
+    private long rejected;
+    private long elapsedMillis;
+}
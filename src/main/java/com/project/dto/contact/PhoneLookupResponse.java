@@ -0,0 +1,18 @@
+package com.project.dto.contact;
+
+import lombok.*;
+
+/**
+ * The address books that hold a phone number, compared by its digits.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhoneLookupResponse {
+    private String phoneNumber;
+    /** The digits the lookup compared by. */
+    private String phoneKey;
+    /** In ascending order. */
+    private long[] addressBookIds;
+}
@@ -0,0 +1,19 @@
+package com.project.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Keyset (cursor) page. Pass {@code nextCursor} back as {@code cursor} to fetch the
+ * following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;
+    private int limit;
+    private String nextCursor;
+    private boolean hasNext;
+}
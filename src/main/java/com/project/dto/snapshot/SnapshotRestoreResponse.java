@@ -0,0 +1,16 @@
+package com.project.dto.snapshot;
+
+import lombok.*;
+
+/**
+ * Outcome of a restore: the dataset now holds exactly these address books and contacts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SnapshotRestoreResponse {
+    private long addressBooks;
+    private long contacts;
+    private long elapsedMillis;
+}
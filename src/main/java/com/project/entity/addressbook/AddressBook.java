@@ -2,6 +2,10 @@ package com.project.entity.addressbook;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -9,7 +13,7 @@ import java.util.Set;
 import com.project.entity.contact.Contact;
 
 @Entity
-@Table(name = "addressbooks", indexes = {
+@Table(name = "addressbooks", uniqueConstraints = @UniqueConstraint(name = "uk_addressbook_name", columnNames = "name"), indexes = {
         @Index(name = "idx_addressbook_name", columnList = "name"),
         @Index(name = "idx_addressbook_created_at", columnList = "created_at")
 })
@@ -18,19 +22,27 @@ import com.project.entity.contact.Contact;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AddressBook.CACHE_REGION)
 public class AddressBook {
 
+    public static final String CACHE_REGION = "addressBook";
+    public static final String CONTACTS_CACHE_REGION = "addressBookContacts";
+    public static final String ID_SEQUENCE = "addressbooks_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "addressbook_seq")
+    @SequenceGenerator(name = "addressbook_seq", sequenceName = AddressBook.ID_SEQUENCE, allocationSize = AddressBook.ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(length = 500)
     private String description;
 
     @OneToMany(mappedBy = "addressBook", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AddressBook.CONTACTS_CACHE_REGION)
     @Builder.Default
     private Set<Contact> contacts = new HashSet<>();
 
@@ -0,0 +1,72 @@
+package com.project.entity.addressbook;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One slice of an address book's contact count. Each book has a fixed number of
+ * stripes and writers add their delta to a random one, so concurrent writers to the
+ * same book rarely wait on the same row lock. The count is the sum of the stripes.
+ */
+@Entity
+@Table(name = "addressbook_contact_counters")
+@IdClass(ContactCountStripe.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactCountStripe implements Persistable<ContactCountStripe.Key> {
+
+    @Id
+    @Column(name = "address_book_id")
+    private Long addressBookId;
+
+    @Id
+    @Column(name = "stripe")
+    private Integer stripe;
+
+    @Column(name = "contact_count", nullable = false)
+    private Long contactCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "address_book_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private AddressBook addressBook;
+
+    // Stripes are only ever inserted once, so skip the merge-time SELECT Spring Data
+    // would otherwise issue for an entity with an assigned id.
+    @Transient
+    @Builder.Default
+    private boolean newStripe = true;
+
+    @Override
+    public Key getId() {
+        return new Key(addressBookId, stripe);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newStripe;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newStripe = false;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long addressBookId;
+        private Integer stripe;
+    }
+}
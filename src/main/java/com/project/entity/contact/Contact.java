@@ -1,40 +1,63 @@
 package com.project.entity.contact;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.Pattern;
 import lombok.*;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.project.entity.addressbook.AddressBook;
+import com.project.util.PhoneNumbers;
+import com.project.validation.PhoneNumber;
 
 @Entity
-@Table(name = "contacts", uniqueConstraints = @UniqueConstraint(columnNames = { "phone_number",
-        "address_book_id" }), indexes = {
-                @Index(name = "idx_contact_phone", columnList = "phone_number"),
-                @Index(name = "idx_contact_addressbook", columnList = "address_book_id"),
-                @Index(name = "idx_contact_name", columnList = "name")
+@Table(name = "contacts", uniqueConstraints = @UniqueConstraint(name = "uk_phone_key_addressbook", columnNames = {
+        "phone_key", "address_book_id" }), indexes = {
+                @Index(name = "idx_contact_name", columnList = "name"),
+                @Index(name = "idx_contact_addressbook_id", columnList = "address_book_id, id"),
+                @Index(name = "idx_contact_addressbook_name", columnList = "address_book_id, name, id")
         })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Contact.CACHE_REGION)
+@BatchSize(size = 50)
 public class Contact {
 
+    public static final String CACHE_REGION = "contact";
+    public static final String ID_SEQUENCE = "contacts_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    /** The phone number rule, checked without a regex by {@link PhoneNumbers#isValid(CharSequence)}. */
+    public static final String PHONE_NUMBER_PATTERN = "^\\+?[0-9\\s\\-()]{6,20}$";
+    public static final String PHONE_NUMBER_MESSAGE = "Phone number must be between 6 and 20 characters and can only contain digits, spaces, hyphens, parentheses, and an optional leading plus sign (+).";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_seq")
+    @SequenceGenerator(name = "contact_seq", sequenceName = Contact.ID_SEQUENCE, allocationSize = Contact.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
     @Column(name = "phone_number", nullable = false)
-    @Pattern(
-            regexp = "^\\+?[0-9\\s\\-()]{6,20}$",
-            message = "Phone number must be between 6 and 20 characters and can only contain digits, spaces, hyphens, parentheses, and an optional leading plus sign (+)."
-        )
+    @PhoneNumber
     private String phoneNumber;
 
+    /**
+     * The digits of {@link #phoneNumber}, see {@link PhoneNumbers#normalize(String)}.
+     * Uniqueness within a book, the unique-contacts index and phone lookups all use this
+     * key. Derived when the contact is created and again when an update changes the
+     * number's digits; null only for contacts stored before the key existed that the
+     * backfill could not key because their book already holds the number. Lookups by key
+     * use {@code uk_phone_key_addressbook}, whose leading column it is.
+     */
+    @Column(name = "phone_key", length = PhoneNumbers.MAX_KEY_LENGTH)
+    private String phoneKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "address_book_id", nullable = false)
     private AddressBook addressBook;
@@ -45,6 +68,7 @@ public class Contact {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        phoneKey = PhoneNumbers.normalize(phoneNumber);
     }
 
     @Override
@@ -54,12 +78,28 @@ public class Contact {
         if (!(o instanceof Contact))
             return false;
         Contact contact = (Contact) o;
-        return phoneNumber != null && phoneNumber.equals(contact.phoneNumber);
+        String key = key();
+        return key != null && key.equals(contact.key());
     }
 
+    /**
+     * Contacts are identified by their normalized phone number, so the hash must be
+     * derived from it; a constant hash puts every contact of a book in one bucket. The
+     * hash therefore changes with the number's digits: a contact must not sit in a hashed
+     * collection, such as a loaded {@link AddressBook#getContacts()}, while they change.
+     */
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        String key = key();
+        return key != null ? key.hashCode() : 0;
+    }
+
+    /**
+     * The stored {@link #phoneKey}, so set lookups do not normalize the number on every
+     * probe; derived from the number only for a contact not keyed yet.
+     */
+    private String key() {
+        return phoneKey != null ? phoneKey : PhoneNumbers.normalize(getPhoneNumber());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.project.entity.contact;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import com.project.util.PhoneNumbers;
+
+/**
+ * One row per distinct phone number across all address books, keyed by the contacts'
+ * {@code phone_key}. The representative is the lowest contact id holding the number, which is the contact reported by the unique
+ * contacts listing; the reference count is how many contacts hold it.
+ */
+@Entity
+@Table(name = "unique_phone_numbers", indexes = {
+        @Index(name = "idx_unique_phone_representative", columnList = "representative_contact_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UniquePhoneNumber {
+
+    @Id
+    @Column(name = "phone_key", length = PhoneNumbers.MAX_KEY_LENGTH)
+    private String phoneKey;
+
+    /**
+     * Null only transiently, between removing the representative and reassigning it.
+     */
+    @Column(name = "representative_contact_id")
+    private Long representativeContactId;
+
+    @Column(name = "reference_count", nullable = false)
+    private Long referenceCount;
+}
@@ -7,9 +7,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.project.dto.response.ApiResponse;
 
@@ -54,6 +57,74 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.CONFLICT);
 	}
 
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<ApiResponse<Void>> handleInvalidCursorException(
+			InvalidCursorException ex, WebRequest request) {
+		log.error("Invalid cursor: {}", ex.getMessage());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(ex.getMessage(), path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidFieldSelectionException.class)
+	public ResponseEntity<ApiResponse<Void>> handleInvalidFieldSelectionException(
+			InvalidFieldSelectionException ex, WebRequest request) {
+		log.error("Invalid field selection: {}", ex.getMessage());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(ex.getMessage(), path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(MalformedContactDataException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMalformedContactDataException(
+			MalformedContactDataException ex, WebRequest request) {
+		log.error("Malformed contact data: {}", ex.getMessage());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(ex.getMessage(), path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(MalformedSnapshotException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMalformedSnapshotException(
+			MalformedSnapshotException ex, WebRequest request) {
+		log.error("Malformed snapshot: {}", ex.getMessage());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(ex.getMessage(), path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(MissingServletRequestParameterException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMissingServletRequestParameterException(
+			MissingServletRequestParameterException ex, WebRequest request) {
+		log.error("Missing parameter: {}", ex.getParameterName());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(
+				"Required parameter '" + ex.getParameterName() + "' is missing", path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMethodArgumentTypeMismatchException(
+			MethodArgumentTypeMismatchException ex, WebRequest request) {
+		log.error("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.error(
+				"Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'", path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiResponse<Void>> handleValidationExceptions(
 			MethodArgumentNotValidException ex,
@@ -84,6 +155,29 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(HandlerMethodValidationException.class)
+	public ResponseEntity<ApiResponse<Void>> handleMethodValidationException(
+			HandlerMethodValidationException ex,
+			WebRequest request) {
+
+		log.error("Parameter validation failed: {}", ex.getMessage());
+
+		Map<String, String> parameterErrors = new HashMap<>();
+		ex.getParameterValidationResults().forEach(result -> {
+			String parameterName = result.getMethodParameter().getParameterName();
+			result.getResolvableErrors().forEach(error -> parameterErrors.merge(parameterName,
+					error.getDefaultMessage(), (first, second) -> first + "; " + second));
+		});
+
+		String path = request.getDescription(false).replace("uri=", "");
+		ApiResponse<Void> response = ApiResponse.validationError(
+				"Validation failed for one or more parameters",
+				parameterErrors,
+				path);
+
+		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+	}
+
 	@ExceptionHandler(ConstraintViolationException.class)
 	public ResponseEntity<ApiResponse<Void>> handleConstraintViolationException(
 			ConstraintViolationException ex,
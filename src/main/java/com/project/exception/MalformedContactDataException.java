@@ -0,0 +1,7 @@
+package com.project.exception;
+
+public class MalformedContactDataException extends RuntimeException {
+	public MalformedContactDataException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
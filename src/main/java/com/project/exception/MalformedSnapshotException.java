@@ -0,0 +1,7 @@
+package com.project.exception;
+
+public class MalformedSnapshotException extends RuntimeException {
+	public MalformedSnapshotException(String message) {
+		super(message);
+	}
+}
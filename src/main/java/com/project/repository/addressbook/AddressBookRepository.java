@@ -1,5 +1,7 @@
 package com.project.repository.addressbook;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -9,15 +11,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.project.dto.addressbook.AddressBookSummaryResponse;
 import com.project.entity.addressbook.AddressBook;
 
 @Repository
-public interface AddressBookRepository extends JpaRepository<AddressBook, Long> {
+public interface AddressBookRepository extends JpaRepository<AddressBook, Long>, AddressBookRepositoryCustom {
 
 	Optional<AddressBook> findByName(String name);
 
-	boolean existsByName(String name);
-
 	Page<AddressBook> findAll(Pageable pageable);
 
 	Page<AddressBook> findByNameContainingIgnoreCase(String name, Pageable pageable);
@@ -25,18 +26,35 @@ public interface AddressBookRepository extends JpaRepository<AddressBook, Long>
 	@Query("SELECT COUNT(a) FROM AddressBook a")
 	long countAllAddressBooks();
 	
-    @Query("SELECT DISTINCT ab FROM AddressBook ab LEFT JOIN FETCH ab.contacts ORDER BY ab.id")
-    Page<AddressBook> findAllWithContacts(Pageable pageable);
-
-    @Query("SELECT ab FROM AddressBook ab LEFT JOIN FETCH ab.contacts WHERE ab.id = :id")
-    Optional<AddressBook> findByIdWithContacts(@Param("id") Long id);
-
-    @Query("SELECT ab FROM AddressBook ab LEFT JOIN FETCH ab.contacts WHERE ab.name = :name")
-    Optional<AddressBook> findByNameWithContacts(@Param("name") String name);
-
-    @Query("SELECT DISTINCT ab FROM AddressBook ab LEFT JOIN FETCH ab.contacts " +
-           "WHERE LOWER(ab.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY ab.id")
-    Page<AddressBook> findByNameContainingIgnoreCaseWithContacts(@Param("name") String name, Pageable pageable);
+    /**
+     * First phase of paged listings: a real LIMIT/OFFSET over ids only.
+     * Contacts for the page are then loaded with {@link #findAllWithContactsByIdIn}.
+     */
+    @Query("SELECT ab.id FROM AddressBook ab")
+    Page<Long> findAllIds(Pageable pageable);
+
+    /**
+     * Ids of books whose lower-cased name matches a pattern from
+     * {@link com.project.util.SearchPatterns#containsIgnoreCase}. On PostgreSQL the
+     * {@code lower(name)} trigram index serves this; elsewhere it is a scan.
+     */
+    @Query("SELECT ab.id FROM AddressBook ab WHERE LOWER(ab.name) LIKE :pattern ESCAPE '\\'")
+    Page<Long> findIdsByNameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT DISTINCT ab FROM AddressBook ab LEFT JOIN FETCH ab.contacts WHERE ab.id IN :ids")
+    List<AddressBook> findAllWithContactsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Paged summaries with the contact count read from the book's counter stripes, so
+     * neither the contacts collection nor the contact rows are touched.
+     */
+    @Query(value = "SELECT new com.project.dto.addressbook.AddressBookSummaryResponse("
+            + "ab.id, ab.name, ab.description, "
+            + "(SELECT COALESCE(SUM(s.contactCount), 0) FROM ContactCountStripe s WHERE s.addressBookId = ab.id), "
+            + "ab.createdAt, ab.updatedAt) "
+            + "FROM AddressBook ab",
+            countQuery = "SELECT COUNT(ab) FROM AddressBook ab")
+    Page<AddressBookSummaryResponse> findAllSummaries(Pageable pageable);
 
 	
 }
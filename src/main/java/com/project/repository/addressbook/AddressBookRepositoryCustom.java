@@ -0,0 +1,27 @@
+package com.project.repository.addressbook;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.entity.addressbook.AddressBook;
+import com.project.util.FieldSelection;
+
+/**
+ * Address book reads built with the criteria API rather than a declared query.
+ */
+public interface AddressBookRepositoryCustom {
+
+    /** The fields of an address book that {@code fields=} can select, in response order. */
+    List<String> FIELDS = List.of("id", "name", "description", "contactCount", "createdAt", "updatedAt");
+
+    /**
+     * Selects only the given fields of the matching books, one page of them in the
+     * pageable's sort, as one map per book. Contacts are never read: the contact count is
+     * summed from the book's counter stripes, and only when it is selected.
+     */
+    List<Map<String, Object>> findFieldsBy(Specification<AddressBook> specification, FieldSelection fields,
+            Pageable pageable);
+}
@@ -0,0 +1,75 @@
+package com.project.repository.addressbook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.project.entity.addressbook.AddressBook;
+import com.project.entity.addressbook.ContactCountStripe;
+import com.project.util.FieldSelection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+public class AddressBookRepositoryCustomImpl implements AddressBookRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsBy(Specification<AddressBook> specification, FieldSelection fields,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<AddressBook> root = query.from(AddressBook.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields.getFields()) {
+            Expression<?> expression = "contactCount".equals(field)
+                    ? contactCount(root, query, cb)
+                    : root.get(field);
+            selections.add(expression.alias(field));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList().stream()
+                .map(fields::toMap)
+                .toList();
+    }
+
+    /**
+     * The sum of the book's counter stripes, as {@link AddressBookRepository#findAllSummaries}
+     * reads it.
+     */
+    private static Expression<Long> contactCount(Root<AddressBook> root, CriteriaQuery<?> query,
+            CriteriaBuilder cb) {
+        Subquery<Long> count = query.subquery(Long.class);
+        Root<ContactCountStripe> stripe = count.from(ContactCountStripe.class);
+        count.select(cb.coalesce(cb.sum(stripe.<Long>get("contactCount")), 0L))
+                .where(cb.equal(stripe.get("addressBookId"), root.get("id")));
+        return count;
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.repository.addressbook;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.entity.addressbook.ContactCountStripe;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ContactCountStripeRepository extends JpaRepository<ContactCountStripe, ContactCountStripe.Key> {
+
+    @Query("SELECT COALESCE(SUM(s.contactCount), 0) FROM ContactCountStripe s WHERE s.addressBookId = :addressBookId")
+    long sumByAddressBookId(@Param("addressBookId") Long addressBookId);
+
+    /**
+     * Adds {@code delta} to one stripe in place; the row lock is held only on that stripe.
+     */
+    @Modifying
+    @Query("UPDATE ContactCountStripe s SET s.contactCount = s.contactCount + :delta " +
+            "WHERE s.addressBookId = :addressBookId AND s.stripe = :stripe")
+    int addToStripe(@Param("addressBookId") Long addressBookId, @Param("stripe") int stripe,
+            @Param("delta") long delta);
+
+    /**
+     * Backfill for books that predate the counters: stripe 0 takes the current count.
+     * The query space keeps this native insert from emptying the second-level cache.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "addressbook_contact_counters"))
+    @Query(value = "INSERT INTO addressbook_contact_counters (address_book_id, stripe, contact_count) " +
+            "SELECT ab.id, 0, (SELECT COUNT(*) FROM contacts c WHERE c.address_book_id = ab.id) " +
+            "FROM addressbooks ab WHERE NOT EXISTS (SELECT 1 FROM addressbook_contact_counters s " +
+            "WHERE s.address_book_id = ab.id AND s.stripe = 0)", nativeQuery = true)
+    int insertMissingBaseStripes();
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "addressbook_contact_counters"))
+    @Query(value = "INSERT INTO addressbook_contact_counters (address_book_id, stripe, contact_count) " +
+            "SELECT ab.id, :stripe, 0 FROM addressbooks ab WHERE NOT EXISTS " +
+            "(SELECT 1 FROM addressbook_contact_counters s WHERE s.address_book_id = ab.id AND s.stripe = :stripe)",
+            nativeQuery = true)
+    int insertMissingStripes(@Param("stripe") int stripe);
+}
@@ -0,0 +1,327 @@
+package com.project.repository.contact;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.project.dto.contact.ContactRequest;
+import com.project.entity.contact.Contact;
+import com.project.util.DatabasePlatform;
+import com.project.util.PgCopy;
+import com.project.util.PhoneNumbers;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads contacts in bulk through a per-transaction staging table, bypassing Hibernate.
+ * Rows are staged with {@code COPY ... FROM STDIN} on PostgreSQL and with batched
+ * multi-row INSERTs elsewhere, then merged into {@code contacts} in one statement: a
+ * load keeps the first row per phone key and skips keys the book already has, an upsert
+ * keeps the last row per key and overwrites the book's contact. The key is computed
+ * here, with {@link PhoneNumbers#normalize(String)}, as rows are staged.
+ *
+ * <p>Ids are taken from {@code contacts_id_seq} in whole blocks, the same way Hibernate's
+ * pooled-lo optimizer takes them, so loaded and regular contacts never collide.
+ * All methods must run inside the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContactBulkLoadRepository {
+
+    public static final String STAGING_TABLE = "contact_load";
+
+    private static final int MIN_ID_BLOCKS_PER_FETCH = 4;
+    private static final int MAX_ID_BLOCKS_PER_FETCH = 1_000;
+    private static final int ROWS_PER_INSERT = 100;
+    private static final int INSERTS_PER_BATCH = 10;
+    private static final int MAX_MERGE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public void createStagingTable() {
+        String columns = "id BIGINT NOT NULL, name VARCHAR(255) NOT NULL, phone_number VARCHAR(50) NOT NULL, "
+                + "phone_key VARCHAR(" + PhoneNumbers.MAX_KEY_LENGTH + ") NOT NULL";
+        if (databasePlatform.isPostgreSql()) {
+            // No keys: COPY into a bare table is fastest, the merge sorts once instead
+            jdbcTemplate.execute("CREATE TEMPORARY TABLE " + STAGING_TABLE + " (" + columns + ") ON COMMIT DROP");
+        } else {
+            // H2 has no DISTINCT ON, the merge finds each phone key's first row through this key.
+            // TRANSACTIONAL keeps H2 from committing the caller's transaction on DDL
+            jdbcTemplate.execute("CREATE LOCAL TEMPORARY TABLE " + STAGING_TABLE + " (" + columns
+                    + ", UNIQUE (phone_key, id)) ON COMMIT DROP TRANSACTIONAL");
+        }
+    }
+
+    /**
+     * Streams contacts into the staging table and returns how many were staged.
+     */
+    public long stage(Iterator<ContactRequest> contacts) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            IdBlocks ids = new IdBlocks(connection);
+            return databasePlatform.isPostgreSql()
+                    ? copy(connection, contacts, ids)
+                    : insert(connection, contacts, ids);
+        });
+    }
+
+    /**
+     * Moves the staged contacts into the book and returns how many were inserted.
+     */
+    public int mergeInto(Long addressBookId) {
+        if (databasePlatform.isPostgreSql()) {
+            jdbcTemplate.execute("ANALYZE " + STAGING_TABLE);
+            return jdbcTemplate.update("INSERT INTO contacts (id, name, phone_number, phone_key, address_book_id, "
+                    + "created_at) SELECT DISTINCT ON (phone_key) id, name, phone_number, phone_key, ?, LOCALTIMESTAMP "
+                    + "FROM " + STAGING_TABLE + " ORDER BY phone_key, id "
+                    + "ON CONFLICT (phone_key, address_book_id) DO NOTHING", addressBookId);
+        }
+        // H2's MERGE still checks then inserts: a concurrent load into the book that commits the
+        // same key in between fails it on the unique key. The failed statement alone is undone,
+        // so it is run again and now skips the keys the other load committed.
+        String firstRows = "SELECT s.id, s.name, s.phone_number, s.phone_key FROM " + STAGING_TABLE + " s "
+                + "WHERE s.id = (SELECT MIN(d.id) FROM " + STAGING_TABLE + " d WHERE d.phone_key = s.phone_key)";
+        for (int attempt = 1;; attempt++) {
+            try {
+                return jdbcTemplate.update("MERGE INTO contacts c USING (" + firstRows + ") s "
+                        + "ON c.phone_key = s.phone_key AND c.address_book_id = ? "
+                        + "WHEN NOT MATCHED THEN INSERT (id, name, phone_number, phone_key, address_book_id, created_at) "
+                        + "VALUES (s.id, s.name, s.phone_number, s.phone_key, ?, LOCALTIMESTAMP)",
+                        addressBookId, addressBookId);
+            } catch (DuplicateKeyException ex) {
+                if (attempt == MAX_MERGE_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Upserts the staged contacts into the book. A phone key the book lacks is inserted;
+     * one it holds takes the staged name and phone number, and is left alone if both
+     * already match. Of the rows staged for one key, the last one wins.
+     */
+    public Upsert upsertInto(Long addressBookId) {
+        if (databasePlatform.isPostgreSql()) {
+            jdbcTemplate.execute("ANALYZE " + STAGING_TABLE);
+            // xmax is 0 only in a row version the statement inserted, not one it updated
+            List<Long> updatedIds = new ArrayList<>();
+            int[] inserted = new int[1];
+            jdbcTemplate.query("INSERT INTO contacts AS c (id, name, phone_number, phone_key, address_book_id, "
+                    + "created_at) SELECT DISTINCT ON (phone_key) id, name, phone_number, phone_key, ?, LOCALTIMESTAMP "
+                    + "FROM " + STAGING_TABLE + " ORDER BY phone_key, id DESC "
+                    + "ON CONFLICT (phone_key, address_book_id) DO UPDATE "
+                    + "SET name = EXCLUDED.name, phone_number = EXCLUDED.phone_number "
+                    + "WHERE c.name <> EXCLUDED.name OR c.phone_number <> EXCLUDED.phone_number "
+                    + "RETURNING c.id, c.xmax = 0",
+                    (RowCallbackHandler) resultSet -> {
+                        if (resultSet.getBoolean(2)) {
+                            inserted[0]++;
+                        } else {
+                            updatedIds.add(resultSet.getLong(1));
+                        }
+                    }, addressBookId);
+            return new Upsert(inserted[0], updatedIds);
+        }
+        // H2's MERGE reports only the rows it touched, so the ones it will update are found first
+        String lastRows = "SELECT s.id, s.name, s.phone_number, s.phone_key FROM " + STAGING_TABLE + " s "
+                + "WHERE s.id = (SELECT MAX(d.id) FROM " + STAGING_TABLE + " d WHERE d.phone_key = s.phone_key)";
+        List<Long> updatedIds = jdbcTemplate.queryForList("SELECT c.id FROM contacts c JOIN (" + lastRows + ") s "
+                + "ON c.phone_key = s.phone_key WHERE c.address_book_id = ? "
+                + "AND (c.name <> s.name OR c.phone_number <> s.phone_number)", Long.class, addressBookId);
+        int merged = jdbcTemplate.update("MERGE INTO contacts c USING (" + lastRows + ") s "
+                + "ON c.phone_key = s.phone_key AND c.address_book_id = ? "
+                + "WHEN MATCHED AND (c.name <> s.name OR c.phone_number <> s.phone_number) "
+                + "THEN UPDATE SET name = s.name, phone_number = s.phone_number "
+                + "WHEN NOT MATCHED THEN INSERT (id, name, phone_number, phone_key, address_book_id, created_at) "
+                + "VALUES (s.id, s.name, s.phone_number, s.phone_key, ?, LOCALTIMESTAMP)",
+                addressBookId, addressBookId);
+        return new Upsert(merged - updatedIds.size(), updatedIds);
+    }
+
+    /**
+     * Returns how many distinct phone keys this transaction has staged.
+     */
+    public long countStagedPhoneKeys() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT phone_key) FROM " + STAGING_TABLE, Long.class);
+    }
+
+    /**
+     * Passes each distinct phone key staged by this transaction to the action. After the
+     * merge the book holds every one of them, inserted or already there.
+     */
+    public void forEachStagedPhoneKey(Consumer<String> action) {
+        jdbcTemplate.query("SELECT DISTINCT phone_key FROM " + STAGING_TABLE,
+                (RowCallbackHandler) resultSet -> action.accept(resultSet.getString(1)));
+    }
+
+    private static long copy(Connection connection, Iterator<ContactRequest> contacts, IdBlocks ids)
+            throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        StringBuilder buffer = new StringBuilder(PgCopy.BUFFER_CHARS + 512);
+        CopyIn copyIn = null;
+        long rows = 0;
+        try {
+            while (contacts.hasNext()) {
+                ContactRequest contact = contacts.next();
+                if (!ids.hasNext()) {
+                    // No other statement may run on the connection while a COPY is open
+                    if (copyIn != null) {
+                        PgCopy.write(copyIn, buffer);
+                        copyIn.endCopy();
+                        copyIn = null;
+                    }
+                    ids.fetchBlocks();
+                }
+                if (copyIn == null) {
+                    copyIn = copyManager.copyIn("COPY " + STAGING_TABLE + " (id, name, phone_number, phone_key) FROM STDIN");
+                }
+                buffer.append(ids.next()).append('\t');
+                PgCopy.appendText(buffer, contact.getName());
+                buffer.append('\t');
+                PgCopy.appendText(buffer, contact.getPhoneNumber());
+                buffer.append('\t');
+                PgCopy.appendText(buffer, PhoneNumbers.normalize(contact.getPhoneNumber()));
+                buffer.append('\n');
+                rows++;
+                if (buffer.length() >= PgCopy.BUFFER_CHARS) {
+                    PgCopy.write(copyIn, buffer);
+                }
+            }
+            if (copyIn != null) {
+                PgCopy.write(copyIn, buffer);
+                copyIn.endCopy();
+            }
+            return rows;
+        } finally {
+            if (copyIn != null && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static long insert(Connection connection, Iterator<ContactRequest> contacts, IdBlocks ids)
+            throws SQLException {
+        long rows = 0;
+        try (PreparedStatement full = connection.prepareStatement(insertSql(ROWS_PER_INSERT))) {
+            ContactRequest[] pending = new ContactRequest[ROWS_PER_INSERT];
+            int count = 0;
+            int batched = 0;
+            while (contacts.hasNext()) {
+                pending[count++] = contacts.next();
+                if (count == ROWS_PER_INSERT) {
+                    bind(full, pending, count, ids);
+                    full.addBatch();
+                    rows += count;
+                    count = 0;
+                    if (++batched == INSERTS_PER_BATCH) {
+                        full.executeBatch();
+                        batched = 0;
+                    }
+                }
+            }
+            if (batched > 0) {
+                full.executeBatch();
+            }
+            if (count > 0) {
+                try (PreparedStatement rest = connection.prepareStatement(insertSql(count))) {
+                    bind(rest, pending, count, ids);
+                    rest.executeUpdate();
+                }
+                rows += count;
+            }
+        }
+        return rows;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO " + STAGING_TABLE + " (id, name, phone_number, phone_key) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement statement, ContactRequest[] contacts, int count, IdBlocks ids)
+            throws SQLException {
+        int parameter = 1;
+        for (int i = 0; i < count; i++) {
+            statement.setLong(parameter++, ids.next());
+            statement.setString(parameter++, contacts[i].getName());
+            statement.setString(parameter++, contacts[i].getPhoneNumber());
+            statement.setString(parameter++, PhoneNumbers.normalize(contacts[i].getPhoneNumber()));
+        }
+    }
+
+    /**
+     * Outcome of {@link #upsertInto(Long)}: how many contacts were inserted, and the ids of
+     * those updated.
+     */
+    public record Upsert(int inserted, List<Long> updatedIds) {
+    }
+
+    /**
+     * Hands out ids from sequence blocks. Each sequence value is the first id of a block
+     * of {@link Contact#ID_ALLOCATION_SIZE}. The number of blocks per round trip doubles
+     * with every fetch, so a small load wastes few ids and a large one few round trips.
+     */
+    private final class IdBlocks {
+
+        private final Connection connection;
+        private final Deque<Long> blocks = new ArrayDeque<>();
+        private int blocksPerFetch = MIN_ID_BLOCKS_PER_FETCH;
+        private long next;
+        private int remaining;
+
+        private IdBlocks(Connection connection) {
+            this.connection = connection;
+        }
+
+        boolean hasNext() {
+            return remaining > 0 || !blocks.isEmpty();
+        }
+
+        long next() throws SQLException {
+            if (remaining == 0) {
+                if (blocks.isEmpty()) {
+                    fetchBlocks();
+                }
+                next = blocks.poll();
+                remaining = Contact.ID_ALLOCATION_SIZE;
+            }
+            remaining--;
+            return next++;
+        }
+
+        void fetchBlocks() throws SQLException {
+            String sql = databasePlatform.isPostgreSql()
+                    ? "SELECT nextval('" + Contact.ID_SEQUENCE + "') FROM generate_series(1, ?)"
+                    : "SELECT NEXT VALUE FOR " + Contact.ID_SEQUENCE + " FROM SYSTEM_RANGE(1, ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, blocksPerFetch);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        blocks.add(resultSet.getLong(1));
+                    }
+                }
+            }
+            blocksPerFetch = Math.min(blocksPerFetch * 2, MAX_ID_BLOCKS_PER_FETCH);
+        }
+    }
+}
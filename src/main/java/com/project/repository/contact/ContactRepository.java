@@ -1,47 +1,127 @@
 package com.project.repository.contact;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.project.dto.contact.ContactResponse;
 import com.project.entity.contact.Contact;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface ContactRepository extends JpaRepository<Contact, Long> {
-
-        List<Contact> findByAddressBookId(Long addressBookId);
+public interface ContactRepository
+        extends JpaRepository<Contact, Long>, JpaSpecificationExecutor<Contact>, ContactRepositoryCustom {
 
-        Page<Contact> findByAddressBookId(Long addressBookId, Pageable pageable);
+        int STREAM_FETCH_SIZE = 1_000;
 
-        Optional<Contact> findByIdAndAddressBookId(Long id, Long addressBookId);
+        List<Contact> findByAddressBookId(Long addressBookId);
 
-        boolean existsByPhoneNumberAndAddressBookId(String phoneNumber, Long addressBookId);
+        Window<Contact> findByAddressBookId(Long addressBookId, ScrollPosition position, Sort sort, Limit limit);
 
         long countByAddressBookId(Long addressBookId);
 
+        /**
+         * A page of a book's contacts as responses, read with the book's id and name in one
+         * joined query, so mapping them loads neither contacts nor book proxies. The total is
+         * left to the caller, which has it from the book's counters.
+         */
+        @Query("SELECT new com.project.dto.contact.ContactResponse("
+                        + "c.id, c.name, c.phoneNumber, ab.id, ab.name, c.createdAt) "
+                        + "FROM Contact c JOIN c.addressBook ab WHERE ab.id = :addressBookId")
+        List<ContactResponse> findResponsesByAddressBookId(@Param("addressBookId") Long addressBookId,
+                        Pageable pageable);
+
+        @Query("SELECT DISTINCT c.addressBook.id FROM Contact c WHERE c.phoneKey = :phoneKey "
+                        + "ORDER BY c.addressBook.id")
+        List<Long> findAddressBookIdsByPhoneKey(@Param("phoneKey") String phoneKey);
+
+        /**
+         * The phone keys of the given contacts of a book; ids belonging to other books are
+         * ignored.
+         */
+        @Query("SELECT c.phoneKey FROM Contact c WHERE c.addressBook.id = :addressBookId AND c.id IN :ids "
+                        + "AND c.phoneKey IS NOT NULL")
+        List<String> findPhoneKeysByIdInAndAddressBookId(@Param("ids") Collection<Long> ids,
+                        @Param("addressBookId") Long addressBookId);
+
         @Query("SELECT DISTINCT c FROM Contact c")
         List<Contact> findAllUniqueContacts();
 
-        @Query("SELECT c FROM Contact c WHERE c.id IN " +
-                        "(SELECT MIN(c2.id) FROM Contact c2 GROUP BY c2.phoneNumber)")
-        Page<Contact> findUniqueContacts(Pageable pageable);
-
-        @Query("SELECT COUNT(DISTINCT c.phoneNumber) FROM Contact c")
+        /**
+         * The representative contact of each phone number, read through the maintained
+         * unique_phone_numbers index instead of grouping the whole contacts table. Each comes
+         * with its book's id and name from the same query, so a page drawn from many books
+         * costs no select per book.
+         */
+        @Query(value = "SELECT new com.project.dto.contact.ContactResponse("
+                        + "c.id, c.name, c.phoneNumber, ab.id, ab.name, c.createdAt) "
+                        + "FROM Contact c JOIN c.addressBook ab "
+                        + "JOIN UniquePhoneNumber u ON u.representativeContactId = c.id",
+                        countQuery = "SELECT COUNT(u) FROM UniquePhoneNumber u")
+        Page<ContactResponse> findUniqueContactResponses(Pageable pageable);
+
+        @Query("SELECT COUNT(u) FROM UniquePhoneNumber u")
         long countDistinctPhoneNumbers();
 
-        Page<Contact> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
-        Page<Contact> findByAddressBookIdAndNameContainingIgnoreCase(
-                        Long addressBookId, String name, Pageable pageable);
-
-        void deleteByAddressBookId(Long addressBookId);
-
-        void deleteByIdInAndAddressBookId(List<Long> ids, Long addressBookId);
-
-        List<Contact> findByIdInAndAddressBookId(List<Long> ids, Long addressBookId);
+        /**
+         * Streams a book's contacts in id order through a forward-only cursor that fetches
+         * {@value #STREAM_FETCH_SIZE} rows at a time. Must be consumed and closed inside a
+         * read-only transaction, detaching each contact so the persistence context stays
+         * empty, and with the session's cache mode set to IGNORE so a full read does not
+         * flood the second-level cache (Hibernate ignores a query-level cache mode here).
+         */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT c FROM Contact c WHERE c.addressBook.id = :addressBookId ORDER BY c.id")
+        Stream<Contact> streamByAddressBookId(@Param("addressBookId") Long addressBookId);
+
+        /**
+         * Streams every contact in id order; see {@link #streamByAddressBookId(Long)}.
+         */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT c FROM Contact c ORDER BY c.id")
+        Stream<Contact> streamAll();
+
+        /**
+         * Deletes up to {@code chunkSize} contacts of a book in one statement and returns
+         * how many were removed. Bypasses the persistence context; the query space limits
+         * second-level cache eviction to contacts and the book contact collections.
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "contacts"))
+        @Query(value = "DELETE FROM contacts WHERE id IN " +
+                        "(SELECT id FROM contacts WHERE address_book_id = :addressBookId LIMIT :chunkSize)",
+                        nativeQuery = true)
+        int deleteChunkByAddressBookId(@Param("addressBookId") Long addressBookId,
+                        @Param("chunkSize") int chunkSize);
+
+        /**
+         * Deletes the given contacts of a book in one statement and returns how many were
+         * removed; ids belonging to other books are ignored. Bypasses the persistence context.
+         */
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("DELETE FROM Contact c WHERE c.addressBook.id = :addressBookId AND c.id IN :ids")
+        int deleteByIdInAndAddressBookId(@Param("ids") Collection<Long> ids,
+                        @Param("addressBookId") Long addressBookId);
 }
@@ -0,0 +1,46 @@
+package com.project.repository.contact;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.entity.contact.Contact;
+import com.project.util.FieldSelection;
+
+/**
+ * Contact reads that go through the Hibernate session or the criteria API rather than a
+ * single derived or declared query.
+ */
+public interface ContactRepositoryCustom {
+
+    /** The fields of a contact that {@code fields=} can select, in response order. */
+    List<String> FIELDS = List.of("id", "name", "phoneNumber", "addressBookId", "addressBookName", "createdAt");
+
+    /**
+     * Returns up to {@code limit} contacts of the book in id order. Only the ids are
+     * queried; the contacts are then loaded by id, so the second-level cache can answer
+     * for them and a cold cache costs one more batched query.
+     */
+    List<Contact> findFirstByAddressBookId(Long addressBookId, int limit);
+
+    /**
+     * Selects only the given fields of the matching contacts, one page of them in the
+     * pageable's sort, as one map per contact. The address book is joined only when its
+     * name is selected; {@code addressBookId} is read from the contact's own foreign key.
+     */
+    List<Map<String, Object>> findFieldsBy(Specification<Contact> specification, FieldSelection fields,
+            Pageable pageable);
+
+    /**
+     * Keyset window of the given fields of the matching contacts, seeking past
+     * {@code position} in {@code sort}. The sort keys are selected too, to position each
+     * row, but are only returned when they are among the fields.
+     */
+    Window<Map<String, Object>> scrollFieldsBy(Specification<Contact> specification, FieldSelection fields,
+            Sort sort, KeysetScrollPosition position, int limit);
+}
@@ -0,0 +1,156 @@
+package com.project.repository.contact;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.project.entity.contact.Contact;
+import com.project.util.FieldSelection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class ContactRepositoryCustomImpl implements ContactRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Contact> findFirstByAddressBookId(Long addressBookId, int limit) {
+        List<Long> ids = entityManager.createQuery(
+                "SELECT c.id FROM Contact c WHERE c.addressBook.id = :addressBookId ORDER BY c.id", Long.class)
+                .setParameter("addressBookId", addressBookId)
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // In id order; a contact deleted since the id query comes back null. Multi-loads
+        // only consult the second-level cache when given a cache mode
+        Session session = entityManager.unwrap(Session.class);
+        return session.byMultipleIds(Contact.class)
+                .with(session.getCacheMode())
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsBy(Specification<Contact> specification, FieldSelection fields,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Contact> root = query.from(Contact.class);
+        query.multiselect(select(fields.getFields(), root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList().stream()
+                .map(fields::toMap)
+                .toList();
+    }
+
+    @Override
+    public Window<Map<String, Object>> scrollFieldsBy(Specification<Contact> specification, FieldSelection fields,
+            Sort sort, KeysetScrollPosition position, int limit) {
+        Set<String> selected = new LinkedHashSet<>(fields.getFields());
+        sort.forEach(order -> selected.add(order.getProperty()));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Contact> root = query.from(Contact.class);
+        query.multiselect(select(selected, root));
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (!position.isInitial()) {
+            predicates.add(seek(sort, position.getKeys(), root, cb));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // One row more than the window tells whether there is a next one
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> window = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(window.stream().map(fields::toMap).toList(),
+                index -> ScrollPosition.forward(keysOf(window.get(index), sort)), hasNext);
+    }
+
+    /**
+     * Each field as its column, aliased by the field name. Only the book's name needs a
+     * join; its id is the contact's foreign key.
+     */
+    private static List<Selection<?>> select(Collection<String> fields, Root<Contact> root) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            Expression<?> expression = switch (field) {
+                case "addressBookId" -> root.get("addressBook").get("id");
+                case "addressBookName" -> root.join("addressBook").get("name");
+                default -> root.get(field);
+            };
+            selections.add(expression.alias(field));
+        }
+        return selections;
+    }
+
+    /**
+     * Rows after the keys in the sort: past the first key, or level on it and past the
+     * second, and so on.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Predicate seek(Sort sort, Map<String, Object> keys, Root<Contact> root, CriteriaBuilder cb) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> level = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression<Comparable> path = root.get(order.getProperty());
+            Comparable key = (Comparable) keys.get(order.getProperty());
+            List<Predicate> alternative = new ArrayList<>(level);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, key) : cb.lessThan(path, key));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            level.add(cb.equal(path, key));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Map<String, Object> keysOf(Tuple row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), row.get(order.getProperty())));
+        return keys;
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.repository.contact;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.project.entity.contact.Contact;
+import com.project.entity.contact.UniquePhoneNumber;
+import com.project.util.SearchPatterns;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Criteria for contact queries that derived query methods cannot express.
+ */
+public final class ContactSpecifications {
+
+    private ContactSpecifications() {
+    }
+
+    /**
+     * The first contact stored for each phone number, i.e. one row per unique contact,
+     * as recorded in the unique_phone_numbers index. Same rows as
+     * {@link ContactRepository#findUniqueContactResponses}.
+     */
+    public static Specification<Contact> firstPerPhoneNumber() {
+        return (root, query, cb) -> {
+            Subquery<Long> representatives = query.subquery(Long.class);
+            Root<UniquePhoneNumber> unique = representatives.from(UniquePhoneNumber.class);
+            representatives.select(unique.get("representativeContactId"));
+            return root.get("id").in(representatives);
+        };
+    }
+
+    public static Specification<Contact> withId(Long contactId) {
+        return (root, query, cb) -> cb.equal(root.get("id"), contactId);
+    }
+
+    public static Specification<Contact> inAddressBook(Long addressBookId) {
+        return (root, query, cb) -> cb.equal(root.get("addressBook").get("id"), addressBookId);
+    }
+
+    /**
+     * Case-insensitive substring match on the name. Written as {@code lower(name) LIKE}
+     * so the trigram index on {@code lower(name)} serves it on PostgreSQL.
+     */
+    public static Specification<Contact> nameContains(String term) {
+        String pattern = SearchPatterns.containsIgnoreCase(term);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, SearchPatterns.ESCAPE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.repository.contact;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fills in {@code contacts.phone_key} for contacts stored before the column existed,
+ * over plain JDBC and in id order. All methods must run inside the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhoneKeyBackfillRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} contacts without a phone key whose id is above
+     * {@code afterId}, in id order.
+     */
+    public List<UnkeyedContact> findUnkeyed(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT id, phone_number FROM contacts "
+                + "WHERE phone_key IS NULL AND id > ? ORDER BY id LIMIT ?",
+                (resultSet, row) -> new UnkeyedContact(resultSet.getLong(1), resultSet.getString(2)),
+                afterId, limit);
+    }
+
+    /**
+     * Sets each contact's phone key and returns how many were set. A contact whose key
+     * another contact of its book already holds is left without one, as the key is
+     * unique per book; so is a contact another writer keyed in the meantime.
+     */
+    public int setPhoneKeys(List<KeyedContact> contacts) {
+        int[][] counts = jdbcTemplate.batchUpdate("UPDATE contacts SET phone_key = ? "
+                + "WHERE id = ? AND phone_key IS NULL AND NOT EXISTS (SELECT 1 FROM contacts d "
+                + "WHERE d.phone_key = ? AND d.address_book_id = contacts.address_book_id)",
+                contacts, contacts.size(), (statement, contact) -> {
+                    statement.setString(1, contact.phoneKey());
+                    statement.setLong(2, contact.id());
+                    statement.setString(3, contact.phoneKey());
+                });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    public record UnkeyedContact(long id, String phoneNumber) {
+    }
+
+    public record KeyedContact(long id, String phoneKey) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.repository.contact;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.project.util.DatabasePlatform;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Looks contacts up by phone key over plain JDBC: the (phone key, address book) pairs for
+ * the reverse phone lookup index, and set-based existence checks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhoneLookupRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+    static final int H2_MAX_ARRAY_LENGTH = 65_536;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * Streams the phone key and address book id of every keyed contact with a fetch size,
+     * so only one fetch is in memory. Must run inside the caller's transaction.
+     */
+    public void forEachPhoneKey(PhoneKeyHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT phone_key, address_book_id FROM contacts WHERE phone_key IS NOT NULL");
+            // PostgreSQL streams through a cursor only with a fetch size inside a transaction
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> handler.accept(resultSet.getString(1), resultSet.getLong(2)));
+    }
+
+    /**
+     * Returns which of the phone keys the book holds. The keys go in as a single array
+     * parameter, each probed on the (phone_key, address_book_id) unique index: one
+     * statement on PostgreSQL whatever the number of keys, one per
+     * {@value #H2_MAX_ARRAY_LENGTH} keys on H2, which caps arrays at that length.
+     */
+    public List<String> findExistingPhoneKeys(Long addressBookId, Collection<String> phoneKeys) {
+        Object[] keys = phoneKeys.toArray();
+        int chunkSize = databasePlatform.isPostgreSql() ? keys.length : H2_MAX_ARRAY_LENGTH;
+        List<String> existing = new ArrayList<>();
+        for (int from = 0; from < keys.length; from += chunkSize) {
+            Object[] chunk = Arrays.copyOfRange(keys, from, Math.min(from + chunkSize, keys.length));
+            existing.addAll(jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT phone_key FROM contacts WHERE address_book_id = ? AND phone_key = ANY (?)");
+                statement.setLong(1, addressBookId);
+                statement.setArray(2, connection.createArrayOf("varchar", chunk));
+                return statement;
+            }, (resultSet, row) -> resultSet.getString(1)));
+        }
+        return existing;
+    }
+
+    @FunctionalInterface
+    public interface PhoneKeyHandler {
+        void accept(String phoneKey, long addressBookId);
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.repository.contact;
+
+import java.util.Collection;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.entity.contact.UniquePhoneNumber;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Maintains the unique-contacts index. Removals run in two steps: the decrement
+ * methods run before the contacts are deleted (they read the rows being removed) and
+ * clear any representative that is going away; {@link #deleteUnreferenced} and
+ * {@link #reassignRepresentatives} then settle the affected rows after the delete.
+ *
+ * <p>Every statement declares {@code unique_phone_numbers} as its query space. A native
+ * write without one makes Hibernate empty every second-level cache region.
+ */
+@Repository
+public interface UniquePhoneNumberRepository
+        extends JpaRepository<UniquePhoneNumber, String>, UniquePhoneNumberRepositoryCustom {
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "UPDATE unique_phone_numbers SET reference_count = reference_count - 1, " +
+            "representative_contact_id = CASE WHEN representative_contact_id = :contactId " +
+            "THEN NULL ELSE representative_contact_id END " +
+            "WHERE phone_key = :phoneKey", nativeQuery = true)
+    int decrementPhoneNumber(@Param("phoneKey") String phoneKey, @Param("contactId") Long contactId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "UPDATE unique_phone_numbers u SET " +
+            "reference_count = u.reference_count - (SELECT COUNT(*) FROM contacts c " +
+            "WHERE c.phone_key = u.phone_key AND c.address_book_id = :addressBookId AND c.id IN (:ids)), " +
+            "representative_contact_id = CASE WHEN u.representative_contact_id IN (SELECT c.id FROM contacts c " +
+            "WHERE c.address_book_id = :addressBookId AND c.id IN (:ids)) " +
+            "THEN NULL ELSE u.representative_contact_id END " +
+            "WHERE u.phone_key IN (SELECT c.phone_key FROM contacts c " +
+            "WHERE c.address_book_id = :addressBookId AND c.id IN (:ids))", nativeQuery = true)
+    int decrementContacts(@Param("addressBookId") Long addressBookId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "UPDATE unique_phone_numbers u SET " +
+            "reference_count = u.reference_count - (SELECT COUNT(*) FROM contacts c " +
+            "WHERE c.phone_key = u.phone_key AND c.address_book_id = :addressBookId), " +
+            "representative_contact_id = CASE WHEN u.representative_contact_id IN (SELECT c.id FROM contacts c " +
+            "WHERE c.address_book_id = :addressBookId) " +
+            "THEN NULL ELSE u.representative_contact_id END " +
+            "WHERE u.phone_key IN (SELECT c.phone_key FROM contacts c " +
+            "WHERE c.address_book_id = :addressBookId)", nativeQuery = true)
+    int decrementAddressBook(@Param("addressBookId") Long addressBookId);
+
+    /**
+     * A row with no contacts left also lost its representative, so only rows with a
+     * cleared representative need checking.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "DELETE FROM unique_phone_numbers " +
+            "WHERE representative_contact_id IS NULL AND reference_count <= 0", nativeQuery = true)
+    int deleteUnreferenced();
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "UPDATE unique_phone_numbers u SET representative_contact_id = " +
+            "(SELECT MIN(c.id) FROM contacts c WHERE c.phone_key = u.phone_key) " +
+            "WHERE u.representative_contact_id IS NULL", nativeQuery = true)
+    int reassignRepresentatives();
+
+    /**
+     * Builds the index from scratch when it is empty, e.g. on first start after an upgrade.
+     * Contacts the phone key backfill left without a key are not counted.
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unique_phone_numbers"))
+    @Query(value = "INSERT INTO unique_phone_numbers (phone_key, representative_contact_id, reference_count) " +
+            "SELECT phone_key, MIN(id), COUNT(*) FROM contacts WHERE phone_key IS NOT NULL GROUP BY phone_key " +
+            "HAVING NOT EXISTS (SELECT 1 FROM unique_phone_numbers)", nativeQuery = true)
+    int rebuildIfEmpty();
+}
@@ -0,0 +1,24 @@
+package com.project.repository.contact;
+
+/**
+ * Upserts into {@code unique_phone_numbers}; the statement differs per database.
+ */
+public interface UniquePhoneNumberRepositoryCustom {
+
+    /**
+     * Counts one more contact for the phone key, creating the row if needed. The
+     * representative becomes {@code contactId} if it is lower than the current one.
+     */
+    void upsertPhoneNumber(String phoneKey, Long contactId);
+
+    /**
+     * Adds every contact of an address book, grouped by phone key, in one statement.
+     */
+    int upsertAddressBook(Long addressBookId);
+
+    /**
+     * Adds the contacts a bulk load inserted, i.e. the staged rows that reached
+     * {@code contacts}, grouped by phone key.
+     */
+    int upsertStagedContacts();
+}
@@ -0,0 +1,81 @@
+package com.project.repository.contact;
+
+import org.hibernate.jpa.HibernateHints;
+
+import com.project.util.DatabasePlatform;
+import com.project.util.PhoneNumbers;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UniquePhoneNumberRepositoryCustomImpl implements UniquePhoneNumberRepositoryCustom {
+
+    private static final String TABLE = "unique_phone_numbers";
+
+    private static final String SINGLE_SOURCE = "SELECT CAST(:phoneKey AS VARCHAR(" + PhoneNumbers.MAX_KEY_LENGTH + ")) AS phone_key, "
+            + "CAST(:contactId AS BIGINT) AS representative_contact_id, CAST(1 AS BIGINT) AS reference_count";
+
+    private static final String ADDRESS_BOOK_SOURCE = "SELECT phone_key, "
+            + "MIN(id) AS representative_contact_id, COUNT(*) AS reference_count "
+            + "FROM contacts WHERE address_book_id = :addressBookId GROUP BY phone_key";
+
+    private static final String STAGED_SOURCE = "SELECT c.phone_key, "
+            + "MIN(c.id) AS representative_contact_id, COUNT(*) AS reference_count "
+            + "FROM contacts c JOIN " + ContactBulkLoadRepository.STAGING_TABLE + " s ON s.id = c.id "
+            + "GROUP BY c.phone_key";
+
+    private static final String KEEP_LOWEST_REPRESENTATIVE = "CASE WHEN %1$s.representative_contact_id IS NULL "
+            + "OR %2$s.representative_contact_id < %1$s.representative_contact_id "
+            + "THEN %2$s.representative_contact_id ELSE %1$s.representative_contact_id END";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabasePlatform databasePlatform;
+
+    @Override
+    public void upsertPhoneNumber(String phoneKey, Long contactId) {
+        entityManager.createNativeQuery(upsertFrom(SINGLE_SOURCE))
+                .setParameter("phoneKey", phoneKey)
+                .setParameter("contactId", contactId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, TABLE)
+                .executeUpdate();
+    }
+
+    @Override
+    public int upsertAddressBook(Long addressBookId) {
+        entityManager.flush();
+        return entityManager.createNativeQuery(upsertFrom(ADDRESS_BOOK_SOURCE))
+                .setParameter("addressBookId", addressBookId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, TABLE)
+                .executeUpdate();
+    }
+
+    @Override
+    public int upsertStagedContacts() {
+        return entityManager.createNativeQuery(upsertFrom(STAGED_SOURCE))
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, TABLE)
+                .executeUpdate();
+    }
+
+    private String upsertFrom(String source) {
+        if (databasePlatform.isPostgreSql()) {
+            // ON CONFLICT, unlike MERGE, is safe against concurrent inserts of the same key
+            return "INSERT INTO unique_phone_numbers (phone_key, representative_contact_id, reference_count) "
+                    + source + " "
+                    + "ON CONFLICT (phone_key) DO UPDATE SET "
+                    + "reference_count = unique_phone_numbers.reference_count + EXCLUDED.reference_count, "
+                    + "representative_contact_id = "
+                    + String.format(KEEP_LOWEST_REPRESENTATIVE, "unique_phone_numbers", "EXCLUDED");
+        }
+        return "MERGE INTO unique_phone_numbers u USING (" + source + ") s "
+                + "ON u.phone_key = s.phone_key "
+                + "WHEN MATCHED THEN UPDATE SET "
+                + "reference_count = u.reference_count + s.reference_count, "
+                + "representative_contact_id = " + String.format(KEEP_LOWEST_REPRESENTATIVE, "u", "s") + " "
+                + "WHEN NOT MATCHED THEN INSERT (phone_key, representative_contact_id, reference_count) "
+                + "VALUES (s.phone_key, s.representative_contact_id, s.reference_count)";
+    }
+}
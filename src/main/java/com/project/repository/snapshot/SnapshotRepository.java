@@ -0,0 +1,287 @@
+package com.project.repository.snapshot;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.project.entity.addressbook.AddressBook;
+import com.project.entity.contact.Contact;
+import com.project.util.DatabasePlatform;
+import com.project.util.PgCopy;
+import com.project.util.PhoneNumbers;
+import com.project.util.SnapshotFormat.AddressBookRecord;
+import com.project.util.SnapshotFormat.ContactRecord;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and replaces the whole dataset over plain JDBC for snapshots. Reads stream with a
+ * fetch size, so only one fetch is in memory. Loads keep the snapshot's ids and go through
+ * {@code COPY ... FROM STDIN} on PostgreSQL and batched multi-row INSERTs elsewhere.
+ *
+ * <p>Only {@code addressbooks} and {@code contacts} are loaded; the counters and the
+ * unique-contacts index are derived and rebuilt by their services. All methods must run
+ * inside the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SnapshotRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int ROWS_PER_INSERT = 100;
+    private static final int INSERTS_PER_BATCH = 10;
+    private static final String ADDRESS_BOOK_COLUMNS = "id, name, description, created_at, updated_at";
+    private static final String CONTACT_COLUMNS = "id, address_book_id, name, phone_number, created_at";
+    /** The phone key is not in snapshots; loads derive it from the phone number. */
+    private static final String CONTACT_LOAD_COLUMNS = CONTACT_COLUMNS + ", phone_key";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public void forEachAddressBook(Consumer<AddressBookRecord> action) {
+        jdbcTemplate.query(streaming("SELECT " + ADDRESS_BOOK_COLUMNS + " FROM addressbooks ORDER BY id"),
+                (RowCallbackHandler) resultSet -> action.accept(new AddressBookRecord(resultSet.getLong(1), resultSet.getString(2),
+                        resultSet.getString(3), resultSet.getObject(4, LocalDateTime.class),
+                        resultSet.getObject(5, LocalDateTime.class))));
+    }
+
+    public void forEachContact(Consumer<ContactRecord> action) {
+        jdbcTemplate.query(streaming("SELECT " + CONTACT_COLUMNS + " FROM contacts ORDER BY id"),
+                (RowCallbackHandler) resultSet -> action.accept(new ContactRecord(resultSet.getLong(1),
+                        resultSet.getLong(2), resultSet.getString(3), resultSet.getString(4),
+                        resultSet.getObject(5, LocalDateTime.class))));
+    }
+
+    /**
+     * Empties every table of the dataset, derived ones included. Sequences are left alone.
+     */
+    public void deleteAll() {
+        if (databasePlatform.isPostgreSql()) {
+            // Also lets the loads below COPY with FREEZE, which needs the table emptied in this transaction
+            jdbcTemplate.execute("TRUNCATE unique_phone_numbers, addressbook_contact_counters, contacts, addressbooks");
+            return;
+        }
+        jdbcTemplate.execute("DELETE FROM unique_phone_numbers");
+        jdbcTemplate.execute("DELETE FROM addressbook_contact_counters");
+        jdbcTemplate.execute("DELETE FROM contacts");
+        jdbcTemplate.execute("DELETE FROM addressbooks");
+    }
+
+    /**
+     * Inserts address books with their own ids and returns how many were inserted.
+     */
+    public long insertAddressBooks(Iterator<AddressBookRecord> addressBooks) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (databasePlatform.isPostgreSql()) {
+                return copy(connection, "addressbooks", ADDRESS_BOOK_COLUMNS, addressBooks, (buffer, book) -> {
+                    buffer.append(book.id()).append('\t');
+                    PgCopy.appendText(buffer, book.name());
+                    buffer.append('\t');
+                    PgCopy.appendText(buffer, book.description());
+                    buffer.append('\t');
+                    PgCopy.appendText(buffer, book.createdAt() != null ? book.createdAt().toString() : null);
+                    buffer.append('\t');
+                    PgCopy.appendText(buffer, book.updatedAt() != null ? book.updatedAt().toString() : null);
+                });
+            }
+            return insert(connection, "addressbooks", ADDRESS_BOOK_COLUMNS, addressBooks, (statement, p, book) -> {
+                statement.setLong(p, book.id());
+                statement.setString(p + 1, book.name());
+                statement.setString(p + 2, book.description());
+                statement.setObject(p + 3, book.createdAt());
+                statement.setObject(p + 4, book.updatedAt());
+            });
+        });
+    }
+
+    /**
+     * Inserts contacts with their own ids and returns how many were inserted. On
+     * PostgreSQL the table's plain indexes are dropped for the load and built again
+     * after it, in the same transaction: one sort per index instead of 6 index updates
+     * per row.
+     */
+    public long insertContacts(Iterator<ContactRecord> contacts) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (!databasePlatform.isPostgreSql()) {
+                return insert(connection, "contacts", CONTACT_LOAD_COLUMNS, contacts, (statement, p, contact) -> {
+                    statement.setLong(p, contact.id());
+                    statement.setLong(p + 1, contact.addressBookId());
+                    statement.setString(p + 2, contact.name());
+                    statement.setString(p + 3, contact.phoneNumber());
+                    statement.setObject(p + 4, contact.createdAt());
+                    statement.setString(p + 5, PhoneNumbers.normalize(contact.phoneNumber()));
+                });
+            }
+            List<String> indexes = dropPlainIndexes("contacts");
+            long rows = copy(connection, "contacts", CONTACT_LOAD_COLUMNS, contacts, (buffer, contact) -> {
+                buffer.append(contact.id()).append('\t').append(contact.addressBookId()).append('\t');
+                PgCopy.appendText(buffer, contact.name());
+                buffer.append('\t');
+                PgCopy.appendText(buffer, contact.phoneNumber());
+                buffer.append('\t');
+                PgCopy.appendText(buffer, contact.createdAt() != null ? contact.createdAt().toString() : null);
+                buffer.append('\t');
+                PgCopy.appendText(buffer, PhoneNumbers.normalize(contact.phoneNumber()));
+            });
+            indexes.forEach(jdbcTemplate::execute);
+            return rows;
+        });
+    }
+
+    /**
+     * Moves both id sequences past the loaded ids. A sequence never moves back: ids
+     * Hibernate already reserved in memory must stay unused.
+     */
+    public void advanceSequences() {
+        advanceSequence(AddressBook.ID_SEQUENCE, AddressBook.ID_ALLOCATION_SIZE, "addressbooks");
+        advanceSequence(Contact.ID_SEQUENCE, Contact.ID_ALLOCATION_SIZE, "contacts");
+    }
+
+    private void advanceSequence(String sequence, int allocationSize, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (databasePlatform.isPostgreSql()) {
+            // Each value is the first id of a block, so the block after last_value is the first free one
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST(?, "
+                    + "(SELECT CASE WHEN is_called THEN last_value + " + allocationSize
+                    + " ELSE last_value END FROM " + sequence + ")), false)", Long.class, maxId + 1);
+            return;
+        }
+        Long next = jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+                + "WHERE SEQUENCE_NAME = ?", Long.class, sequence.toUpperCase(Locale.ROOT));
+        if (next == null || next <= maxId) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+        }
+    }
+
+    /**
+     * Drops the indexes of {@code table} that back no constraint and returns the
+     * statements that create them again.
+     */
+    private List<String> dropPlainIndexes(String table) {
+        List<Map<String, Object>> indexes = jdbcTemplate.queryForList(
+                "SELECT c.relname AS name, pg_get_indexdef(i.indexrelid) AS definition "
+                        + "FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "WHERE i.indrelid = '" + table + "'::regclass "
+                        + "AND NOT EXISTS (SELECT 1 FROM pg_constraint k WHERE k.conindid = i.indexrelid)");
+        List<String> definitions = new ArrayList<>(indexes.size());
+        for (Map<String, Object> index : indexes) {
+            jdbcTemplate.execute("DROP INDEX " + index.get("name"));
+            definitions.add((String) index.get("definition"));
+        }
+        return definitions;
+    }
+
+    private static PreparedStatementCreator streaming(String sql) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            // PostgreSQL streams through a cursor only with a fetch size inside a transaction
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        };
+    }
+
+    private static <T> long copy(Connection connection, String table, String columns, Iterator<T> rows,
+            CopyRow<T> format) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        StringBuilder buffer = new StringBuilder(PgCopy.BUFFER_CHARS + 2 * 1024);
+        CopyIn copyIn = copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FREEZE)");
+        long count = 0;
+        try {
+            while (rows.hasNext()) {
+                format.append(buffer, rows.next());
+                buffer.append('\n');
+                count++;
+                if (buffer.length() >= PgCopy.BUFFER_CHARS) {
+                    PgCopy.write(copyIn, buffer);
+                }
+            }
+            PgCopy.write(copyIn, buffer);
+            copyIn.endCopy();
+            return count;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static <T> long insert(Connection connection, String table, String columns, Iterator<T> rows,
+            InsertRow<T> binder) throws SQLException {
+        int width = columns.split(",").length;
+        List<T> pending = new ArrayList<>(ROWS_PER_INSERT);
+        long count = 0;
+        try (PreparedStatement full = connection.prepareStatement(insertSql(table, columns, width, ROWS_PER_INSERT))) {
+            int batched = 0;
+            while (rows.hasNext()) {
+                pending.add(rows.next());
+                if (pending.size() == ROWS_PER_INSERT) {
+                    bind(full, pending, width, binder);
+                    full.addBatch();
+                    count += pending.size();
+                    pending.clear();
+                    if (++batched == INSERTS_PER_BATCH) {
+                        full.executeBatch();
+                        batched = 0;
+                    }
+                }
+            }
+            if (batched > 0) {
+                full.executeBatch();
+            }
+        }
+        if (!pending.isEmpty()) {
+            try (PreparedStatement rest = connection.prepareStatement(
+                    insertSql(table, columns, width, pending.size()))) {
+                bind(rest, pending, width, binder);
+                rest.executeUpdate();
+            }
+            count += pending.size();
+        }
+        return count;
+    }
+
+    private static String insertSql(String table, String columns, int width, int rows) {
+        String row = "(?" + ", ?".repeat(width - 1) + ")";
+        StringBuilder sql = new StringBuilder("INSERT INTO " + table + " (" + columns + ") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? row : ", " + row);
+        }
+        return sql.toString();
+    }
+
+    private static <T> void bind(PreparedStatement statement, List<T> rows, int width, InsertRow<T> binder)
+            throws SQLException {
+        for (int i = 0; i < rows.size(); i++) {
+            binder.bind(statement, i * width + 1, rows.get(i));
+        }
+    }
+
+    @FunctionalInterface
+    private interface CopyRow<T> {
+        void append(StringBuilder buffer, T row);
+    }
+
+    /**
+     * Binds one row's columns starting at parameter index {@code first}.
+     */
+    @FunctionalInterface
+    private interface InsertRow<T> {
+        void bind(PreparedStatement statement, int first, T row) throws SQLException;
+    }
+}
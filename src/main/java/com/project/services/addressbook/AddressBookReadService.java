@@ -1,25 +1,40 @@
 package com.project.services.addressbook;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 
 import com.project.dto.addressbook.AddressBookIdResponse;
 import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.addressbook.AddressBookSummaryResponse;
 import com.project.dto.response.PagedResponse;
 
 public interface AddressBookReadService {
 
     AddressBookResponse getAddressBookById(Long id);
 
+    /**
+     * The book with only the comma-separated {@code fields}, read by a query that selects
+     * just those columns and no contacts; the same holds for the other {@code fields}
+     * variants.
+     */
+    Map<String, Object> getAddressBookById(Long id, String fields);
+
     AddressBookResponse getAddressBookByName(String name);
 
+    Map<String, Object> getAddressBookByName(String name, String fields);
+
     PagedResponse<AddressBookResponse> searchByName(String name, Pageable pageable);
 
     List<AddressBookResponse> getAllAddressBooks();
 
     PagedResponse<AddressBookResponse> getAllAddressBooks(Pageable pageable);
 
+    PagedResponse<Map<String, Object>> getAllAddressBooks(Pageable pageable, String fields);
+
+    PagedResponse<AddressBookSummaryResponse> getAddressBookSummaries(Pageable pageable);
+
     List<AddressBookIdResponse> getAllAddressBookIds();
 
     PagedResponse<AddressBookIdResponse> getAllAddressBookIds(Pageable pageable);
@@ -1,24 +1,47 @@
 package com.project.services.addressbook;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.project.dto.addressbook.AddressBookIdResponse;
 import com.project.dto.addressbook.AddressBookRequest;
 import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.addressbook.AddressBookSummaryResponse;
+import com.project.dto.contact.ContactResponse;
 import com.project.dto.response.PagedResponse;
 import com.project.entity.addressbook.AddressBook;
+import com.project.entity.contact.Contact;
 import com.project.exception.DuplicateAddressBookException;
 import com.project.exception.ResourceNotFoundException;
 import com.project.mapper.contact.EntityMapper;
 import com.project.repository.addressbook.AddressBookRepository;
+import com.project.repository.addressbook.AddressBookRepositoryCustom;
+import com.project.repository.contact.ContactRepository;
+import com.project.services.contact.ContactCountService;
 import com.project.services.contact.ContactCreationService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.services.contact.UniqueContactIndexService;
+import com.project.util.ConstraintViolations;
+import com.project.util.CursorCodec;
+import com.project.util.FieldSelection;
 import com.project.util.PaginationHelper;
+import com.project.util.SearchPatterns;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +52,21 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class AddressBookServiceImpl implements AddressBookService {
 
+	static final int EMBEDDED_CONTACTS = 100;
+	private static final String CONTACTS_PATH = "/api/v1/addressbooks/{addressBookId}/contacts";
+	private static final String ID = "id";
+
 	private final AddressBookRepository addressBookRepository;
 	private final EntityMapper<AddressBook, AddressBookResponse> addressBookMapper;
 	private final EntityMapper<AddressBook, AddressBookIdResponse> addressBookIdMapper;
 	private final ContactCreationService contactCreationService;
 	private final PaginationHelper paginationHelper;
+	private final ContactCountService contactCountService;
+	private final UniqueContactIndexService uniqueContactIndexService;
+	private final PhoneLookupService phoneLookupService;
+	private final ContactRepository contactRepository;
+	private final EntityMapper<Contact, ContactResponse> contactMapper;
+	private final CursorCodec cursorCodec;
 
 	@Override
 	public AddressBookResponse createAddressBook(AddressBookRequest request) {
@@ -48,8 +81,6 @@ public class AddressBookServiceImpl implements AddressBookService {
 	private AddressBookResponse createAddressBookInternal(AddressBookRequest request, boolean includeContacts) {
 		log.info("Creating address book: {}, includeContacts: {}", request.getName(), includeContacts);
 
-		validateUniqueAddressBookName(request.getName());
-
 		AddressBook addressBook = AddressBook.builder()
 				.name(request.getName().trim())
 				.description(request.getDescription())
@@ -59,14 +90,32 @@ public class AddressBookServiceImpl implements AddressBookService {
 			contactCreationService.addContactsToAddressBook(addressBook, request.getContacts());
 		}
 
-		AddressBook savedAddressBook = addressBookRepository.save(addressBook);
+		AddressBook savedAddressBook = saveUnique(addressBook);
+		contactCountService.initialize(savedAddressBook.getId(), savedAddressBook.getContacts().size());
+		if (!savedAddressBook.getContacts().isEmpty()) {
+			uniqueContactIndexService.addressBookAdded(savedAddressBook.getId());
+			phoneLookupService.contactsAdded(savedAddressBook.getContacts().stream()
+					.map(Contact::getPhoneKey)
+					.toList(), savedAddressBook.getId());
+			return mapWithFirstContacts(savedAddressBook);
+		}
 		return addressBookMapper.mapToResponse(savedAddressBook);
 	}
 
-	private void validateUniqueAddressBookName(String name) {
-		if (addressBookRepository.existsByName(name)) {
-			throw new DuplicateAddressBookException(
-					"Address book with name '" + name + "' already exists");
+	/**
+	 * Writes the book at once and lets the unique constraint on its name catch a
+	 * duplicate, rather than checking first: one query less, and no window for a
+	 * concurrent request to take the name in between.
+	 */
+	private AddressBook saveUnique(AddressBook addressBook) {
+		try {
+			return addressBookRepository.saveAndFlush(addressBook);
+		} catch (DataIntegrityViolationException ex) {
+			if (ConstraintViolations.isViolationOf(ex, ConstraintViolations.ADDRESS_BOOK_NAME)) {
+				throw new DuplicateAddressBookException(
+						"Address book with name '" + addressBook.getName() + "' already exists");
+			}
+			throw ex;
 		}
 	}
 
@@ -74,18 +123,79 @@ public class AddressBookServiceImpl implements AddressBookService {
 	@Transactional(readOnly = true)
 	public AddressBookResponse getAddressBookById(Long id) {
 		log.info("Fetching address book by id: {}", id);
-		  AddressBook addressBook = addressBookRepository.findByIdWithContacts(id)
-		            .orElseThrow(() -> new ResourceNotFoundException("Address book not found with id: " + id));
-		return addressBookMapper.mapToResponse(addressBook);
+		// By primary key, so the book can come from the second-level cache
+		AddressBook addressBook = findAddressBookById(id);
+		return mapWithFirstContacts(addressBook);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> getAddressBookById(Long id, String fields) {
+		FieldSelection selection = FieldSelection.parse(fields, AddressBookRepositoryCustom.FIELDS);
+		log.info("Fetching fields {} of address book by id: {}", selection, id);
+		return findAddressBookFields((root, query, cb) -> cb.equal(root.get(ID), id), selection)
+				.orElseThrow(() -> new ResourceNotFoundException("Address book not found with id: " + id));
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public AddressBookResponse getAddressBookByName(String name) {
 		log.info("Fetching address book by exact name: {}", name);
-		AddressBook addressBook = addressBookRepository.findByNameWithContacts(name)
+		AddressBook addressBook = addressBookRepository.findByName(name)
 				.orElseThrow(() -> new ResourceNotFoundException("Address book not found with name " + name));
-		return addressBookMapper.mapToResponse(addressBook);
+		return mapWithFirstContacts(addressBook);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> getAddressBookByName(String name, String fields) {
+		FieldSelection selection = FieldSelection.parse(fields, AddressBookRepositoryCustom.FIELDS);
+		log.info("Fetching fields {} of address book by exact name: {}", selection, name);
+		return findAddressBookFields((root, query, cb) -> cb.equal(root.get("name"), name), selection)
+				.orElseThrow(() -> new ResourceNotFoundException("Address book not found with name " + name));
+	}
+
+	private Optional<Map<String, Object>> findAddressBookFields(Specification<AddressBook> specification,
+			FieldSelection fields) {
+		return addressBookRepository.findFieldsBy(specification, fields, Pageable.unpaged()).stream().findFirst();
+	}
+
+	/**
+	 * Maps a book with its first {@value #EMBEDDED_CONTACTS} contacts in id order, so the
+	 * response stays small however large the book is. One contact more is read to tell
+	 * whether there are others; if so, the total comes from the counters and
+	 * {@code contactsNext} links to the cursor page that follows.
+	 */
+	private AddressBookResponse mapWithFirstContacts(AddressBook addressBook) {
+		List<Contact> contacts = contactRepository.findFirstByAddressBookId(addressBook.getId(),
+				EMBEDDED_CONTACTS + 1);
+		boolean hasMore = contacts.size() > EMBEDDED_CONTACTS;
+		List<Contact> embedded = hasMore ? contacts.subList(0, EMBEDDED_CONTACTS) : contacts;
+
+		String contactsNext = null;
+		long contactCount = embedded.size();
+		if (hasMore) {
+			contactCount = contactCountService.getCount(addressBook.getId());
+			Long lastId = embedded.get(EMBEDDED_CONTACTS - 1).getId();
+			String cursor = cursorCodec.encode(Sort.Order.asc(ID), ScrollPosition.forward(Map.of(ID, lastId)));
+			contactsNext = UriComponentsBuilder.fromPath(CONTACTS_PATH)
+					.queryParam("limit", EMBEDDED_CONTACTS)
+					.queryParam("cursor", cursor)
+					.buildAndExpand(addressBook.getId())
+					.toUriString();
+		}
+		return AddressBookResponse.builder()
+				.id(addressBook.getId())
+				.name(addressBook.getName())
+				.description(addressBook.getDescription())
+				.contactCount(Math.toIntExact(contactCount))
+				.contacts(embedded.stream()
+						.map(contactMapper::mapToResponse)
+						.collect(Collectors.toList()))
+				.contactsNext(contactsNext)
+				.createdAt(addressBook.getCreatedAt())
+				.updatedAt(addressBook.getUpdatedAt())
+				.build();
 	}
 
 	@Override
@@ -93,8 +203,9 @@ public class AddressBookServiceImpl implements AddressBookService {
 	public PagedResponse<AddressBookResponse> searchByName(String name, Pageable pageable) {
 		log.info("Searching address books by name containing: {}", name);
 		Pageable safePageable = paginationHelper.sanitizePageable(pageable);
-		Page<AddressBook> page = addressBookRepository.findByNameContainingIgnoreCaseWithContacts(name, safePageable);
-		return paginationHelper.createPagedResponse(page, addressBookMapper::mapToResponse);
+		Page<Long> idPage = addressBookRepository.findIdsByNameLike(SearchPatterns.containsIgnoreCase(name),
+				safePageable);
+		return paginationHelper.createPagedResponse(loadWithContacts(idPage), addressBookMapper::mapToResponse);
 	}
 
 	@Override
@@ -113,9 +224,53 @@ public class AddressBookServiceImpl implements AddressBookService {
 		log.info("Fetching address books - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
 		Pageable safePageable = paginationHelper.sanitizePageable(pageable);
-		Page<AddressBook> page = addressBookRepository.findAllWithContacts(safePageable);
+		Page<Long> idPage = addressBookRepository.findAllIds(safePageable);
+
+		return paginationHelper.createPagedResponse(loadWithContacts(idPage), addressBookMapper::mapToResponse);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PagedResponse<Map<String, Object>> getAllAddressBooks(Pageable pageable, String fields) {
+		FieldSelection selection = FieldSelection.parse(fields, AddressBookRepositoryCustom.FIELDS);
+		log.info("Fetching fields {} of address books - page: {}, size: {}", selection, pageable.getPageNumber(),
+				pageable.getPageSize());
+
+		Pageable safePageable = paginationHelper.sanitizePageable(pageable);
+		Page<Map<String, Object>> page = PageableExecutionUtils.getPage(
+				addressBookRepository.findFieldsBy(Specification.where(null), selection, safePageable),
+				safePageable, addressBookRepository::countAllAddressBooks);
+
+		return paginationHelper.createPagedResponse(page, Function.identity());
+	}
 
-		return paginationHelper.createPagedResponse(page, addressBookMapper::mapToResponse);
+	@Override
+	@Transactional(readOnly = true)
+	public PagedResponse<AddressBookSummaryResponse> getAddressBookSummaries(Pageable pageable) {
+		log.info("Fetching address book summaries - page: {}, size: {}", pageable.getPageNumber(),
+				pageable.getPageSize());
+
+		Pageable safePageable = paginationHelper.sanitizePageable(pageable);
+		Page<AddressBookSummaryResponse> page = addressBookRepository.findAllSummaries(safePageable);
+
+		return paginationHelper.createPagedResponse(page, Function.identity());
+	}
+
+	/**
+	 * Second phase of a paged listing: loads the books of an id page together with
+	 * their contacts in one query, keeping the order of the id page.
+	 */
+	private Page<AddressBook> loadWithContacts(Page<Long> idPage) {
+		if (idPage.isEmpty()) {
+			return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+		}
+		Map<Long, AddressBook> byId = addressBookRepository.findAllWithContactsByIdIn(idPage.getContent()).stream()
+				.collect(Collectors.toMap(AddressBook::getId, Function.identity()));
+		List<AddressBook> addressBooks = idPage.getContent().stream()
+				.map(byId::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		return new PageImpl<>(addressBooks, idPage.getPageable(), idPage.getTotalElements());
 	}
 
 	@Override
@@ -124,15 +279,18 @@ public class AddressBookServiceImpl implements AddressBookService {
 		AddressBook addressBook = findAddressBookById(id);
 		addressBook.setName(request.getName().trim());
 		addressBook.setDescription(request.getDescription().trim());
-		AddressBook updated = addressBookRepository.save(addressBook);
-		return addressBookMapper.mapToResponse(updated);
+		AddressBook updated = saveUnique(addressBook);
+		return mapWithFirstContacts(updated);
 	}
 
 	@Override
 	public void deleteAddressBook(Long id) {
 		log.info("Delete address book: {}", id);
 		AddressBook addressBook = findAddressBookById(id);
+		uniqueContactIndexService.removeAddressBook(addressBook.getId());
 		addressBookRepository.deleteById(addressBook.getId());
+		uniqueContactIndexService.settle();
+		phoneLookupService.addressBookRemoved(addressBook.getId());
 	}
 
 	private AddressBook findAddressBookById(Long id) {
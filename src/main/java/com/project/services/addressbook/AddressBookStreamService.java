@@ -0,0 +1,29 @@
+package com.project.services.addressbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AddressBookStreamService {
+
+    /**
+     * Checks the book exists and returns its full response, every contact included, to
+     * be written later, typically from a streaming response body.
+     *
+     * @throws com.project.exception.ResourceNotFoundException if the book does not exist
+     */
+    AddressBookStream streamAddressBookById(Long id);
+
+    /**
+     * As {@link #streamAddressBookById(Long)}, for the book with exactly this name.
+     */
+    AddressBookStream streamAddressBookByName(String name);
+
+    /**
+     * Writes the response in the {@code ApiResponse} envelope in its own read-only
+     * transaction, one contact at a time as the query returns them.
+     */
+    @FunctionalInterface
+    interface AddressBookStream {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.services.addressbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.contact.ContactResponse;
+import com.project.entity.addressbook.AddressBook;
+import com.project.entity.contact.Contact;
+import com.project.exception.ResourceNotFoundException;
+import com.project.mapper.contact.EntityMapper;
+import com.project.repository.addressbook.AddressBookRepository;
+import com.project.repository.contact.ContactRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AddressBookStreamServiceImpl implements AddressBookStreamService {
+
+    private static final String MESSAGE = "Address book retrieved successfully";
+
+    private final AddressBookRepository addressBookRepository;
+    private final ContactRepository contactRepository;
+    private final EntityMapper<Contact, ContactResponse> contactMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public AddressBookStream streamAddressBookById(Long id) {
+        Long addressBookId = addressBookRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Address book not found with id: " + id))
+                .getId();
+        return out -> write(addressBookId, out);
+    }
+
+    @Override
+    public AddressBookStream streamAddressBookByName(String name) {
+        Long addressBookId = addressBookRepository.findByName(name)
+                .orElseThrow(() -> new ResourceNotFoundException("Address book not found with name " + name))
+                .getId();
+        return out -> write(addressBookId, out);
+    }
+
+    /**
+     * Runs on the response thread, after this service's transaction has ended, so it opens
+     * its own. The contact count follows the contacts, counted as they are written, so it
+     * always matches the array. Contacts are detached once written and bypass the
+     * second-level cache, as in the contact export.
+     */
+    private void write(Long addressBookId, OutputStream out) throws IOException {
+        log.info("Streaming address book {}", addressBookId);
+        long start = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        long written;
+        try {
+            written = transaction.execute(status -> {
+                AddressBook addressBook = addressBookRepository.findById(addressBookId)
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "Address book not found with id: " + addressBookId));
+                Session session = entityManager.unwrap(Session.class);
+                CacheMode cacheMode = session.getCacheMode();
+                session.setCacheMode(CacheMode.IGNORE);
+                try (Stream<Contact> contacts = contactRepository.streamByAddressBookId(addressBookId);
+                        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    generator.writeStartObject();
+                    generator.writeBooleanField("success", true);
+                    generator.writeStringField("message", MESSAGE);
+                    generator.writeObjectFieldStart("response");
+                    generator.writeNumberField("id", addressBook.getId());
+                    generator.writeStringField("name", addressBook.getName());
+                    generator.writeStringField("description", addressBook.getDescription());
+                    generator.writeObjectField("createdAt", addressBook.getCreatedAt());
+                    generator.writeObjectField("updatedAt", addressBook.getUpdatedAt());
+                    generator.writeArrayFieldStart("contacts");
+                    long count = 0;
+                    for (Contact contact : (Iterable<Contact>) contacts::iterator) {
+                        generator.writeObject(contactMapper.mapToResponse(contact));
+                        entityManager.detach(contact);
+                        count++;
+                    }
+                    generator.writeEndArray();
+                    generator.writeNumberField("contactCount", count);
+                    generator.writeEndObject();
+                    generator.writeObjectField("timestamp", LocalDateTime.now());
+                    generator.writeEndObject();
+                    return count;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                } finally {
+                    session.setCacheMode(cacheMode);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Streamed address book {} with {} contacts in {} ms", addressBookId, written,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
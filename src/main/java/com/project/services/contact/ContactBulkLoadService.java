@@ -0,0 +1,33 @@
+package com.project.services.contact;
+
+import java.util.Iterator;
+
+import com.project.dto.contact.ContactBulkLoadResponse;
+import com.project.dto.contact.ContactRequest;
+import com.project.dto.contact.ContactUpsertResponse;
+
+public interface ContactBulkLoadService {
+
+    /**
+     * Loads contacts into an existing address book in one transaction, bypassing the
+     * per-contact write path. Rows with a blank name or an invalid phone number are
+     * rejected; phone numbers the book already has, or that repeat within the load,
+     * are skipped, comparing their digits only. The iterator is consumed once and never buffered as a whole.
+     *
+     * @param addressBookId the book to load into
+     * @param contacts      the contacts, typically parsed lazily from the request body
+     */
+    ContactBulkLoadResponse loadContacts(Long addressBookId, Iterator<ContactRequest> contacts);
+
+    /**
+     * Upserts contacts into an existing address book in one transaction, bypassing the
+     * per-contact write path. Contacts are matched on the digits of their phone number:
+     * a new number is inserted, a known one takes the row's name and phone number. Where
+     * a number repeats within the request, the last row wins. Invalid rows are rejected
+     * as in {@link #loadContacts(Long, Iterator)}.
+     *
+     * @param addressBookId the book to upsert into
+     * @param contacts      the contacts, typically parsed lazily from the request body
+     */
+    ContactUpsertResponse upsertContacts(Long addressBookId, Iterator<ContactRequest> contacts);
+}
@@ -0,0 +1,184 @@
+package com.project.services.contact;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.Cache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.dto.contact.ContactBulkLoadResponse;
+import com.project.dto.contact.ContactRequest;
+import com.project.dto.contact.ContactUpsertResponse;
+import com.project.entity.addressbook.AddressBook;
+import com.project.entity.contact.Contact;
+import com.project.exception.ResourceNotFoundException;
+import com.project.repository.addressbook.AddressBookRepository;
+import com.project.repository.contact.ContactBulkLoadRepository;
+import com.project.repository.contact.ContactBulkLoadRepository.Upsert;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ContactBulkLoadServiceImpl implements ContactBulkLoadService {
+
+    private static final String CONTACTS_ROLE = AddressBook.class.getName() + ".contacts";
+
+    private final AddressBookRepository addressBookRepository;
+    private final ContactBulkLoadRepository contactBulkLoadRepository;
+    private final ContactCountService contactCountService;
+    private final UniqueContactIndexService uniqueContactIndexService;
+    private final PhoneLookupService phoneLookupService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public ContactBulkLoadResponse loadContacts(Long addressBookId, Iterator<ContactRequest> contacts) {
+        log.info("Bulk loading contacts into address book: {}", addressBookId);
+        long start = System.nanoTime();
+
+        if (!addressBookRepository.existsById(addressBookId)) {
+            throw new ResourceNotFoundException("Address book not found with id: " + addressBookId);
+        }
+
+        ValidContacts validContacts = new ValidContacts(contacts);
+        contactBulkLoadRepository.createStagingTable();
+        long staged = contactBulkLoadRepository.stage(validContacts);
+        int inserted = contactBulkLoadRepository.mergeInto(addressBookId);
+        if (inserted > 0) {
+            contactCountService.adjust(addressBookId, inserted);
+            uniqueContactIndexService.contactsLoaded();
+            phoneLookupService.contactsLoaded(addressBookId);
+            evictCachedContactIds(addressBookId);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk loaded {} of {} contacts into address book {} in {} ms ({} rejected)",
+                inserted, validContacts.received, addressBookId, elapsedMillis, validContacts.rejected);
+        return ContactBulkLoadResponse.builder()
+                .addressBookId(addressBookId)
+                .received(validContacts.received)
+                .inserted(inserted)
+                .duplicates(staged - inserted)
+                .rejected(validContacts.rejected)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    @Override
+    public ContactUpsertResponse upsertContacts(Long addressBookId, Iterator<ContactRequest> contacts) {
+        log.info("Bulk upserting contacts into address book: {}", addressBookId);
+        long start = System.nanoTime();
+
+        if (!addressBookRepository.existsById(addressBookId)) {
+            throw new ResourceNotFoundException("Address book not found with id: " + addressBookId);
+        }
+
+        ValidContacts validContacts = new ValidContacts(contacts);
+        contactBulkLoadRepository.createStagingTable();
+        long staged = contactBulkLoadRepository.stage(validContacts);
+        long distinct = staged == 0 ? 0 : contactBulkLoadRepository.countStagedPhoneKeys();
+        Upsert upsert = contactBulkLoadRepository.upsertInto(addressBookId);
+        if (upsert.inserted() > 0) {
+            contactCountService.adjust(addressBookId, upsert.inserted());
+            // Updated rows keep their ids, so only the inserted ones match a staged id
+            uniqueContactIndexService.contactsLoaded();
+            phoneLookupService.contactsLoaded(addressBookId);
+            evictCachedContactIds(addressBookId);
+        }
+        if (!upsert.updatedIds().isEmpty()) {
+            evictCachedContacts(upsert.updatedIds());
+        }
+
+        long updated = upsert.updatedIds().size();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk upserted {} contacts into address book {} in {} ms ({} inserted, {} updated, {} rejected)",
+                validContacts.received, addressBookId, elapsedMillis, upsert.inserted(), updated,
+                validContacts.rejected);
+        return ContactUpsertResponse.builder()
+                .addressBookId(addressBookId)
+                .received(validContacts.received)
+                .inserted(upsert.inserted())
+                .updated(updated)
+                .unchanged(distinct - upsert.inserted() - updated)
+                .duplicates(staged - distinct)
+                .rejected(validContacts.rejected)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * The load bypasses Hibernate, so the book's cached contact ids are dropped now and
+     * again after commit, when a concurrent reader may have cached the old list.
+     */
+    private void evictCachedContactIds(Long addressBookId) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictCollectionData(CONTACTS_ROLE, addressBookId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictCollectionData(CONTACTS_ROLE, addressBookId);
+            }
+        });
+    }
+
+    /**
+     * Drops updated contacts from the second-level cache, now and again after commit.
+     */
+    private void evictCachedContacts(List<Long> contactIds) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        contactIds.forEach(id -> cache.evictEntityData(Contact.class, id));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contactIds.forEach(id -> cache.evictEntityData(Contact.class, id));
+            }
+        });
+    }
+
+    /**
+     * Passes valid contacts through and counts what it has seen.
+     */
+    private static final class ValidContacts implements Iterator<ContactRequest> {
+
+        private final Iterator<ContactRequest> source;
+        private ContactRequest next;
+        private long received;
+        private long rejected;
+
+        private ValidContacts(Iterator<ContactRequest> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && source.hasNext()) {
+                ContactRequest candidate = source.next();
+                received++;
+                if (ContactRows.validationError(candidate) == null) {
+                    next = candidate;
+                } else {
+                    rejected++;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ContactRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ContactRequest contact = next;
+            next = null;
+            return contact;
+        }
+    }
+}
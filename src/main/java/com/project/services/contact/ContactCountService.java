@@ -0,0 +1,26 @@
+package com.project.services.contact;
+
+public interface ContactCountService {
+
+    /**
+     * Creates the counter stripes of a newly saved address book.
+     *
+     * @param addressBookId the id of the saved address book
+     * @param initialCount  number of contacts saved with the book
+     */
+    void initialize(Long addressBookId, long initialCount);
+
+    /**
+     * Adds {@code delta} (negative for removals) to the book's count in the current
+     * transaction.
+     */
+    void adjust(Long addressBookId, long delta);
+
+    long getCount(Long addressBookId);
+
+    /**
+     * Replaces every book's counters with one holding its current number of contacts, in
+     * the current transaction. For contacts written outside this service, e.g. a restore.
+     */
+    void rebuild();
+}
@@ -0,0 +1,92 @@
+package com.project.services.contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.entity.addressbook.ContactCountStripe;
+import com.project.repository.addressbook.ContactCountStripeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ContactCountServiceImpl implements ContactCountService, SmartInitializingSingleton {
+
+    static final int STRIPES = 8;
+
+    private final ContactCountStripeRepository stripeRepository;
+
+    @Override
+    public void initialize(Long addressBookId, long initialCount) {
+        List<ContactCountStripe> stripes = new ArrayList<>(STRIPES);
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            stripes.add(ContactCountStripe.builder()
+                    .addressBookId(addressBookId)
+                    .stripe(stripe)
+                    .contactCount(stripe == 0 ? initialCount : 0L)
+                    .build());
+        }
+        stripeRepository.saveAll(stripes);
+    }
+
+    @Override
+    public void adjust(Long addressBookId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        if (stripeRepository.addToStripe(addressBookId, stripe, delta) == 0) {
+            log.warn("No contact counter stripe {} for address book {}; count not adjusted by {}",
+                    stripe, addressBookId, delta);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getCount(Long addressBookId) {
+        return stripeRepository.sumByAddressBookId(addressBookId);
+    }
+
+    @Override
+    public void rebuild() {
+        stripeRepository.deleteAllInBatch();
+        createMissingStripes();
+    }
+
+    /**
+     * Creates counters for books saved before counters existed, once every singleton is
+     * built and before the web server starts, so no request can adjust a book that has
+     * no stripes yet. Safe to run on several replicas at once. Each statement commits on
+     * its own so a conflicting replica only loses that statement.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void afterSingletonsInstantiated() {
+        try {
+            int books = createMissingStripes();
+            if (books > 0) {
+                log.info("Backfilled contact counters for {} address books", books);
+            }
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Contact counters were backfilled concurrently by another instance");
+        }
+    }
+
+    private int createMissingStripes() {
+        int books = stripeRepository.insertMissingBaseStripes();
+        for (int stripe = 1; stripe < STRIPES; stripe++) {
+            stripeRepository.insertMissingStripes(stripe);
+        }
+        return books;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.services.contact;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -10,6 +11,7 @@ import com.project.dto.contact.ContactRequest;
 import com.project.entity.addressbook.AddressBook;
 import com.project.entity.contact.Contact;
 import com.project.exception.DuplicateContactException;
+import com.project.util.PhoneNumbers;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,25 +24,33 @@ public class ContactCreationServiceImpl implements ContactCreationService {
     public void addContactsToAddressBook(AddressBook addressBook, List<ContactRequest> contacts) {
         log.info("Adding {} contacts to address book: {}", contacts.size(), addressBook.getName());
 
-        validateNoDuplicatePhoneNumbers(contacts);
+        Set<Contact> existing = addressBook.getContacts();
+        Set<String> phoneKeys = new HashSet<>(capacityFor(contacts.size()));
+        List<Contact> pending = new ArrayList<>(contacts.size());
 
+        // Validate the whole batch before attaching anything, so a duplicate leaves the book
+        // untouched. Each contact is keyed once here, so set lookups hash the key rather than
+        // normalize the number again on every probe.
         for (ContactRequest contactRequest : contacts) {
+            String phoneKey = PhoneNumbers.normalize(contactRequest.getPhoneNumber());
             Contact contact = Contact.builder()
                     .name(contactRequest.getName())
                     .phoneNumber(contactRequest.getPhoneNumber())
+                    .phoneKey(phoneKey)
                     .addressBook(addressBook)
                     .build();
-            addressBook.getContacts().add(contact);
-        }
-    }
-
-    private void validateNoDuplicatePhoneNumbers(List<ContactRequest> contacts) {
-        Set<String> phoneNumbers = new HashSet<>();
-        for (ContactRequest contactRequest : contacts) {
-            if (!phoneNumbers.add(contactRequest.getPhoneNumber())) {
+            if (!phoneKeys.add(phoneKey)
+                    || existing.contains(contact)) {
                 throw new DuplicateContactException(
                         "Duplicate phone number in request: " + contactRequest.getPhoneNumber());
             }
+            pending.add(contact);
         }
+
+        existing.addAll(pending);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
     }
 }
@@ -0,0 +1,31 @@
+package com.project.services.contact;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.project.dto.contact.ContactDataFormat;
+
+public interface ContactExportService {
+
+    /**
+     * Checks the book exists and returns an export of its contacts in id order, to be
+     * written later, typically from a streaming response body.
+     *
+     * @throws com.project.exception.ResourceNotFoundException if the book does not exist
+     */
+    ContactExport exportAddressBook(Long addressBookId, ContactDataFormat format);
+
+    /**
+     * Returns an export of every contact in every book, in id order.
+     */
+    ContactExport exportAllContacts(ContactDataFormat format);
+
+    /**
+     * Runs the query in its own read-only transaction and writes rows as they arrive, so
+     * heap use does not grow with the number of contacts.
+     */
+    @FunctionalInterface
+    interface ContactExport {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
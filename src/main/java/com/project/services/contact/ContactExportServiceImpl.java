@@ -0,0 +1,94 @@
+package com.project.services.contact;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.contact.ContactDataFormat;
+import com.project.entity.contact.Contact;
+import com.project.exception.ResourceNotFoundException;
+import com.project.repository.addressbook.AddressBookRepository;
+import com.project.repository.contact.ContactRepository;
+import com.project.util.ContactExportWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ContactExportServiceImpl implements ContactExportService {
+
+    private final AddressBookRepository addressBookRepository;
+    private final ContactRepository contactRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public ContactExport exportAddressBook(Long addressBookId, ContactDataFormat format) {
+        if (!addressBookRepository.existsById(addressBookId)) {
+            throw new ResourceNotFoundException("Address book not found with id: " + addressBookId);
+        }
+        return out -> export(format, out, "address book " + addressBookId,
+                () -> contactRepository.streamByAddressBookId(addressBookId));
+    }
+
+    @Override
+    public ContactExport exportAllContacts(ContactDataFormat format) {
+        return out -> export(format, out, "all address books", contactRepository::streamAll);
+    }
+
+    /**
+     * Runs on the response thread, after this service's transaction has ended, so it opens
+     * its own. Each contact is detached once written, and the second-level cache is left
+     * alone, so nothing accumulates however many contacts are streamed.
+     */
+    private void export(ContactDataFormat format, OutputStream out, String source,
+            Supplier<Stream<Contact>> query) throws IOException {
+        log.info("Exporting contacts of {} as {}", source, format);
+        long start = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        long exported;
+        try {
+            exported = transaction.execute(status -> {
+                long count = 0;
+                Session session = entityManager.unwrap(Session.class);
+                CacheMode cacheMode = session.getCacheMode();
+                session.setCacheMode(CacheMode.IGNORE);
+                try (Stream<Contact> contacts = query.get();
+                        ContactExportWriter writer = ContactExportWriter.of(format, out, objectMapper)) {
+                    for (Contact contact : (Iterable<Contact>) contacts::iterator) {
+                        writer.write(contact);
+                        entityManager.detach(contact);
+                        count++;
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                } finally {
+                    session.setCacheMode(cacheMode);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} contacts of {} in {} ms", exported, source, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.services.contact;
+
+import java.io.Reader;
+
+import com.project.dto.contact.ContactDataFormat;
+import com.project.dto.contact.ContactImportResponse;
+
+public interface ContactImportService {
+
+    /**
+     * Imports a CSV or NDJSON body into an existing address book as it is read. Rows that
+     * fail to parse or validate are reported with their line and skipped; phone numbers
+     * the book already has, or that repeat within the import, are skipped. Valid rows are
+     * committed in batches, so a failure part-way keeps the batches written before it.
+     *
+     * @param addressBookId the book to import into
+     * @param format        how {@code body} is laid out
+     * @param body          the body, read once and never buffered as a whole
+     */
+    ContactImportResponse importContacts(Long addressBookId, ContactDataFormat format, Reader body);
+}
@@ -0,0 +1,365 @@
+package com.project.services.contact;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.config.ContactImportConfig;
+import com.project.config.ContactImportProperties;
+import com.project.dto.contact.ContactBulkLoadResponse;
+import com.project.dto.contact.ContactImportError;
+import com.project.dto.contact.ContactDataFormat;
+import com.project.dto.contact.ContactImportResponse;
+import com.project.dto.contact.ContactRequest;
+import com.project.exception.MalformedContactDataException;
+import com.project.exception.ResourceNotFoundException;
+import com.project.repository.addressbook.AddressBookRepository;
+import com.project.util.ContactRecordReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs an import as a pipeline. The calling thread reads the body into chunks of records
+ * and queues them for a shared pool of workers, which parse, normalize and validate each
+ * chunk. The calling thread takes the chunks back in order, gathers the valid rows into
+ * batches and hands each full batch to the import's writer thread, which commits it
+ * through {@link ContactBulkLoadService} while reading and parsing go on; the bulk load's
+ * merge skips duplicates. At most {@code maxChunksInFlight} chunks and
+ * {@code maxBatchesInFlight} batches are queued, so the reader waits when the workers or
+ * the writer fall behind and memory stays flat whatever the size of the body.
+ *
+ * <p>Not {@code @Transactional}: each batch commits on its own.
+ */
+@Service
+@Slf4j
+public class ContactImportServiceImpl implements ContactImportService {
+
+    /** How often a reader waiting on a full queue checks that the writer is still running. */
+    private static final long HAND_OFF_CHECK_MILLIS = 100;
+
+    private final AddressBookRepository addressBookRepository;
+    private final ContactBulkLoadService contactBulkLoadService;
+    private final ContactImportProperties properties;
+    private final ObjectReader contactReader;
+    private final AsyncTaskExecutor workers;
+    private final AsyncTaskExecutor writers;
+
+    public ContactImportServiceImpl(AddressBookRepository addressBookRepository,
+            ContactBulkLoadService contactBulkLoadService, ContactImportProperties properties,
+            ObjectMapper objectMapper, @Qualifier(ContactImportConfig.IMPORT_EXECUTOR) AsyncTaskExecutor workers,
+            @Qualifier(ContactImportConfig.IMPORT_WRITER_EXECUTOR) AsyncTaskExecutor writers) {
+        this.addressBookRepository = addressBookRepository;
+        this.contactBulkLoadService = contactBulkLoadService;
+        this.properties = properties;
+        this.contactReader = objectMapper.readerFor(ContactRequest.class);
+        this.workers = workers;
+        this.writers = writers;
+    }
+
+    @Override
+    public ContactImportResponse importContacts(Long addressBookId, ContactDataFormat format, Reader body) {
+        log.info("Importing {} contacts into address book: {}", format, addressBookId);
+        long start = System.nanoTime();
+
+        if (!addressBookRepository.existsById(addressBookId)) {
+            throw new ResourceNotFoundException("Address book not found with id: " + addressBookId);
+        }
+
+        ContactRecordReader records = new ContactRecordReader(body, format == ContactDataFormat.CSV,
+                properties.getMaxRowLength());
+        RowParser parser = format == ContactDataFormat.CSV ? csvParser(records) : this::parseJson;
+        Writer writer = new Writer(addressBookId);
+        Batches batches = new Batches(writer, writers.submit(writer));
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        Written written;
+        try {
+            boolean more = true;
+            while (more || !inFlight.isEmpty()) {
+                while (more && inFlight.size() < properties.getMaxChunksInFlight()) {
+                    List<ContactRecordReader.Record> chunk = readChunk(records);
+                    more = chunk.size() == properties.getChunkSize();
+                    if (!chunk.isEmpty()) {
+                        inFlight.add(workers.submit(() -> parse(chunk, parser)));
+                    }
+                }
+                if (!inFlight.isEmpty()) {
+                    batches.add(await(inFlight.poll()));
+                }
+            }
+            batches.flush();
+            written = batches.finish();
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+            batches.abandon();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} of {} contacts into address book {} in {} ms ({} duplicates, {} rejected)",
+                written.imported(), batches.rows, addressBookId, elapsedMillis, written.duplicates(), batches.rejected);
+        return ContactImportResponse.builder()
+                .addressBookId(addressBookId)
+                .rows(batches.rows)
+                .imported(written.imported())
+                .duplicates(written.duplicates())
+                .rejected(batches.rejected)
+                .errors(batches.errors)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private List<ContactRecordReader.Record> readChunk(ContactRecordReader records) {
+        List<ContactRecordReader.Record> chunk = new ArrayList<>(properties.getChunkSize());
+        try {
+            ContactRecordReader.Record record;
+            while (chunk.size() < properties.getChunkSize() && (record = records.next()) != null) {
+                chunk.add(record);
+            }
+        } catch (IOException ex) {
+            throw new MalformedContactDataException("Could not read the import body", ex);
+        }
+        return chunk;
+    }
+
+    /**
+     * Worker stage: parse, normalize and validate one chunk.
+     */
+    private ParsedChunk parse(List<ContactRecordReader.Record> chunk, RowParser parser) {
+        List<ContactRequest> contacts = new ArrayList<>(chunk.size());
+        List<ContactImportError> errors = new ArrayList<>();
+        int rows = 0;
+        for (ContactRecordReader.Record record : chunk) {
+            String error;
+            if (record.isTooLong()) {
+                error = "Row is longer than " + properties.getMaxRowLength() + " characters";
+            } else if (record.text().isBlank()) {
+                continue;
+            } else {
+                try {
+                    ContactRequest contact = ContactRows.normalize(parser.parse(record.text()));
+                    error = ContactRows.validationError(contact);
+                    if (error == null) {
+                        contacts.add(contact);
+                    }
+                } catch (IllegalArgumentException ex) {
+                    error = ex.getMessage();
+                }
+            }
+            rows++;
+            if (error != null) {
+                errors.add(new ContactImportError(record.line(), error));
+            }
+        }
+        return new ParsedChunk(rows, contacts, errors);
+    }
+
+    private ContactRequest parseJson(String text) {
+        try {
+            return contactReader.readValue(text);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads the header row, which must name the {@code name} and {@code phoneNumber}
+     * columns in any order and case; {@code phone} and {@code phone_number} also match.
+     */
+    private static RowParser csvParser(ContactRecordReader records) {
+        ContactRecordReader.Record header;
+        try {
+            do {
+                header = records.next();
+            } while (header != null && !header.isTooLong() && header.text().isBlank());
+        } catch (IOException ex) {
+            throw new MalformedContactDataException("Could not read the import body", ex);
+        }
+        if (header == null) {
+            return text -> null;
+        }
+        int nameColumn = -1;
+        int phoneColumn = -1;
+        if (!header.isTooLong()) {
+            List<String> columns = ContactRecordReader.splitCsv(header.text().replace("\uFEFF", ""));
+            for (int i = 0; i < columns.size(); i++) {
+                String column = columns.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT);
+                if (column.equals("name")) {
+                    nameColumn = i;
+                } else if (column.equals("phonenumber") || column.equals("phone")) {
+                    phoneColumn = i;
+                }
+            }
+        }
+        if (nameColumn < 0 || phoneColumn < 0) {
+            throw new MalformedContactDataException("CSV header must name the columns name and phoneNumber", null);
+        }
+        int name = nameColumn;
+        int phone = phoneColumn;
+        return text -> {
+            List<String> fields = ContactRecordReader.splitCsv(text);
+            return ContactRequest.builder()
+                    .name(name < fields.size() ? fields.get(name) : null)
+                    .phoneNumber(phone < fields.size() ? fields.get(phone) : null)
+                    .build();
+        };
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing contacts", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Contact import worker failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Turns one record into a contact.
+     *
+     * @throws IllegalArgumentException with the reason the record cannot be parsed
+     */
+    @FunctionalInterface
+    private interface RowParser {
+        ContactRequest parse(String text);
+    }
+
+    private record ParsedChunk(int rows, List<ContactRequest> contacts, List<ContactImportError> errors) {
+    }
+
+    private record Written(long imported, long duplicates) {
+    }
+
+    /**
+     * Gathers valid rows into batches and keeps the row totals, on the calling thread. An
+     * empty batch tells the writer the import is done.
+     */
+    private final class Batches {
+
+        private final Writer writer;
+        private final Future<Written> written;
+        private final List<ContactImportError> errors = new ArrayList<>();
+        private List<ContactRequest> batch = new ArrayList<>();
+        private long rows;
+        private long rejected;
+
+        private Batches(Writer writer, Future<Written> written) {
+            this.writer = writer;
+            this.written = written;
+        }
+
+        void add(ParsedChunk chunk) {
+            rows += chunk.rows();
+            rejected += chunk.errors().size();
+            for (ContactImportError error : chunk.errors()) {
+                if (errors.size() == properties.getMaxReportedErrors()) {
+                    break;
+                }
+                errors.add(error);
+            }
+            for (ContactRequest contact : chunk.contacts()) {
+                batch.add(contact);
+                if (batch.size() == properties.getBatchSize()) {
+                    flush();
+                }
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            handOff(batch);
+            batch = new ArrayList<>();
+        }
+
+        /**
+         * Waits for the writer to commit every batch handed to it.
+         */
+        Written finish() {
+            handOff(List.of());
+            return await(written);
+        }
+
+        /**
+         * Stops the writer after the batch it is committing, if the import failed before
+         * {@link #finish()}, so nothing is written after the response.
+         */
+        void abandon() {
+            if (written.isDone()) {
+                return;
+            }
+            writer.queue.clear();
+            writer.queue.offer(List.of());
+            try {
+                written.get();
+            } catch (InterruptedException ex) {
+                written.cancel(true);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                // The import is already failing with the exception that stopped the reader
+            }
+        }
+
+        private void handOff(List<ContactRequest> contacts) {
+            try {
+                while (!writer.queue.offer(contacts, HAND_OFF_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (written.isDone()) {
+                        await(written);
+                        throw new IllegalStateException("Contact import writer stopped early");
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while importing contacts", ex);
+            }
+        }
+    }
+
+    /**
+     * Writer stage: commits each batch through the bulk loader, a transaction per batch,
+     * and counts what was inserted and what the merge skipped as a duplicate.
+     */
+    private final class Writer implements Callable<Written> {
+
+        private final Long addressBookId;
+        private final BlockingQueue<List<ContactRequest>> queue =
+                new ArrayBlockingQueue<>(properties.getMaxBatchesInFlight());
+
+        private Writer(Long addressBookId) {
+            this.addressBookId = addressBookId;
+        }
+
+        @Override
+        public Written call() throws InterruptedException {
+            long imported = 0;
+            long duplicates = 0;
+            for (List<ContactRequest> batch = queue.take(); !batch.isEmpty(); batch = queue.take()) {
+                ContactBulkLoadResponse loaded = contactBulkLoadService.loadContacts(addressBookId, batch.iterator());
+                imported += loaded.getInserted();
+                duplicates += loaded.getDuplicates();
+            }
+            return new Written(imported, duplicates);
+        }
+    }
+}
@@ -1,25 +1,68 @@
 package com.project.services.contact;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.project.dto.contact.ContactExistsResponse;
 import com.project.dto.contact.ContactResponse;
+import com.project.dto.response.CursorResponse;
 import com.project.dto.response.PagedResponse;
 
 public interface ContactReadService {
 
     ContactResponse getContactById(Long addressBookId, Long contactId);
 
+    /**
+     * The contact with only the comma-separated {@code fields}, read by a query that
+     * selects just those columns; the same holds for the other {@code fields} variants.
+     */
+    Map<String, Object> getContactById(Long addressBookId, Long contactId, String fields);
+
     List<ContactResponse> getAllContacts(Long addressBookId);
 
     PagedResponse<ContactResponse> getAllContactsPaged(Long addressBookId, Pageable pageable);
 
+    PagedResponse<Map<String, Object>> getAllContactsPaged(Long addressBookId, Pageable pageable, String fields);
+
+    /**
+     * Keyset page of a book's contacts. With no cursor the first page is returned in
+     * {@code order}; with a cursor the order it was issued for is used.
+     */
+    CursorResponse<ContactResponse> getContactsByCursor(Long addressBookId, String cursor, int limit,
+            Sort.Order order);
+
+    CursorResponse<Map<String, Object>> getContactsByCursor(Long addressBookId, String cursor, int limit,
+            Sort.Order order, String fields);
+
     List<ContactResponse> getUniqueContactsAcrossAllAddressBooks();
 
     PagedResponse<ContactResponse> getUniqueContactsPaged(Pageable pageable);
 
+    PagedResponse<Map<String, Object>> getUniqueContactsPaged(Pageable pageable, String fields);
+
+    CursorResponse<ContactResponse> getUniqueContactsByCursor(String cursor, int limit, Sort.Order order);
+
+    CursorResponse<Map<String, Object>> getUniqueContactsByCursor(String cursor, int limit, Sort.Order order,
+            String fields);
+
+    /**
+     * Keyset page of contacts in any book whose name contains {@code name}, ignoring case.
+     */
+    CursorResponse<ContactResponse> searchContacts(String name, String cursor, int limit, Sort.Order order);
+
+    CursorResponse<ContactResponse> searchContactsInAddressBook(Long addressBookId, String name, String cursor,
+            int limit, Sort.Order order);
+
     long getContactCount(Long addressBookId);
 
+    /**
+     * Checks which of the phone numbers the book already holds, with one query however
+     * many are given.
+     */
+    ContactExistsResponse findExistingPhoneNumbers(Long addressBookId, List<String> phoneNumbers);
+
     long getUniqueContactCount();
 }
@@ -0,0 +1,55 @@
+package com.project.services.contact;
+
+import com.project.dto.contact.ContactRequest;
+import com.project.entity.contact.Contact;
+import com.project.util.PhoneNumbers;
+
+/**
+ * Row checks for the bulk paths, which bypass bean validation. They apply the same rules
+ * as {@link ContactRequest} and the {@link Contact} phone number pattern, with the same
+ * messages.
+ */
+final class ContactRows {
+
+    static final int MAX_NAME_LENGTH = 255;
+
+    private ContactRows() {
+    }
+
+    /**
+     * @return the first rule the contact breaks, or {@code null} if it is valid
+     */
+    static String validationError(ContactRequest contact) {
+        if (contact == null) {
+            return "Row is not a contact";
+        }
+        if (contact.getName() == null || contact.getName().isBlank()) {
+            return "Contact name is required";
+        }
+        if (contact.getName().length() > MAX_NAME_LENGTH) {
+            return "Contact name must be at most " + MAX_NAME_LENGTH + " characters";
+        }
+        if (contact.getPhoneNumber() == null || contact.getPhoneNumber().isBlank()) {
+            return "Phone number is required";
+        }
+        if (!PhoneNumbers.isValid(contact.getPhoneNumber())) {
+            return Contact.PHONE_NUMBER_MESSAGE;
+        }
+        return null;
+    }
+
+    /**
+     * Strips surrounding whitespace from the name and phone number, in place.
+     */
+    static ContactRequest normalize(ContactRequest contact) {
+        if (contact != null) {
+            contact.setName(strip(contact.getName()));
+            contact.setPhoneNumber(strip(contact.getPhoneNumber()));
+        }
+        return contact;
+    }
+
+    private static String strip(String value) {
+        return value == null ? null : value.strip();
+    }
+}
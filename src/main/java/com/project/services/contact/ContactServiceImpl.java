@@ -3,26 +3,51 @@ package com.project.services.contact;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dto.contact.ContactExistsResponse;
 import com.project.dto.contact.ContactRequest;
 import com.project.dto.contact.ContactResponse;
+import com.project.dto.response.CursorResponse;
 import com.project.dto.response.PagedResponse;
 import com.project.entity.addressbook.AddressBook;
 import com.project.entity.contact.Contact;
 import com.project.exception.DuplicateContactException;
+import com.project.exception.InvalidCursorException;
 import com.project.exception.ResourceNotFoundException;
 import com.project.mapper.contact.EntityMapper;
 import com.project.repository.addressbook.AddressBookRepository;
 import com.project.repository.contact.ContactRepository;
+import com.project.repository.contact.ContactRepositoryCustom;
+import com.project.repository.contact.ContactSpecifications;
+import com.project.repository.contact.PhoneLookupRepository;
+import com.project.util.ConstraintViolations;
+import com.project.util.CursorCodec;
+import com.project.util.FieldSelection;
 import com.project.util.PaginationHelper;
+import com.project.util.PhoneNumbers;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -30,17 +55,27 @@ import java.util.stream.Collectors;
 @Transactional
 public class ContactServiceImpl implements ContactService {
 
+    private static final int ID_CHUNK_SIZE = 1_000;
+    private static final int DELETE_CHUNK_SIZE = 10_000;
+    private static final String ID = "id";
+    /** Sort keys with an (address_book_id, key, id) seek index; others would sort the whole book per page. */
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of(ID, "name");
+
     private final ContactRepository contactRepository;
     private final AddressBookRepository addressBookRepository;
     private final EntityMapper<Contact, ContactResponse> contactMapper;
     private final PaginationHelper paginationHelper;
+    private final CursorCodec cursorCodec;
+    private final ContactCountService contactCountService;
+    private final UniqueContactIndexService uniqueContactIndexService;
+    private final PhoneLookupService phoneLookupService;
+    private final PhoneLookupRepository phoneLookupRepository;
 
     @Override
     public ContactResponse addContact(Long addressBookId, ContactRequest request) {
         log.info("Adding contact to address book: {}", addressBookId);
 
         AddressBook addressBook = findAddressBookById(addressBookId);
-        validateUniquePhoneNumber(request.getPhoneNumber(), addressBookId);
 
         Contact contact = Contact.builder()
                 .name(request.getName())
@@ -48,14 +83,27 @@ public class ContactServiceImpl implements ContactService {
                 .addressBook(addressBook)
                 .build();
 
-        Contact savedContact = contactRepository.save(contact);
+        Contact savedContact = saveUnique(contact);
+        contactCountService.adjust(addressBookId, 1);
+        uniqueContactIndexService.contactAdded(savedContact.getPhoneKey(), savedContact.getId());
+        phoneLookupService.contactAdded(savedContact.getPhoneKey(), addressBookId);
         return contactMapper.mapToResponse(savedContact);
     }
 
-    private void validateUniquePhoneNumber(String phoneNumber, Long addressBookId) {
-        if (contactRepository.existsByPhoneNumberAndAddressBookId(phoneNumber, addressBookId)) {
-            throw new DuplicateContactException(
-                    "Contact with phone number " + phoneNumber + " already exists in this address book");
+    /**
+     * Writes the contact at once and lets the unique constraint on (phone_key,
+     * address_book_id) catch a duplicate. Checking first would cost a query per write
+     * and still let two concurrent writes of one number both pass.
+     */
+    private Contact saveUnique(Contact contact) {
+        try {
+            return contactRepository.saveAndFlush(contact);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, ConstraintViolations.CONTACT_PHONE_KEY)) {
+                throw new DuplicateContactException("Contact with phone number " + contact.getPhoneNumber()
+                        + " already exists in this address book");
+            }
+            throw ex;
         }
     }
 
@@ -63,22 +111,29 @@ public class ContactServiceImpl implements ContactService {
     @Transactional(readOnly = true)
     public ContactResponse getContactById(Long addressBookId, Long contactId) {
         log.info("Fetching contact {} from address book {}", contactId, addressBookId);
-        Contact contact = contactRepository.findByIdAndAddressBookId(contactId, addressBookId)
-                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+        Contact contact = findContact(addressBookId, contactId);
         return contactMapper.mapToResponse(contact);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getContactById(Long addressBookId, Long contactId, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ContactRepositoryCustom.FIELDS);
+        log.info("Fetching fields {} of contact {} from address book {}", selection, contactId, addressBookId);
+        return contactRepository.findFieldsBy(ContactSpecifications.withId(contactId)
+                .and(ContactSpecifications.inAddressBook(addressBookId)), selection, Pageable.unpaged())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ContactResponse> getAllContacts(Long addressBookId) {
         log.warn("Using non-paginated getAllContacts - consider using paginated version");
-        findAddressBookById(addressBookId);
 
         Pageable limitedPage = PageRequest.of(0, paginationHelper.getMaxPageSize());
-        return contactRepository.findByAddressBookId(addressBookId, limitedPage)
-                .getContent().stream()
-                .map(contactMapper::mapToResponse)
-                .collect(Collectors.toList());
+        return new ArrayList<>(findContactResponses(addressBookId, limitedPage).getContent());
     }
 
     @Override
@@ -87,57 +142,124 @@ public class ContactServiceImpl implements ContactService {
         log.info("Fetching contacts for address book: {} - page: {}, size: {}",
                 addressBookId, pageable.getPageNumber(), pageable.getPageSize());
 
+        Pageable safePageable = paginationHelper.sanitizePageable(pageable);
+        Page<ContactResponse> page = findContactResponses(addressBookId, safePageable);
+
+        return paginationHelper.createPagedResponse(page, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> getAllContactsPaged(Long addressBookId, Pageable pageable,
+            String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ContactRepositoryCustom.FIELDS);
+        log.info("Fetching fields {} of contacts for address book: {} - page: {}, size: {}",
+                selection, addressBookId, pageable.getPageNumber(), pageable.getPageSize());
+
         findAddressBookById(addressBookId);
 
         Pageable safePageable = paginationHelper.sanitizePageable(pageable);
-        Page<Contact> page = contactRepository.findByAddressBookId(addressBookId, safePageable);
+        Page<Map<String, Object>> page = PageableExecutionUtils.getPage(
+                contactRepository.findFieldsBy(ContactSpecifications.inAddressBook(addressBookId), selection,
+                        safePageable),
+                safePageable, () -> contactCountService.getCount(addressBookId));
+
+        return paginationHelper.createPagedResponse(page, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ContactResponse> getContactsByCursor(Long addressBookId, String cursor, int limit,
+            Sort.Order order) {
+        log.info("Fetching contacts for address book: {} - cursor: {}, limit: {}",
+                addressBookId, cursor != null, limit);
+
+        findAddressBookById(addressBookId);
 
-        return paginationHelper.createPagedResponse(page, contactMapper::mapToResponse);
+        CursorCodec.Cursor start = resolveCursor(cursor, order);
+        int safeLimit = paginationHelper.sanitizeLimit(limit);
+        Window<Contact> window = contactRepository.findByAddressBookId(addressBookId,
+                start.position(), seekSort(start.order()), Limit.of(safeLimit));
+
+        return createCursorResponse(window, safeLimit, start.order(), contactMapper::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<Map<String, Object>> getContactsByCursor(Long addressBookId, String cursor, int limit,
+            Sort.Order order, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ContactRepositoryCustom.FIELDS);
+        log.info("Fetching fields {} of contacts for address book: {} - cursor: {}, limit: {}",
+                selection, addressBookId, cursor != null, limit);
+
+        findAddressBookById(addressBookId);
+        return scrollContactFields(ContactSpecifications.inAddressBook(addressBookId), selection, cursor, limit,
+                order);
     }
 
     @Override
     public void removeContact(Long addressBookId, Long contactId) {
         log.info("Removing contact {} from address book {}", contactId, addressBookId);
-        Contact contact = contactRepository.findByIdAndAddressBookId(contactId, addressBookId)
-                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+        Contact contact = findContact(addressBookId, contactId);
+        uniqueContactIndexService.removeContact(contact.getPhoneKey(), contact.getId());
         contactRepository.delete(contact);
+        contactCountService.adjust(addressBookId, -1);
+        uniqueContactIndexService.settle();
+        phoneLookupService.contactRemoved(contact.getPhoneKey(), addressBookId);
     }
 
     @Override
     public ContactResponse updateContact(Long addressBookId, Long contactId, ContactRequest request) {
         log.info("Updating contact {} in address book {}", contactId, addressBookId);
 
-        Contact existingContact = contactRepository.findByIdAndAddressBookId(contactId, addressBookId)
-                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+        Contact existingContact = findContact(addressBookId, contactId);
 
-        // Check if phone number is being changed and if new phone number already exists
-        if (!existingContact.getPhoneNumber().equals(request.getPhoneNumber())) {
-            validateUniquePhoneNumber(request.getPhoneNumber(), addressBookId);
+        // A change of formatting alone keeps the key and the indexes. So does a contact the
+        // backfill left unkeyed: its null key stays until the digits change, rather than
+        // being derived on an unrelated edit and colliding with the book's other contact
+        String previousPhoneKey = existingContact.getPhoneKey();
+        String phoneKey = PhoneNumbers.normalize(request.getPhoneNumber());
+        boolean phoneKeyChanged = !phoneKey.equals(PhoneNumbers.normalize(existingContact.getPhoneNumber()));
+        if (phoneKeyChanged && previousPhoneKey != null) {
+            uniqueContactIndexService.removeContact(previousPhoneKey, contactId);
         }
 
         existingContact.setName(request.getName());
-        existingContact.setPhoneNumber(request.getPhoneNumber());
-
-        Contact updatedContact = contactRepository.save(existingContact);
+        setPhoneNumber(existingContact, request.getPhoneNumber());
+
+        Contact updatedContact = saveUnique(existingContact);
+        if (phoneKeyChanged) {
+            uniqueContactIndexService.contactAdded(phoneKey, contactId);
+            uniqueContactIndexService.settle();
+            if (previousPhoneKey != null) {
+                phoneLookupService.contactRemoved(previousPhoneKey, addressBookId);
+            }
+            phoneLookupService.contactAdded(phoneKey, addressBookId);
+        }
         return contactMapper.mapToResponse(updatedContact);
     }
 
     @Override
     public int removeContacts(Long addressBookId, List<Long> contactIds) {
-        log.info("Removing {} contacts from address book {}", contactIds.size(), addressBookId);
         findAddressBookById(addressBookId);
 
         if (contactIds == null || contactIds.isEmpty()) {
             return 0;
         }
+        log.info("Removing {} contacts from address book {}", contactIds.size(), addressBookId);
 
-        // Find contacts that exist in this address book
-        List<Contact> contactsToDelete = contactRepository.findByIdInAndAddressBookId(contactIds, addressBookId);
-        int count = contactsToDelete.size();
-
-        if (!contactsToDelete.isEmpty()) {
-            contactRepository.deleteAll(contactsToDelete);
+        // Chunk the IN list to stay well below driver bind-parameter limits
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(contactIds));
+        int count = 0;
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            uniqueContactIndexService.removeContacts(addressBookId, chunk);
+            phoneLookupService.contactsRemoved(
+                    contactRepository.findPhoneKeysByIdInAndAddressBookId(chunk, addressBookId), addressBookId);
+            count += contactRepository.deleteByIdInAndAddressBookId(chunk, addressBookId);
         }
+        contactCountService.adjust(addressBookId, -count);
+        uniqueContactIndexService.settle();
 
         log.info("Deleted {} contacts from address book {}", count, addressBookId);
         return count;
@@ -148,11 +270,23 @@ public class ContactServiceImpl implements ContactService {
         log.info("Removing all contacts from address book {}", addressBookId);
         findAddressBookById(addressBookId);
 
-        long count = contactRepository.countByAddressBookId(addressBookId);
-        contactRepository.deleteByAddressBookId(addressBookId);
+        uniqueContactIndexService.removeAddressBook(addressBookId);
+        phoneLookupService.addressBookRemoved(addressBookId);
+
+        // Delete in bounded chunks so no single statement has to touch a whole large book
+        int count = 0;
+        int deleted;
+        do {
+            deleted = contactRepository.deleteChunkByAddressBookId(addressBookId, DELETE_CHUNK_SIZE);
+            count += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        // Subtract what was actually deleted rather than zeroing, so contacts added
+        // concurrently by other transactions stay counted
+        contactCountService.adjust(addressBookId, -count);
+        uniqueContactIndexService.settle();
 
         log.info("Deleted {} contacts from address book {}", count, addressBookId);
-        return (int) count;
+        return count;
     }
 
     @Override
@@ -161,11 +295,7 @@ public class ContactServiceImpl implements ContactService {
         log.warn("Using non-paginated getUniqueContacts - consider using paginated version");
 
         Pageable limitedPage = PageRequest.of(0, paginationHelper.getMaxPageSize());
-        Page<Contact> page = contactRepository.findUniqueContacts(limitedPage);
-
-        return page.getContent().stream()
-                .map(contactMapper::mapToResponse)
-                .collect(Collectors.toList());
+        return new ArrayList<>(contactRepository.findUniqueContactResponses(limitedPage).getContent());
     }
 
     @Override
@@ -175,16 +305,98 @@ public class ContactServiceImpl implements ContactService {
                 pageable.getPageNumber(), pageable.getPageSize());
 
         Pageable safePageable = paginationHelper.sanitizePageable(pageable);
-        Page<Contact> page = contactRepository.findUniqueContacts(safePageable);
+        Page<ContactResponse> page = contactRepository.findUniqueContactResponses(safePageable);
+
+        return paginationHelper.createPagedResponse(page, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> getUniqueContactsPaged(Pageable pageable, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ContactRepositoryCustom.FIELDS);
+        log.info("Fetching fields {} of unique contacts - page: {}, size: {}",
+                selection, pageable.getPageNumber(), pageable.getPageSize());
+
+        Pageable safePageable = paginationHelper.sanitizePageable(pageable);
+        Page<Map<String, Object>> page = PageableExecutionUtils.getPage(
+                contactRepository.findFieldsBy(ContactSpecifications.firstPerPhoneNumber(), selection, safePageable),
+                safePageable, contactRepository::countDistinctPhoneNumbers);
+
+        return paginationHelper.createPagedResponse(page, Function.identity());
+    }
 
-        return paginationHelper.createPagedResponse(page, contactMapper::mapToResponse);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ContactResponse> getUniqueContactsByCursor(String cursor, int limit, Sort.Order order) {
+        log.info("Fetching unique contacts - cursor: {}, limit: {}", cursor != null, limit);
+        return scrollContacts(ContactSpecifications.firstPerPhoneNumber(), cursor, limit, order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<Map<String, Object>> getUniqueContactsByCursor(String cursor, int limit,
+            Sort.Order order, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ContactRepositoryCustom.FIELDS);
+        log.info("Fetching fields {} of unique contacts - cursor: {}, limit: {}", selection, cursor != null, limit);
+        return scrollContactFields(ContactSpecifications.firstPerPhoneNumber(), selection, cursor, limit, order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ContactResponse> searchContacts(String name, String cursor, int limit, Sort.Order order) {
+        log.info("Searching contacts by name containing: {} - cursor: {}, limit: {}", name, cursor != null, limit);
+        return scrollContacts(ContactSpecifications.nameContains(name), cursor, limit, order);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ContactResponse> searchContactsInAddressBook(Long addressBookId, String name,
+            String cursor, int limit, Sort.Order order) {
+        log.info("Searching contacts in address book {} by name containing: {} - cursor: {}, limit: {}",
+                addressBookId, name, cursor != null, limit);
+        findAddressBookById(addressBookId);
+        return scrollContacts(ContactSpecifications.inAddressBook(addressBookId)
+                .and(ContactSpecifications.nameContains(name)), cursor, limit, order);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getContactCount(Long addressBookId) {
         findAddressBookById(addressBookId);
-        return contactRepository.countByAddressBookId(addressBookId);
+        return contactCountService.getCount(addressBookId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ContactExistsResponse findExistingPhoneNumbers(Long addressBookId, List<String> phoneNumbers) {
+        log.info("Checking {} phone numbers against address book {}", phoneNumbers.size(), addressBookId);
+        findAddressBookById(addressBookId);
+
+        // Each distinct number once, in request order, with its key
+        Map<String, String> phoneKeys = new LinkedHashMap<>();
+        Set<String> invalid = new LinkedHashSet<>();
+        for (String phoneNumber : phoneNumbers) {
+            if (PhoneNumbers.isValid(phoneNumber)) {
+                phoneKeys.put(phoneNumber, PhoneNumbers.normalize(phoneNumber));
+            } else {
+                invalid.add(phoneNumber);
+            }
+        }
+
+        Set<String> existingKeys = phoneKeys.isEmpty()
+                ? Set.of()
+                : new HashSet<>(phoneLookupRepository.findExistingPhoneKeys(addressBookId,
+                        new HashSet<>(phoneKeys.values())));
+        List<String> existing = phoneKeys.entrySet().stream()
+                .filter(entry -> existingKeys.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        return ContactExistsResponse.builder()
+                .addressBookId(addressBookId)
+                .requested(phoneNumbers.size())
+                .existing(existing)
+                .invalid(new ArrayList<>(invalid))
+                .build();
     }
 
     @Override
@@ -193,6 +405,119 @@ public class ContactServiceImpl implements ContactService {
         return contactRepository.countDistinctPhoneNumbers();
     }
 
+    /**
+     * Decodes the cursor, or starts from the top in the requested order when there is none.
+     * A cursor always wins over the request's sort so its keys match the seek predicate.
+     */
+    private CursorCodec.Cursor resolveCursor(String cursor, Sort.Order order) {
+        CursorCodec.Cursor start = cursor == null || cursor.isBlank()
+                ? new CursorCodec.Cursor(order, ScrollPosition.keyset())
+                : cursorCodec.decode(cursor);
+
+        String property = start.order().getProperty();
+        if (!CURSOR_SORT_FIELDS.contains(property)) {
+            throw new InvalidCursorException("Unsupported sort field for cursor pagination: " + property);
+        }
+        if (!start.position().isInitial()
+                && !(start.position().getKeys().containsKey(property) && start.position().getKeys().containsKey(ID))) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        return start;
+    }
+
+    /**
+     * Sorts by the requested key with id as tiebreaker in the same direction, so each
+     * position is unique and the (address_book_id, key, id) index can be walked either way.
+     */
+    private static Sort seekSort(Sort.Order order) {
+        if (ID.equals(order.getProperty())) {
+            return Sort.by(order);
+        }
+        return Sort.by(order, new Sort.Order(order.getDirection(), ID));
+    }
+
+    private CursorResponse<ContactResponse> scrollContacts(Specification<Contact> specification, String cursor,
+            int limit, Sort.Order order) {
+        CursorCodec.Cursor start = resolveCursor(cursor, order);
+        int safeLimit = paginationHelper.sanitizeLimit(limit);
+        Sort sort = seekSort(start.order());
+        Window<Contact> window = contactRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(safeLimit).scroll(start.position()));
+
+        return createCursorResponse(window, safeLimit, start.order(), contactMapper::mapToResponse);
+    }
+
+    /**
+     * As {@link #scrollContacts}, selecting only the given fields. Cursors are the same,
+     * so a page read with fields can be continued without and the other way round.
+     */
+    private CursorResponse<Map<String, Object>> scrollContactFields(Specification<Contact> specification,
+            FieldSelection fields, String cursor, int limit, Sort.Order order) {
+        CursorCodec.Cursor start = resolveCursor(cursor, order);
+        int safeLimit = paginationHelper.sanitizeLimit(limit);
+        Window<Map<String, Object>> window = contactRepository.scrollFieldsBy(specification, fields,
+                seekSort(start.order()), start.position(), safeLimit);
+
+        return createCursorResponse(window, safeLimit, start.order(), Function.identity());
+    }
+
+    private <T, R> CursorResponse<R> createCursorResponse(Window<T> window, int limit, Sort.Order order,
+            Function<T, R> mapper) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = cursorCodec.encode(order, last);
+        }
+        return paginationHelper.createCursorResponse(window, limit, nextCursor, mapper);
+    }
+
+    /**
+     * A page of a book's contacts read as responses. Only an empty page needs the book
+     * looked up, to tell a missing book from one without contacts on that page.
+     */
+    private Page<ContactResponse> findContactResponses(Long addressBookId, Pageable pageable) {
+        Page<ContactResponse> page = PageableExecutionUtils.getPage(
+                contactRepository.findResponsesByAddressBookId(addressBookId, pageable), pageable,
+                () -> contactCountService.getCount(addressBookId));
+        if (page.isEmpty()) {
+            findAddressBookById(addressBookId);
+        }
+        return page;
+    }
+
+    /**
+     * Sets the number, and the key when the digits change. Contacts hash by those digits,
+     * so while they change the contact is taken out of its book's contact set, if that is
+     * loaded, and put back after; left in, the set could no longer find or remove it.
+     */
+    private static void setPhoneNumber(Contact contact, String phoneNumber) {
+        String phoneKey = PhoneNumbers.normalize(phoneNumber);
+        if (phoneKey.equals(PhoneNumbers.normalize(contact.getPhoneNumber()))) {
+            contact.setPhoneNumber(phoneNumber);
+            return;
+        }
+        AddressBook addressBook = contact.getAddressBook();
+        boolean rehash = Hibernate.isInitialized(addressBook) && Hibernate.isInitialized(addressBook.getContacts());
+        if (rehash) {
+            addressBook.getContacts().remove(contact);
+        }
+        contact.setPhoneNumber(phoneNumber);
+        contact.setPhoneKey(phoneKey);
+        if (rehash) {
+            addressBook.getContacts().add(contact);
+        }
+    }
+
+    /**
+     * Loads by primary key so the second-level cache can answer, then checks that the
+     * contact belongs to the requested book.
+     */
+    private Contact findContact(Long addressBookId, Long contactId) {
+        return contactRepository.findById(contactId)
+                .filter(contact -> contact.getAddressBook().getId().equals(addressBookId))
+                .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + contactId));
+    }
+
     private AddressBook findAddressBookById(Long id) {
         return addressBookRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
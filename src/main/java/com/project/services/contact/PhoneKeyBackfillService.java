@@ -0,0 +1,16 @@
+package com.project.services.contact;
+
+/**
+ * Derives the phone key of contacts stored before {@code contacts.phone_key} existed.
+ */
+public interface PhoneKeyBackfillService {
+
+    /**
+     * Keys every contact that has no phone key yet, in batches that each commit on their
+     * own, and returns how many were keyed. Safe to run while the application serves
+     * writes and on several instances at once. A contact whose book already holds its
+     * key under another contact is left without one and reported in the log; merge or
+     * delete it and run the backfill again.
+     */
+    long backfill();
+}
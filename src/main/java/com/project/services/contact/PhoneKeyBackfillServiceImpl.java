@@ -0,0 +1,94 @@
+package com.project.services.contact;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.entity.contact.Contact;
+import com.project.repository.contact.PhoneKeyBackfillRepository;
+import com.project.repository.contact.PhoneKeyBackfillRepository.KeyedContact;
+import com.project.repository.contact.PhoneKeyBackfillRepository.UnkeyedContact;
+import com.project.util.PhoneNumbers;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhoneKeyBackfillServiceImpl implements PhoneKeyBackfillService {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private final PhoneKeyBackfillRepository phoneKeyBackfillRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public long backfill() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long afterId = 0;
+        long seen = 0;
+        long keyed = 0;
+        Batch batch;
+        do {
+            long from = afterId;
+            batch = transaction.execute(status -> keyBatch(from));
+            afterId = batch.lastId();
+            seen += batch.seen();
+            keyed += batch.keyed();
+        } while (batch.seen() == BATCH_SIZE);
+
+        if (keyed > 0) {
+            // Contacts cached before the backfill still have no key
+            entityManagerFactory.getCache().evict(Contact.class);
+        }
+        if (seen > keyed) {
+            log.warn("{} contacts have a phone number their address book already holds under another contact "
+                    + "and were left without a phone key", seen - keyed);
+        }
+        return keyed;
+    }
+
+    /**
+     * Runs before the unique contacts index is built at startup, which counts keyed
+     * contacts only.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillOnStartup() {
+        try {
+            long keyed = backfill();
+            if (keyed > 0) {
+                log.info("Backfilled phone keys for {} contacts", keyed);
+            }
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Phone keys were backfilled concurrently by another instance");
+        }
+    }
+
+    private Batch keyBatch(long afterId) {
+        List<UnkeyedContact> contacts = phoneKeyBackfillRepository.findUnkeyed(afterId, BATCH_SIZE);
+        if (contacts.isEmpty()) {
+            return new Batch(0, 0, afterId);
+        }
+        List<KeyedContact> keys = new ArrayList<>(contacts.size());
+        for (UnkeyedContact contact : contacts) {
+            keys.add(new KeyedContact(contact.id(), PhoneNumbers.normalize(contact.phoneNumber())));
+        }
+        int keyed = phoneKeyBackfillRepository.setPhoneKeys(keys);
+        return new Batch(contacts.size(), keyed, contacts.get(contacts.size() - 1).id());
+    }
+
+    private record Batch(int seen, int keyed, long lastId) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.services.contact;
+
+import java.util.Collection;
+
+import com.project.dto.contact.PhoneLookupResponse;
+
+/**
+ * Answers which address books hold a phone number from an in-memory index of phone key
+ * to address book ids, built from the contacts table at startup.
+ *
+ * <p>The write methods keep the index in step with this instance's writes. They take
+ * effect when the caller's transaction commits, or at once outside a transaction. Writes
+ * made by other instances are not seen until the next rebuild, which also runs on a fixed
+ * delay ({@code app.contacts.phone-lookup.rebuild-interval}).
+ */
+public interface PhoneLookupService {
+
+    PhoneLookupResponse findAddressBooks(String phoneNumber);
+
+    void contactAdded(String phoneKey, Long addressBookId);
+
+    void contactsAdded(Collection<String> phoneKeys, Long addressBookId);
+
+    /**
+     * Indexes the contacts merged into the book by the current transaction's bulk load.
+     */
+    void contactsLoaded(Long addressBookId);
+
+    void contactRemoved(String phoneKey, Long addressBookId);
+
+    void contactsRemoved(Collection<String> phoneKeys, Long addressBookId);
+
+    void addressBookRemoved(Long addressBookId);
+
+    /**
+     * Builds the index again from the contacts table, for contacts written without going
+     * through this service, e.g. a restore. Lookups keep using the old index meanwhile.
+     */
+    void rebuild();
+}
@@ -0,0 +1,297 @@
+package com.project.services.contact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.dto.contact.PhoneLookupResponse;
+import com.project.repository.contact.ContactBulkLoadRepository;
+import com.project.repository.contact.ContactRepository;
+import com.project.repository.contact.PhoneLookupRepository;
+import com.project.util.LongMultimap;
+import com.project.util.PhoneNumbers;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the index as a {@link LongMultimap} from encoded phone key to address book id.
+ * A key is encoded as the number spelled by a leading 1 and its digits, so leading zeros
+ * count and no key encodes to 0. That fits a {@code long} for keys of up to
+ * {@value #MAX_INDEXED_KEY_LENGTH} digits, which covers every E.164 number; longer keys
+ * are not indexed and are looked up in the database instead.
+ *
+ * <p>Lookups share a read lock and take microseconds; changes take the write lock, the
+ * removal of a whole book for one walk over the table.
+ */
+@Service
+@Slf4j
+public class PhoneLookupServiceImpl implements PhoneLookupService {
+
+    static final int MAX_INDEXED_KEY_LENGTH = 18;
+    private static final String REBUILD_INTERVAL = "${app.contacts.phone-lookup.rebuild-interval:10m}";
+
+    private final ContactRepository contactRepository;
+    private final ContactBulkLoadRepository contactBulkLoadRepository;
+    private final PhoneLookupRepository phoneLookupRepository;
+    private final TransactionTemplate newTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private LongMultimap index = new LongMultimap();
+    /** Changes applied while a rebuild reads the table, replayed onto the new index; guarded by lock. */
+    private List<Consumer<LongMultimap>> changesDuringRebuild;
+
+    public PhoneLookupServiceImpl(ContactRepository contactRepository,
+            ContactBulkLoadRepository contactBulkLoadRepository, PhoneLookupRepository phoneLookupRepository,
+            PlatformTransactionManager transactionManager) {
+        this.contactRepository = contactRepository;
+        this.contactBulkLoadRepository = contactBulkLoadRepository;
+        this.phoneLookupRepository = phoneLookupRepository;
+        // Rebuilds may run after another transaction's commit, when joining it is no longer possible
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public PhoneLookupResponse findAddressBooks(String phoneNumber) {
+        String phoneKey = PhoneNumbers.normalize(phoneNumber);
+        long code = encode(phoneKey);
+        long[] addressBookIds;
+        if (code == 0) {
+            addressBookIds = contactRepository.findAddressBookIdsByPhoneKey(phoneKey).stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+        } else {
+            lock.readLock().lock();
+            try {
+                addressBookIds = index.get(code);
+            } finally {
+                lock.readLock().unlock();
+            }
+            Arrays.sort(addressBookIds);
+        }
+        return PhoneLookupResponse.builder()
+                .phoneNumber(phoneNumber)
+                .phoneKey(phoneKey)
+                .addressBookIds(addressBookIds)
+                .build();
+    }
+
+    @Override
+    public void contactAdded(String phoneKey, Long addressBookId) {
+        long code = encode(phoneKey);
+        if (code != 0) {
+            afterCommit(index -> index.put(code, addressBookId));
+        }
+    }
+
+    @Override
+    public void contactsAdded(Collection<String> phoneKeys, Long addressBookId) {
+        Codes codes = new Codes(phoneKeys.size());
+        phoneKeys.forEach(codes);
+        putAll(codes.toArray(), addressBookId);
+    }
+
+    @Override
+    public void contactsLoaded(Long addressBookId) {
+        // Encoded as they are read, so a large load holds 8 bytes per key rather than a string
+        Codes codes = new Codes(1_024);
+        contactBulkLoadRepository.forEachStagedPhoneKey(codes);
+        putAll(codes.toArray(), addressBookId);
+    }
+
+    @Override
+    public void contactRemoved(String phoneKey, Long addressBookId) {
+        long code = encode(phoneKey);
+        if (code != 0) {
+            afterCommit(index -> index.remove(code, addressBookId));
+        }
+    }
+
+    @Override
+    public void contactsRemoved(Collection<String> phoneKeys, Long addressBookId) {
+        Codes codes = new Codes(phoneKeys.size());
+        phoneKeys.forEach(codes);
+        long[] removed = codes.toArray();
+        if (removed.length > 0) {
+            afterCommit(index -> {
+                for (long code : removed) {
+                    index.remove(code, addressBookId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void addressBookRemoved(Long addressBookId) {
+        afterCommit(index -> index.removeValue(addressBookId));
+    }
+
+    @Override
+    public void rebuild() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuildNow();
+                }
+            });
+        } else {
+            rebuildNow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        long start = System.nanoTime();
+        int entries = rebuildNow();
+        log.info("Built reverse phone index with {} entries in {} ms", entries,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Changes are applied as each transaction commits, on its own thread, so two
+     * transactions that touch the same (phone, book) pair can apply in the opposite order
+     * to their commits and leave the pair wrong; writes by other instances never arrive at
+     * all. Reading the table again on a fixed delay bounds how long either lasts.
+     */
+    @Scheduled(initialDelayString = REBUILD_INTERVAL, fixedDelayString = REBUILD_INTERVAL)
+    public void rebuildPeriodically() {
+        long start = System.nanoTime();
+        int entries = rebuildNow();
+        log.debug("Rebuilt reverse phone index with {} entries in {} ms", entries,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int rebuildNow() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            LongMultimap rebuilt = new LongMultimap();
+            try {
+                newTransaction.executeWithoutResult(status -> phoneLookupRepository.forEachPhoneKey(
+                        (phoneKey, addressBookId) -> {
+                            long code = encode(phoneKey);
+                            if (code != 0) {
+                                rebuilt.put(code, addressBookId);
+                            }
+                        }));
+            } catch (RuntimeException ex) {
+                lock.writeLock().lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw ex;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return rebuilt.size();
+        }
+    }
+
+    private void afterCommit(Consumer<LongMultimap> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<LongMultimap> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putAll(long[] codes, Long addressBookId) {
+        if (codes.length > 0) {
+            afterCommit(index -> {
+                for (long code : codes) {
+                    index.put(code, addressBookId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the key's digits behind a leading 1 as a number, or 0 if the key is null or
+     * too long to index.
+     */
+    static long encode(String phoneKey) {
+        if (phoneKey == null || phoneKey.length() > MAX_INDEXED_KEY_LENGTH) {
+            return 0;
+        }
+        long code = 1;
+        for (int i = 0; i < phoneKey.length(); i++) {
+            code = code * 10 + (phoneKey.charAt(i) - '0');
+        }
+        return code;
+    }
+
+    /**
+     * Collects the codes of the indexable keys it is given.
+     */
+    private static final class Codes implements Consumer<String> {
+
+        private long[] codes;
+        private int count;
+
+        private Codes(int expected) {
+            codes = new long[Math.max(expected, 16)];
+        }
+
+        @Override
+        public void accept(String phoneKey) {
+            long code = encode(phoneKey);
+            if (code != 0) {
+                if (count == codes.length) {
+                    codes = Arrays.copyOf(codes, count * 2);
+                }
+                codes[count++] = code;
+            }
+        }
+
+        private long[] toArray() {
+            return count == codes.length ? codes : Arrays.copyOf(codes, count);
+        }
+    }
+}
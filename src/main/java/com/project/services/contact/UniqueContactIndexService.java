@@ -0,0 +1,44 @@
+package com.project.services.contact;
+
+import java.util.Collection;
+
+/**
+ * Keeps the unique-contacts index ({@code unique_phone_numbers}) in step with the
+ * contacts table. Phone numbers are identified by the contacts' phone key. Every
+ * method joins the caller's transaction.
+ *
+ * <p>Removals are two-phase: call the matching {@code remove...} method before the
+ * contacts are deleted and {@link #settle()} after.
+ */
+public interface UniqueContactIndexService {
+
+    void contactAdded(String phoneKey, Long contactId);
+
+    /**
+     * Indexes every contact of a freshly saved address book in one statement.
+     */
+    void addressBookAdded(Long addressBookId);
+
+    /**
+     * Indexes the contacts inserted by the current transaction's bulk load.
+     */
+    void contactsLoaded();
+
+    void removeContact(String phoneKey, Long contactId);
+
+    void removeContacts(Long addressBookId, Collection<Long> contactIds);
+
+    void removeAddressBook(Long addressBookId);
+
+    /**
+     * Drops phone numbers no contact holds any more and picks a new representative
+     * where the old one was removed.
+     */
+    void settle();
+
+    /**
+     * Builds the index again from the contacts table, for contacts written without going
+     * through this service, e.g. a restore.
+     */
+    void rebuild();
+}
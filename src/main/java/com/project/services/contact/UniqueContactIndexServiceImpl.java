@@ -0,0 +1,85 @@
+package com.project.services.contact;
+
+import java.util.Collection;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.repository.contact.UniquePhoneNumberRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UniqueContactIndexServiceImpl implements UniqueContactIndexService {
+
+    private final UniquePhoneNumberRepository uniquePhoneNumberRepository;
+
+    @Override
+    public void contactAdded(String phoneKey, Long contactId) {
+        uniquePhoneNumberRepository.upsertPhoneNumber(phoneKey, contactId);
+    }
+
+    @Override
+    public void addressBookAdded(Long addressBookId) {
+        uniquePhoneNumberRepository.upsertAddressBook(addressBookId);
+    }
+
+    @Override
+    public void contactsLoaded() {
+        uniquePhoneNumberRepository.upsertStagedContacts();
+    }
+
+    @Override
+    public void removeContact(String phoneKey, Long contactId) {
+        uniquePhoneNumberRepository.decrementPhoneNumber(phoneKey, contactId);
+    }
+
+    @Override
+    public void removeContacts(Long addressBookId, Collection<Long> contactIds) {
+        if (!contactIds.isEmpty()) {
+            uniquePhoneNumberRepository.decrementContacts(addressBookId, contactIds);
+        }
+    }
+
+    @Override
+    public void removeAddressBook(Long addressBookId) {
+        uniquePhoneNumberRepository.decrementAddressBook(addressBookId);
+    }
+
+    @Override
+    public void settle() {
+        uniquePhoneNumberRepository.deleteUnreferenced();
+        uniquePhoneNumberRepository.reassignRepresentatives();
+    }
+
+    @Override
+    public void rebuild() {
+        uniquePhoneNumberRepository.deleteAllInBatch();
+        uniquePhoneNumberRepository.rebuildIfEmpty();
+    }
+
+    /**
+     * Builds the index from the contacts table if it is empty, e.g. on the first start
+     * after an upgrade or after seed data was loaded with plain SQL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty() {
+        try {
+            int phoneNumbers = uniquePhoneNumberRepository.rebuildIfEmpty();
+            if (phoneNumbers > 0) {
+                log.info("Built unique contacts index with {} phone numbers", phoneNumbers);
+            }
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Unique contacts index was built concurrently by another instance");
+        }
+    }
+}
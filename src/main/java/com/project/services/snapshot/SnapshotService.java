@@ -0,0 +1,31 @@
+package com.project.services.snapshot;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import com.project.dto.snapshot.SnapshotRestoreResponse;
+import com.project.exception.MalformedSnapshotException;
+import com.project.util.SnapshotFormat;
+
+/**
+ * Copies the whole dataset (address books and contacts, with their ids) to and from a
+ * binary snapshot in {@link SnapshotFormat}.
+ */
+public interface SnapshotService {
+
+    /**
+     * Writes every address book and contact as of one point in time.
+     *
+     * @param compress whether to deflate the snapshot body
+     */
+    void writeSnapshot(WritableByteChannel channel, boolean compress) throws IOException;
+
+    /**
+     * Replaces the whole dataset with the snapshot's in one transaction. Nothing changes
+     * unless the snapshot is read to its end and its checksum matches.
+     *
+     * @throws MalformedSnapshotException if the input is not a complete, intact snapshot
+     */
+    SnapshotRestoreResponse restore(ReadableByteChannel channel) throws IOException;
+}
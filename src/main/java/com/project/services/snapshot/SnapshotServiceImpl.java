@@ -0,0 +1,170 @@
+package com.project.services.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.dto.snapshot.SnapshotRestoreResponse;
+import com.project.repository.snapshot.SnapshotRepository;
+import com.project.services.contact.ContactCountService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.services.contact.UniqueContactIndexService;
+import com.project.util.SnapshotReader;
+import com.project.util.SnapshotWriter;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SnapshotServiceImpl implements SnapshotService {
+
+    private final SnapshotRepository snapshotRepository;
+    private final ContactCountService contactCountService;
+    private final UniqueContactIndexService uniqueContactIndexService;
+    private final PhoneLookupService phoneLookupService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Repeatable read keeps both queries on one view of the database, so every contact's
+     * book is in the snapshot however writes interleave.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void writeSnapshot(WritableByteChannel channel, boolean compress) throws IOException {
+        log.info("Writing {} snapshot", compress ? "compressed" : "uncompressed");
+        long start = System.nanoTime();
+        try (SnapshotWriter writer = new SnapshotWriter(channel, compress)) {
+            try {
+                snapshotRepository.forEachAddressBook(unchecked(writer::write));
+                snapshotRepository.forEachContact(unchecked(writer::write));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.finish();
+            log.info("Wrote snapshot of {} address books and {} contacts in {} ms",
+                    writer.getAddressBooks(), writer.getContacts(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Empties the tables, loads the snapshot's rows with their ids and only then verifies
+     * the snapshot; a failure anywhere rolls all of it back. The counters, the
+     * unique-contacts index and, after commit, the reverse phone index are rebuilt from
+     * the loaded contacts.
+     */
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public SnapshotRestoreResponse restore(ReadableByteChannel channel) throws IOException {
+        log.info("Restoring snapshot");
+        long start = System.nanoTime();
+        try (SnapshotReader reader = new SnapshotReader(channel)) {
+            snapshotRepository.deleteAll();
+            long addressBooks;
+            long contacts;
+            try {
+                addressBooks = snapshotRepository.insertAddressBooks(records(reader::nextAddressBook));
+                contacts = snapshotRepository.insertContacts(records(reader::nextContact));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            reader.finish();
+            snapshotRepository.advanceSequences();
+            contactCountService.rebuild();
+            uniqueContactIndexService.rebuild();
+            phoneLookupService.rebuild();
+            evictSecondLevelCache();
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Restored snapshot of {} address books and {} contacts in {} ms",
+                    addressBooks, contacts, elapsedMillis);
+            return SnapshotRestoreResponse.builder()
+                    .addressBooks(addressBooks)
+                    .contacts(contacts)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+    }
+
+    /**
+     * The restore bypasses Hibernate, so every cached entity and collection is stale. The
+     * cache is emptied now and again after commit, when a concurrent reader may have
+     * cached the old rows.
+     */
+    private void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evictAll();
+            }
+        });
+    }
+
+    private static <T> Consumer<T> unchecked(RecordSink<T> sink) {
+        return record -> {
+            try {
+                sink.accept(record);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    /**
+     * Iterates over records until the source returns {@code null}.
+     */
+    private static <T> Iterator<T> records(RecordSource<T> source) {
+        return new Iterator<>() {
+
+            private T next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !done) {
+                    try {
+                        next = source.next();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    done = next == null;
+                }
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T record = next;
+                next = null;
+                return record;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RecordSink<T> {
+        void accept(T record) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordSource<T> {
+        T next() throws IOException;
+    }
+}
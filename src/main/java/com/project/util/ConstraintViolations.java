@@ -0,0 +1,35 @@
+package com.project.util;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tells which unique constraint a failed write violated, so a write can be attempted
+ * without checking first and a conflict still reported as such.
+ */
+public final class ConstraintViolations {
+
+    /** Unique phone key within an address book. */
+    public static final String CONTACT_PHONE_KEY = "uk_phone_key_addressbook";
+    /** Unique address book name. */
+    public static final String ADDRESS_BOOK_NAME = "uk_addressbook_name";
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the exception was caused by a violation of the named constraint. The name
+     * is matched case-insensitively as part of the one the driver reports, since H2
+     * reports the constraint's index, e.g. "PUBLIC.UK_ADDRESSBOOK_NAME_INDEX_8".
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
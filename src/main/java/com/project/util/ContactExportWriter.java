@@ -0,0 +1,114 @@
+package com.project.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.contact.ContactDataFormat;
+import com.project.entity.contact.Contact;
+
+/**
+ * Writes contacts one at a time in an export format, with the fields of a contact
+ * response: {@code id, name, phoneNumber, addressBookId, createdAt}. Both formats can be
+ * imported again. Closing flushes but leaves the stream open.
+ */
+public abstract class ContactExportWriter implements Closeable {
+
+    public static ContactExportWriter of(ContactDataFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return format == ContactDataFormat.CSV ? new Csv(out) : new Ndjson(out, objectMapper);
+    }
+
+    public abstract void write(Contact contact) throws IOException;
+
+    private static String createdAt(Contact contact) {
+        return contact.getCreatedAt() == null ? null
+                : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(contact.getCreatedAt());
+    }
+
+    private static final class Ndjson extends ContactExportWriter {
+
+        private final JsonGenerator generator;
+
+        private Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Contact contact) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", contact.getId());
+            generator.writeStringField("name", contact.getName());
+            generator.writeStringField("phoneNumber", contact.getPhoneNumber());
+            generator.writeNumberField("addressBookId", contact.getAddressBook().getId());
+            generator.writeStringField("createdAt", createdAt(contact));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv extends ContactExportWriter {
+
+        private final Writer writer;
+
+        private Csv(OutputStream out) throws IOException {
+            writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write("id,name,phoneNumber,addressBookId,createdAt\r\n");
+            // Let the client see the header while the query is still running
+            writer.flush();
+        }
+
+        @Override
+        public void write(Contact contact) throws IOException {
+            writer.write(String.valueOf(contact.getId()));
+            writer.write(',');
+            writeField(contact.getName());
+            writer.write(',');
+            writeField(contact.getPhoneNumber());
+            writer.write(',');
+            writer.write(String.valueOf(contact.getAddressBook().getId()));
+            writer.write(',');
+            writeField(createdAt(contact));
+            writer.write("\r\n");
+        }
+
+        /**
+         * Quotes a field only when it holds a comma, quote or line break (RFC 4180).
+         */
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.dto.contact.ContactRequest;
+import com.project.exception.MalformedContactDataException;
+
+/**
+ * Reads a JSON array of contacts one element at a time, so a request body of any size
+ * is never bound into a list.
+ */
+public final class ContactJsonReader {
+
+    private ContactJsonReader() {
+    }
+
+    /**
+     * @return the array's elements in order; an element that is {@code null} in the
+     *         JSON is returned as {@code null}
+     * @throws MalformedContactDataException while iterating, if the body is not a
+     *         JSON array of contacts
+     */
+    public static Iterator<ContactRequest> read(ObjectMapper objectMapper, InputStream json) {
+        ObjectReader reader = objectMapper.readerFor(ContactRequest.class);
+        JsonParser parser;
+        try {
+            parser = objectMapper.createParser(json);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new MalformedContactDataException("Request body is not a JSON array of contacts", null);
+            }
+        } catch (IOException ex) {
+            throw new MalformedContactDataException("Request body is not a JSON array of contacts", ex);
+        }
+        return new Iterator<>() {
+
+            private JsonToken current;
+
+            @Override
+            public boolean hasNext() {
+                if (current == null) {
+                    try {
+                        current = parser.nextToken();
+                    } catch (IOException ex) {
+                        throw malformed(parser, ex);
+                    }
+                    if (current == null) {
+                        throw new MalformedContactDataException("Malformed contact JSON near line "
+                                + parser.currentLocation().getLineNr() + ": unexpected end of input", null);
+                    }
+                }
+                return current != JsonToken.END_ARRAY;
+            }
+
+            @Override
+            public ContactRequest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                JsonToken token = current;
+                current = null;
+                if (token == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                try {
+                    return reader.readValue(parser);
+                } catch (IOException ex) {
+                    throw malformed(parser, ex);
+                }
+            }
+        };
+    }
+
+    private static MalformedContactDataException malformed(JsonParser parser, IOException ex) {
+        return new MalformedContactDataException("Malformed contact JSON near line "
+                + parser.currentLocation().getLineNr() + ": "
+                + (ex instanceof JsonProcessingException processing ? processing.getOriginalMessage() : ex.getMessage()),
+                ex);
+    }
+}
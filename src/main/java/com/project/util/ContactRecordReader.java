@@ -0,0 +1,147 @@
+package com.project.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a line-oriented import body (CSV or NDJSON) into records without reading more
+ * than one record ahead. In CSV mode a quoted field may span lines. A record longer than
+ * the limit is skipped to its end and returned without text, so a body with no line breaks
+ * cannot exhaust memory.
+ */
+public final class ContactRecordReader {
+
+    private static final int BUFFER_CHARS = 8 * 1024;
+
+    /**
+     * @param line the line the record starts on, 1-based
+     * @param text the record without its line break, or {@code null} if it was too long
+     */
+    public record Record(long line, String text) {
+
+        public boolean isTooLong() {
+            return text == null;
+        }
+    }
+
+    private final Reader reader;
+    private final boolean csv;
+    private final int maxRecordChars;
+    private final char[] buffer = new char[BUFFER_CHARS];
+    private final StringBuilder record = new StringBuilder();
+    private int position;
+    private int limit;
+    private long line;
+
+    public ContactRecordReader(Reader reader, boolean csv, int maxRecordChars) {
+        this.reader = reader;
+        this.csv = csv;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the body
+     */
+    public Record next() throws IOException {
+        record.setLength(0);
+        long startLine = line + 1;
+        boolean quoted = false;
+        boolean tooLong = false;
+        boolean read = false;
+        while (position < limit || fill()) {
+            char c = buffer[position++];
+            read = true;
+            if (c == '\n') {
+                line++;
+                trimCarriageReturn();
+                if (!quoted) {
+                    return record(startLine, tooLong);
+                }
+            } else if (c == '"' && csv) {
+                quoted = !quoted;
+            }
+            if (tooLong) {
+                continue;
+            }
+            if (record.length() == maxRecordChars) {
+                tooLong = true;
+            } else {
+                record.append(c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        line++;
+        trimCarriageReturn();
+        return record(startLine, tooLong);
+    }
+
+    /**
+     * Splits one CSV record into its fields (RFC 4180: fields may be quoted, and a quote
+     * inside a quoted field is doubled).
+     *
+     * @throws IllegalArgumentException if a quote is left open or is followed by text
+     */
+    public static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = text.length();
+        while (true) {
+            if (i < length && text.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i == length) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = text.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < length && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && text.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected text after a quoted field");
+                }
+            } else {
+                while (i < length && text.charAt(i) != ',') {
+                    field.append(text.charAt(i++));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i == length) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    private Record record(long startLine, boolean tooLong) {
+        return new Record(startLine, tooLong ? null : record.toString());
+    }
+
+    private void trimCarriageReturn() {
+        int last = record.length() - 1;
+        if (last >= 0 && record.charAt(last) == '\r') {
+            record.setLength(last);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+}
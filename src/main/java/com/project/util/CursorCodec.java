@@ -0,0 +1,121 @@
+package com.project.util;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.exception.InvalidCursorException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor strings.
+ *
+ * <p>A cursor carries the sort it was created with and the sort-key values of the last
+ * row returned, so the next page can seek straight past that row instead of skipping an
+ * offset. Values are tagged with their type so they come back as the same Java type the
+ * entity uses.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(Sort.Order order, KeysetScrollPosition position) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        position.getKeys().forEach((property, value) -> keys.put(property, encodeValue(value)));
+        CursorPayload payload = new CursorPayload(order.getProperty(), order.getDirection().name(), keys);
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    public Cursor decode(String cursor) {
+        CursorPayload payload;
+        try {
+            payload = objectMapper.readValue(DECODER.decode(cursor), CursorPayload.class);
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (payload.sort() == null || payload.dir() == null || payload.keys() == null
+                || payload.keys().isEmpty()) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        Sort.Direction direction;
+        try {
+            direction = Sort.Direction.fromString(payload.dir());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        payload.keys().forEach((property, value) -> keys.put(property, decodeValue(value)));
+        return new Cursor(new Sort.Order(direction, payload.sort()), ScrollPosition.forward(keys));
+    }
+
+    private static String encodeValue(Object value) {
+        if (value instanceof Long) {
+            return "l:" + value;
+        }
+        if (value instanceof Integer) {
+            return "i:" + value;
+        }
+        if (value instanceof LocalDateTime) {
+            return "t:" + value;
+        }
+        if (value instanceof String) {
+            return "s:" + value;
+        }
+        throw new IllegalArgumentException("Unsupported cursor key type: "
+                + (value == null ? "null" : value.getClass().getName()));
+    }
+
+    private static Object decodeValue(String value) {
+        if (value == null || value.length() < 2 || value.charAt(1) != ':') {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        String raw = value.substring(2);
+        try {
+            switch (value.charAt(0)) {
+                case 'l':
+                    return Long.valueOf(raw);
+                case 'i':
+                    return Integer.valueOf(raw);
+                case 't':
+                    return LocalDateTime.parse(raw);
+                case 's':
+                    return raw;
+                default:
+                    throw new InvalidCursorException("Malformed cursor");
+            }
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    /**
+     * A decoded cursor: the sort order it was issued for and where to resume.
+     */
+    public record Cursor(Sort.Order order, KeysetScrollPosition position) {
+    }
+
+    private record CursorPayload(String sort, String dir, Map<String, String> keys) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.util;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Identifies the database behind the application's DataSource, for the few statements
+ * (upserts, bulk loads) that have no portable SQL form.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabasePlatform {
+
+    private final DataSource dataSource;
+
+    private volatile String productName;
+
+    public boolean isPostgreSql() {
+        return "PostgreSQL".equalsIgnoreCase(getProductName());
+    }
+
+    public String getProductName() {
+        String name = productName;
+        if (name == null) {
+            try {
+                name = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            } catch (MetaDataAccessException ex) {
+                throw new IllegalStateException("Could not determine database product", ex);
+            }
+            productName = name;
+        }
+        return name;
+    }
+}
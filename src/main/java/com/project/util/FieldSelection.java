@@ -0,0 +1,82 @@
+package com.project.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.project.exception.InvalidFieldSelectionException;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * A sparse fieldset: the response fields a caller asked for with {@code fields=}. Kept
+ * in the resource's own field order, whatever order they were asked in, so the same
+ * selection always gives the same query and the same JSON.
+ */
+public final class FieldSelection {
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Parses a comma-separated list of field names, rejecting names the resource does not
+     * have and a list that names none.
+     */
+    public static FieldSelection parse(String fields, List<String> selectable) {
+        Set<String> requested = fields == null
+                ? Set.of()
+                : Arrays.stream(fields.split(","))
+                        .map(String::trim)
+                        .filter(field -> !field.isEmpty())
+                        .collect(Collectors.toSet());
+        if (requested.isEmpty()) {
+            throw new InvalidFieldSelectionException("No fields selected; selectable fields are " + selectable);
+        }
+        for (String field : requested) {
+            if (!selectable.contains(field)) {
+                throw new InvalidFieldSelectionException(
+                        "Unknown field '" + field + "'; selectable fields are " + selectable);
+            }
+        }
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String field : selectable) {
+            if (requested.contains(field)) {
+                ordered.add(field);
+            }
+        }
+        return new FieldSelection(ordered);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * The selected fields of a row whose elements are aliased by field name; any other
+     * elements of the tuple, such as sort keys selected for a cursor, are left out.
+     */
+    public Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", fields);
+    }
+}
@@ -0,0 +1,164 @@
+package com.project.util;
+
+import java.util.Arrays;
+
+/**
+ * A set of {@code (key, value)} pairs of {@code long}s that answers "every value of this
+ * key". Pairs live in one open-addressing {@code long[]}, key and value side by side, so
+ * there is no boxing and no object per pair. A pair is placed by its key alone, which
+ * keeps all values of a key in the probe run that starts at the key's home slot.
+ *
+ * <p>Memory: 16 bytes per slot, and the table doubles when it is three quarters full, so
+ * a table that has only grown is between 3/8 and 3/4 full: 21 to 43 bytes per pair.
+ * Removing pairs does not shrink it.
+ *
+ * <p>Key 0 marks an empty slot and cannot be stored. Not thread-safe.
+ */
+public final class LongMultimap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 29;
+    private static final long[] NO_VALUES = {};
+
+    /** Key of slot {@code i} at {@code 2 * i}, its value at {@code 2 * i + 1}. */
+    private long[] table;
+    private int mask;
+    private int shift;
+    private int size;
+
+    public LongMultimap() {
+        this(0);
+    }
+
+    public LongMultimap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && expectedSize > capacity / 4 * 3) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the pair and returns whether it was new.
+     */
+    public boolean put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = home(key);
+        for (; table[2 * slot] != 0; slot = (slot + 1) & mask) {
+            if (table[2 * slot] == key && table[2 * slot + 1] == value) {
+                return false;
+            }
+        }
+        table[2 * slot] = key;
+        table[2 * slot + 1] = value;
+        if (++size > (mask + 1) / 4 * 3) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the values of a key in no particular order, or an empty array.
+     */
+    public long[] get(long key) {
+        long[] values = NO_VALUES;
+        int count = 0;
+        for (int slot = home(key); table[2 * slot] != 0; slot = (slot + 1) & mask) {
+            if (table[2 * slot] == key) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, Math.max(4, count * 2));
+                }
+                values[count++] = table[2 * slot + 1];
+            }
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Removes the pair and returns whether it was there.
+     */
+    public boolean remove(long key, long value) {
+        for (int slot = home(key); table[2 * slot] != 0; slot = (slot + 1) & mask) {
+            if (table[2 * slot] == key && table[2 * slot + 1] == value) {
+                delete(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every pair with this value, whatever its key, and returns how many were
+     * removed. Walks the whole table.
+     */
+    public int removeValue(long value) {
+        int removed = 0;
+        for (int slot = 0; slot <= mask; slot++) {
+            // A deletion can shift another pair into this slot, so look at it again
+            while (table[2 * slot] != 0 && table[2 * slot + 1] == value) {
+                delete(slot);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Empties the slot and shifts later pairs of the probe run back into it where their
+     * home slot allows, so lookups never need tombstones.
+     */
+    private void delete(int slot) {
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[2 * next] != 0; next = (next + 1) & mask) {
+            int home = home(table[2 * next]);
+            // The pair may move back unless its home lies after the hole, up to where it sits
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[2 * hole] = table[2 * next];
+                table[2 * hole + 1] = table[2 * next + 1];
+                hole = next;
+            }
+        }
+        table[2 * hole] = 0;
+        table[2 * hole + 1] = 0;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = mask + 1;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("LongMultimap cannot hold more than " + size + " pairs");
+        }
+        long[] old = table;
+        allocate(capacity << 1);
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != 0) {
+                int slot = home(old[i]);
+                while (table[2 * slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[2 * slot] = old[i];
+                table[2 * slot + 1] = old[i + 1];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[2 * capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    /**
+     * Fibonacci hashing: the top bits of the key times 2^64 / phi, which spreads runs of
+     * consecutive keys over the table.
+     */
+    private int home(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift) & mask;
+    }
+}
@@ -3,8 +3,10 @@ package com.project.util;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
+import com.project.dto.response.CursorResponse;
 import com.project.dto.response.PagedResponse;
 
 import java.util.List;
@@ -45,6 +47,24 @@ public class PaginationHelper {
                 .build();
     }
 
+    public int sanitizeLimit(int limit) {
+        return limit <= 0 || limit > MAX_PAGE_SIZE ? DEFAULT_PAGE_SIZE : limit;
+    }
+
+    public <E, R> CursorResponse<R> createCursorResponse(Window<E> window, int limit, String nextCursor,
+            Function<E, R> mapper) {
+        List<R> content = window.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return CursorResponse.<R>builder()
+                .content(content)
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
     public int getMaxPageSize() {
         return MAX_PAGE_SIZE;
     }
@@ -0,0 +1,50 @@
+package com.project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Builds rows in PostgreSQL's COPY text format: columns separated by tabs, rows ended by
+ * a newline, {@code \N} for NULL.
+ */
+public final class PgCopy {
+
+    public static final int BUFFER_CHARS = 64 * 1024;
+
+    private PgCopy() {
+    }
+
+    /**
+     * Escapes a value for COPY's text format, where backslash, tab and line breaks are special.
+     */
+    public static void appendText(StringBuilder buffer, String value) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered rows and empties the buffer.
+     */
+    public static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
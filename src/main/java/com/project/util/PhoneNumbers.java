@@ -0,0 +1,79 @@
+package com.project.util;
+
+/**
+ * Utility methods for working with free-form phone numbers. Both methods make a single
+ * pass over the characters without regular expressions; {@link #isValid(CharSequence)}
+ * allocates nothing and {@link #normalize(String)} allocates only the key it returns.
+ */
+public final class PhoneNumbers {
+
+    /**
+     * The longest key a valid phone number can have: the pattern allows 20 characters.
+     */
+    public static final int MAX_KEY_LENGTH = 20;
+
+    private static final int MIN_LENGTH = 6;
+    private static final int MAX_LENGTH = 20;
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * Checks a phone number against {@code Contact.PHONE_NUMBER_PATTERN},
+     * {@code ^\+?[0-9\s\-()]{6,20}$}: an optional leading plus sign, then 6 to 20 digits,
+     * whitespace characters, hyphens and parentheses. Gives the same answer as the
+     * pattern for every input.
+     *
+     * @param phoneNumber the phone number as entered, may be null
+     * @return whether the phone number is valid; {@code false} for null
+     */
+    public static boolean isValid(CharSequence phoneNumber) {
+        if (phoneNumber == null) {
+            return false;
+        }
+        int length = phoneNumber.length();
+        int start = length > 0 && phoneNumber.charAt(0) == '+' ? 1 : 0;
+        int body = length - start;
+        if (body < MIN_LENGTH || body > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = phoneNumber.charAt(i);
+            if (!(c >= '0' && c <= '9') && c != ' ' && c != '-' && c != '(' && c != ')'
+                    && !(c >= '\t' && c <= '\r')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reduces a phone number to its canonical key: the digits only, in order.
+     * "+61 400-000-000" and "+61400000000" both normalize to "61400000000".
+     *
+     * @param phoneNumber the phone number as entered, may be null
+     * @return the digits of the phone number, or null if the input is null
+     */
+    public static String normalize(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        int length = phoneNumber.length();
+        char[] key = null;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (key != null) {
+                    key[digits] = c;
+                }
+                digits++;
+            } else if (key == null) {
+                // Everything before the first non-digit is a digit: copy it in one go
+                key = new char[length - 1];
+                phoneNumber.getChars(0, i, key, 0);
+            }
+        }
+        return key == null ? phoneNumber : new String(key, 0, digits);
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.util;
+
+import java.util.Locale;
+
+/**
+ * Builds LIKE patterns for user-entered search terms.
+ */
+public final class SearchPatterns {
+
+    /**
+     * Escape character used by every query that takes a pattern from this class.
+     */
+    public static final char ESCAPE = '\\';
+
+    private SearchPatterns() {
+    }
+
+    /**
+     * Pattern matching values that contain {@code term}, for comparison against a
+     * lower-cased column. Wildcards typed by the user match literally.
+     * "50%_off" becomes "%50\%\_off%".
+     *
+     * @param term the search term as entered
+     * @return a lower-case LIKE pattern escaped with {@link #ESCAPE}
+     */
+    public static String containsIgnoreCase(String term) {
+        String lower = term.toLowerCase(Locale.ROOT);
+        StringBuilder pattern = new StringBuilder(lower.length() + 4).append('%');
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
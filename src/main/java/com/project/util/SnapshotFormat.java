@@ -0,0 +1,62 @@
+package com.project.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Layout of a dataset snapshot, version 1. All integers are big-endian.
+ *
+ * <pre>
+ * header   magic "ABSP" (4 bytes), version (2 bytes), flags (2 bytes)
+ * body     address book records, then contact records, then the end record
+ * trailer  CRC-32C of the header and body (4 bytes)
+ * </pre>
+ *
+ * With {@link #FLAG_DEFLATE} set, body and trailer are one zlib stream. Every record is a
+ * tag byte, the payload length as a varint, then the payload, so a reader skips tags it
+ * does not know. Payload fields:
+ *
+ * <ul>
+ * <li>address book: id, name, description (nullable), created at, updated at (nullable)
+ * <li>contact: id, address book id, name, phone number, created at
+ * <li>end: number of address books, number of contacts
+ * </ul>
+ *
+ * Numbers are zigzag varints (lengths are plain varints). A contact's id, book id and
+ * creation time are stored as the difference from the previous contact's, so sequential
+ * ids take one byte. A string is its UTF-8 length plus one (0 for null), then the bytes.
+ * Times are microseconds since 1970-01-01T00:00, taken as UTC; a nullable time is
+ * preceded by a presence byte.
+ */
+public final class SnapshotFormat {
+
+    public static final int MAGIC = 0x41425350;
+    public static final short VERSION = 1;
+    public static final short FLAG_DEFLATE = 1;
+
+    static final int HEADER_BYTES = 8;
+    static final int CHECKSUM_BYTES = 4;
+    static final byte TAG_END = 0;
+    static final byte TAG_ADDRESS_BOOK = 1;
+    static final byte TAG_CONTACT = 2;
+
+    private SnapshotFormat() {
+    }
+
+    public record AddressBookRecord(long id, String name, String description, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+    }
+
+    public record ContactRecord(long id, long addressBookId, String name, String phoneNumber,
+            LocalDateTime createdAt) {
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,301 @@
+package com.project.util;
+
+import static com.project.util.SnapshotFormat.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32C;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import com.project.exception.MalformedSnapshotException;
+
+/**
+ * Reads a snapshot written by {@link SnapshotWriter}: call {@link #nextAddressBook()} until
+ * it returns {@code null}, then {@link #nextContact()} likewise, then {@link #finish()},
+ * which verifies the record counts and the checksum. Until {@code finish()} returns, the
+ * records read may come from a damaged snapshot.
+ *
+ * <p>Records of a tag this version does not know, and payload fields after the ones it
+ * knows, are skipped. {@link #close()} releases the decompressor but leaves the channel
+ * open.
+ *
+ * @throws MalformedSnapshotException from any method when the input is not a valid snapshot
+ */
+public final class SnapshotReader implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    /** Far above any valid record; a larger length means the input is damaged. */
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private final CRC32C checksum = new CRC32C();
+    private final Inflater inflater;
+    private final ReadableByteChannel in;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).flip();
+    private int checksummed;
+    private long addressBooks;
+    private long contacts;
+    private long previousContactId;
+    private long previousAddressBookId;
+    private long previousCreatedAt;
+
+    public SnapshotReader(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            // read the whole header
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new MalformedSnapshotException("Not an address book snapshot");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new MalformedSnapshotException("Unsupported snapshot version " + version);
+        }
+        short flags = header.getShort();
+        if ((flags & ~FLAG_DEFLATE) != 0) {
+            throw new MalformedSnapshotException("Unsupported snapshot flags " + flags);
+        }
+        checksum.update(header.rewind());
+        if ((flags & FLAG_DEFLATE) != 0) {
+            inflater = new Inflater();
+            in = Channels.newChannel(new InflaterInputStream(Channels.newInputStream(channel), inflater, BUFFER_BYTES));
+        } else {
+            inflater = null;
+            in = channel;
+        }
+    }
+
+    /**
+     * @return the next address book, or {@code null} once the address books are done
+     */
+    public AddressBookRecord nextAddressBook() throws IOException {
+        int end = nextPayload(TAG_ADDRESS_BOOK);
+        if (end < 0) {
+            return null;
+        }
+        long id = getVarLong(end);
+        String name = getString(end);
+        String description = getString(end);
+        LocalDateTime createdAt = fromMicros(getVarLong(end));
+        LocalDateTime updatedAt = getByte(end) != 0 ? fromMicros(getVarLong(end)) : null;
+        if (name == null) {
+            throw corrupt();
+        }
+        buffer.position(end);
+        addressBooks++;
+        return new AddressBookRecord(id, name, description, createdAt, updatedAt);
+    }
+
+    /**
+     * @return the next contact, or {@code null} once the contacts are done
+     */
+    public ContactRecord nextContact() throws IOException {
+        int end = nextPayload(TAG_CONTACT);
+        if (end < 0) {
+            return null;
+        }
+        long id = previousContactId + getVarLong(end);
+        long addressBookId = previousAddressBookId + getVarLong(end);
+        String name = getString(end);
+        String phoneNumber = getString(end);
+        long createdAt = previousCreatedAt + getVarLong(end);
+        if (name == null || phoneNumber == null) {
+            throw corrupt();
+        }
+        buffer.position(end);
+        previousContactId = id;
+        previousAddressBookId = addressBookId;
+        previousCreatedAt = createdAt;
+        contacts++;
+        return new ContactRecord(id, addressBookId, name, phoneNumber, fromMicros(createdAt));
+    }
+
+    /**
+     * Reads the end record and the checksum and checks both against what was read.
+     */
+    public void finish() throws IOException {
+        int end = nextPayload(TAG_END);
+        if (end < 0) {
+            throw new MalformedSnapshotException("Snapshot records are out of order");
+        }
+        long expectedAddressBooks = getVarLong(end);
+        long expectedContacts = getVarLong(end);
+        buffer.position(end);
+        if (expectedAddressBooks != addressBooks || expectedContacts != contacts) {
+            throw new MalformedSnapshotException("Snapshot should hold " + expectedAddressBooks
+                    + " address books and " + expectedContacts + " contacts but holds " + addressBooks
+                    + " and " + contacts);
+        }
+        updateChecksum();
+        if (!require(CHECKSUM_BYTES)) {
+            throw truncated();
+        }
+        if (buffer.getInt() != (int) checksum.getValue()) {
+            throw new MalformedSnapshotException("Snapshot checksum does not match its contents");
+        }
+        if (buffer.hasRemaining() || require(1)) {
+            throw new MalformedSnapshotException("Snapshot has data after its end");
+        }
+    }
+
+    public long getAddressBooks() {
+        return addressBooks;
+    }
+
+    public long getContacts() {
+        return contacts;
+    }
+
+    @Override
+    public void close() {
+        if (inflater != null) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Moves to the payload of the next record with the wanted tag, skipping unknown tags,
+     * and makes the whole payload available in the buffer.
+     *
+     * @return the buffer index where the payload ends, or -1 if the next known record has
+     *         another tag (it is left unread)
+     */
+    private int nextPayload(byte wanted) throws IOException {
+        while (true) {
+            if (!require(1)) {
+                throw truncated();
+            }
+            byte tag = buffer.get(buffer.position());
+            boolean known = tag == TAG_END || tag == TAG_ADDRESS_BOOK || tag == TAG_CONTACT;
+            if (known && tag != wanted) {
+                return -1;
+            }
+            buffer.get();
+            int length = readLength();
+            if (length > MAX_RECORD_BYTES) {
+                throw corrupt();
+            }
+            if (!require(length)) {
+                throw truncated();
+            }
+            if (known) {
+                return buffer.position() + length;
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private int readLength() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!require(1)) {
+                throw truncated();
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw corrupt();
+                }
+                return value;
+            }
+        }
+        throw corrupt();
+    }
+
+    private byte getByte(int end) {
+        if (buffer.position() >= end) {
+            throw corrupt();
+        }
+        return buffer.get();
+    }
+
+    private long getVarLong(int end) {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = getByte(end);
+            zigzag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw corrupt();
+    }
+
+    private String getString(int end) {
+        int lengthPlusOne = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift >= 32) {
+                throw corrupt();
+            }
+            byte b = getByte(end);
+            lengthPlusOne |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = lengthPlusOne - 1;
+        if (length < 0 || length > end - buffer.position()) {
+            throw corrupt();
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Makes at least {@code bytes} unread bytes available, reading more from the channel
+     * as needed.
+     *
+     * @return {@code false} if the input ends first
+     */
+    private boolean require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        updateChecksum();
+        if (bytes > buffer.capacity()) {
+            buffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, bytes)).put(buffer).flip();
+        }
+        buffer.compact();
+        checksummed = 0;
+        try {
+            while (buffer.position() < bytes) {
+                if (in.read(buffer) < 0) {
+                    break;
+                }
+            }
+        } catch (ZipException ex) {
+            throw new MalformedSnapshotException("Snapshot is not a valid compressed stream");
+        } finally {
+            buffer.flip();
+        }
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Adds the bytes consumed since the last update to the checksum.
+     */
+    private void updateChecksum() {
+        checksum.update(buffer.array(), checksummed, buffer.position() - checksummed);
+        checksummed = buffer.position();
+    }
+
+    private static MalformedSnapshotException truncated() {
+        return new MalformedSnapshotException("Snapshot is truncated");
+    }
+
+    private static MalformedSnapshotException corrupt() {
+        return new MalformedSnapshotException("Snapshot record is corrupt");
+    }
+}
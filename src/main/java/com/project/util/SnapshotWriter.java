@@ -0,0 +1,196 @@
+package com.project.util;
+
+import static com.project.util.SnapshotFormat.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a snapshot in {@link SnapshotFormat} to a channel: all address books, then all
+ * contacts, then {@link #finish()}. Records are encoded into a reused buffer and written a
+ * buffer at a time. {@link #close()} releases the compressor but leaves the channel open.
+ */
+public final class SnapshotWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private final CRC32C checksum = new CRC32C();
+    private final Deflater deflater;
+    private final DeflaterOutputStream deflaterStream;
+    private final WritableByteChannel out;
+    private ByteBuffer record = ByteBuffer.allocate(4 * 1024);
+    private long addressBooks;
+    private long contacts;
+    private long previousContactId;
+    private long previousAddressBookId;
+    private long previousCreatedAt;
+
+    public SnapshotWriter(WritableByteChannel channel, boolean compress) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort(compress ? FLAG_DEFLATE : 0)
+                .flip();
+        checksum.update(header.duplicate());
+        writeFully(channel, header);
+        if (compress) {
+            deflater = new Deflater(Deflater.BEST_SPEED);
+            deflaterStream = new DeflaterOutputStream(Channels.newOutputStream(channel), deflater, BUFFER_BYTES);
+            out = Channels.newChannel(deflaterStream);
+        } else {
+            deflater = null;
+            deflaterStream = null;
+            out = channel;
+        }
+    }
+
+    public void write(AddressBookRecord addressBook) throws IOException {
+        if (contacts > 0) {
+            throw new IllegalStateException("Address books must be written before contacts");
+        }
+        record.clear();
+        putVarLong(addressBook.id());
+        putString(addressBook.name());
+        putString(addressBook.description());
+        putVarLong(toMicros(addressBook.createdAt()));
+        putNullableTime(addressBook.updatedAt());
+        putRecord(TAG_ADDRESS_BOOK);
+        addressBooks++;
+    }
+
+    public void write(ContactRecord contact) throws IOException {
+        long createdAt = toMicros(contact.createdAt());
+        record.clear();
+        putVarLong(contact.id() - previousContactId);
+        putVarLong(contact.addressBookId() - previousAddressBookId);
+        putString(contact.name());
+        putString(contact.phoneNumber());
+        putVarLong(createdAt - previousCreatedAt);
+        putRecord(TAG_CONTACT);
+        previousContactId = contact.id();
+        previousAddressBookId = contact.addressBookId();
+        previousCreatedAt = createdAt;
+        contacts++;
+    }
+
+    /**
+     * Writes the end record and the checksum and flushes everything to the channel.
+     */
+    public void finish() throws IOException {
+        record.clear();
+        putVarLong(addressBooks);
+        putVarLong(contacts);
+        putRecord(TAG_END);
+        flush();
+        writeFully(out, ByteBuffer.allocate(CHECKSUM_BYTES).putInt((int) checksum.getValue()).flip());
+        if (deflaterStream != null) {
+            deflaterStream.finish();
+        }
+    }
+
+    public long getAddressBooks() {
+        return addressBooks;
+    }
+
+    public long getContacts() {
+        return contacts;
+    }
+
+    @Override
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+        }
+    }
+
+    private void putRecord(byte tag) throws IOException {
+        record.flip();
+        reserve(1 + 5);
+        buffer.put(tag);
+        putVarInt(buffer, record.remaining());
+        while (record.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int count = Math.min(record.remaining(), buffer.remaining());
+            buffer.put(buffer.position(), record, record.position(), count);
+            buffer.position(buffer.position() + count);
+            record.position(record.position() + count);
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            growRecord(1);
+            record.put((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        growRecord(5 + bytes.length);
+        putVarInt(record, bytes.length + 1);
+        record.put(bytes);
+    }
+
+    private void putNullableTime(LocalDateTime time) {
+        growRecord(1);
+        record.put((byte) (time == null ? 0 : 1));
+        if (time != null) {
+            putVarLong(toMicros(time));
+        }
+    }
+
+    private void putVarLong(long value) {
+        growRecord(10);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            record.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        record.put((byte) zigzag);
+    }
+
+    private static void putVarInt(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    private void growRecord(int bytes) {
+        if (record.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + bytes));
+            record.flip();
+            larger.put(record);
+            record = larger;
+        }
+    }
+
+    private void reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        writeFully(out, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
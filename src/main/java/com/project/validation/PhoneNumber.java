@@ -0,0 +1,34 @@
+package com.project.validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.project.entity.contact.Contact;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * The annotated string must be a phone number matching
+ * {@link Contact#PHONE_NUMBER_PATTERN}. {@code null} is valid; combine with
+ * {@code @NotBlank} or {@code @Column(nullable = false)} to require a value.
+ *
+ * @see com.project.util.PhoneNumbers#isValid(CharSequence)
+ */
+@Documented
+@Constraint(validatedBy = PhoneNumberValidator.class)
+@Target({ FIELD, PARAMETER })
+@Retention(RUNTIME)
+public @interface PhoneNumber {
+
+    String message() default Contact.PHONE_NUMBER_MESSAGE;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
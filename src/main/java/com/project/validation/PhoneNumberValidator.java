@@ -0,0 +1,18 @@
+package com.project.validation;
+
+import com.project.util.PhoneNumbers;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link PhoneNumber} with a hand-written scan instead of the regular expression,
+ * so checking a contact allocates nothing.
+ */
+public class PhoneNumberValidator implements ConstraintValidator<PhoneNumber, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || PhoneNumbers.isValid(value);
+    }
+}
@@ -3,6 +3,7 @@
 -- ============================================================
 -- Sample data for Development environment
 -- Uses MERGE to prevent duplicates on application restart
+-- Contacts leave phone_key empty; the application fills it at startup
 -- ============================================================
 
 -- Insert Address Books
@@ -169,7 +170,7 @@ MERGE INTO contacts (id, name, phone_number, address_book_id, created_at) KEY(id
 (100, 'Sara Sullivan', '+61 409 888 010', 10, CURRENT_TIMESTAMP);
 
 -- ============================================================
--- Reset auto-increment sequences
+-- Reset id sequences (next block starts after the seeded ids)
 -- ============================================================
-ALTER TABLE addressbooks ALTER COLUMN id RESTART WITH 11;
-ALTER TABLE contacts ALTER COLUMN id RESTART WITH 101;
+ALTER SEQUENCE addressbooks_id_seq RESTART WITH 60;
+ALTER SEQUENCE contacts_id_seq RESTART WITH 150;
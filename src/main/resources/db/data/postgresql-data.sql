@@ -3,6 +3,7 @@
 -- ============================================================
 -- Sample data for Production/Staging environments
 -- Uses INSERT ... ON CONFLICT for idempotency
+-- Contacts leave phone_key empty; the application fills it at startup
 -- ============================================================
 
 -- Insert Address Books
@@ -4,25 +4,56 @@
 -- For Development and Testing environments
 -- ============================================================
 
+-- Id sequences. Hibernate reserves blocks of 50 ids per call (pooled-lo optimizer:
+-- each value is the first id of its block), so the increment must match the entity
+-- allocationSize. The contact bulk loader reserves blocks the same way.
+CREATE SEQUENCE IF NOT EXISTS addressbooks_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contacts_id_seq START WITH 1 INCREMENT BY 50;
+
 -- Create addressbooks table
 CREATE TABLE IF NOT EXISTS addressbooks (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    name VARCHAR(255) NOT NULL UNIQUE,
+    id BIGINT DEFAULT NEXT VALUE FOR addressbooks_id_seq PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
     description VARCHAR(500),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_addressbook_name UNIQUE (name)
 );
 
 -- Create contacts table
 CREATE TABLE IF NOT EXISTS contacts (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR contacts_id_seq PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     phone_number VARCHAR(50) NOT NULL,
+    -- Digits of phone_number, the key for uniqueness and lookups. Null only for rows
+    -- the startup backfill could not key because their book already holds the number.
+    phone_key VARCHAR(20),
     address_book_id BIGINT NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_contact_addressbook FOREIGN KEY (address_book_id) 
         REFERENCES addressbooks(id) ON DELETE CASCADE,
-    CONSTRAINT uk_phone_addressbook UNIQUE (phone_number, address_book_id)
+    CONSTRAINT uk_phone_key_addressbook UNIQUE (phone_key, address_book_id)
+);
+
+-- Unique contacts index: one row per distinct phone key across all books,
+-- holding the lowest contact id with that key and how many contacts share it.
+-- Maintained on every contact write; rebuilt at startup when empty.
+CREATE TABLE IF NOT EXISTS unique_phone_numbers (
+    phone_key VARCHAR(20) PRIMARY KEY,
+    representative_contact_id BIGINT,
+    reference_count BIGINT NOT NULL
+);
+
+-- Contact counters: each book's count is split over a fixed set of stripes so
+-- concurrent writers to one book update different rows. Count = SUM(contact_count).
+-- Rows for books created before this table are backfilled at application startup.
+CREATE TABLE IF NOT EXISTS addressbook_contact_counters (
+    address_book_id BIGINT NOT NULL,
+    stripe INTEGER NOT NULL,
+    contact_count BIGINT NOT NULL,
+    PRIMARY KEY (address_book_id, stripe),
+    CONSTRAINT fk_counter_addressbook FOREIGN KEY (address_book_id)
+        REFERENCES addressbooks(id) ON DELETE CASCADE
 );
 
 -- ============================================================
@@ -30,6 +61,8 @@ CREATE TABLE IF NOT EXISTS contacts (
 -- ============================================================
 CREATE INDEX IF NOT EXISTS idx_addressbook_name ON addressbooks(name);
 CREATE INDEX IF NOT EXISTS idx_addressbook_created_at ON addressbooks(created_at);
-CREATE INDEX IF NOT EXISTS idx_contact_phone ON contacts(phone_number);
-CREATE INDEX IF NOT EXISTS idx_contact_addressbook ON contacts(address_book_id);
 CREATE INDEX IF NOT EXISTS idx_contact_name ON contacts(name);
+-- Seek indexes for cursor pagination within a book: (book, sort key, id)
+CREATE INDEX IF NOT EXISTS idx_contact_addressbook_id ON contacts(address_book_id, id);
+CREATE INDEX IF NOT EXISTS idx_contact_addressbook_name ON contacts(address_book_id, name, id);
+CREATE INDEX IF NOT EXISTS idx_unique_phone_representative ON unique_phone_numbers(representative_contact_id);
@@ -5,39 +5,133 @@
 -- Run this manually or via migration tool (Flyway/Liquibase)
 -- ============================================================
 
+-- Id sequences. Hibernate reserves blocks of 50 ids per call (pooled-lo optimizer:
+-- each value is the first id of its block), so the increment must match the entity
+-- allocationSize. The contact bulk loader reserves blocks the same way. The names
+-- match the sequences BIGSERIAL created in earlier versions of this schema.
+CREATE SEQUENCE IF NOT EXISTS addressbooks_id_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contacts_id_seq START WITH 1 INCREMENT BY 50;
+
 -- Create addressbooks table
 CREATE TABLE IF NOT EXISTS addressbooks (
-    id BIGSERIAL PRIMARY KEY,
-    name VARCHAR(255) NOT NULL UNIQUE,
+    id BIGINT PRIMARY KEY DEFAULT nextval('addressbooks_id_seq'),
+    name VARCHAR(255) NOT NULL,
     description VARCHAR(500),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_addressbook_name UNIQUE (name)
 );
 
 -- Create contacts table
 CREATE TABLE IF NOT EXISTS contacts (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY DEFAULT nextval('contacts_id_seq'),
     name VARCHAR(255) NOT NULL,
     phone_number VARCHAR(50) NOT NULL,
+    -- Digits of phone_number; see the phone key migration below for older rows
+    phone_key VARCHAR(20),
     address_book_id BIGINT NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT fk_contact_addressbook FOREIGN KEY (address_book_id) 
         REFERENCES addressbooks(id) ON DELETE CASCADE,
-    CONSTRAINT uk_phone_addressbook UNIQUE (phone_number, address_book_id)
+    CONSTRAINT uk_phone_key_addressbook UNIQUE (phone_key, address_book_id)
+);
+
+-- The unique contacts index used to be keyed by the raw phone_number. It is derived
+-- data, so an old one is dropped here and rebuilt by the application at startup.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'unique_phone_numbers' AND column_name = 'phone_number') THEN
+        DROP TABLE unique_phone_numbers;
+    END IF;
+END $$;
+
+-- Unique contacts index: one row per distinct phone key across all books,
+-- holding the lowest contact id with that key and how many contacts share it.
+-- Maintained on every contact write; rebuilt at startup when empty.
+CREATE TABLE IF NOT EXISTS unique_phone_numbers (
+    phone_key VARCHAR(20) PRIMARY KEY,
+    representative_contact_id BIGINT,
+    reference_count BIGINT NOT NULL
 );
 
+-- Contact counters: each book's count is split over a fixed set of stripes so
+-- concurrent writers to one book update different rows. Count = SUM(contact_count).
+-- Rows for books created before this table are backfilled at application startup.
+CREATE TABLE IF NOT EXISTS addressbook_contact_counters (
+    address_book_id BIGINT NOT NULL,
+    stripe INTEGER NOT NULL,
+    contact_count BIGINT NOT NULL,
+    PRIMARY KEY (address_book_id, stripe),
+    CONSTRAINT fk_counter_addressbook FOREIGN KEY (address_book_id)
+        REFERENCES addressbooks(id) ON DELETE CASCADE
+);
+
+-- ============================================================
+-- Migration: BIGSERIAL ids -> pooled sequences
+-- ============================================================
+-- Databases created with BIGSERIAL ids have sequences that increment by 1.
+-- Switch them to blocks of 50 and move them past every id already handed
+-- out. Safe to re-run: each run only skips ahead by one block.
+ALTER SEQUENCE addressbooks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE contacts_id_seq INCREMENT BY 50;
+SELECT setval('addressbooks_id_seq',
+    GREATEST((SELECT last_value FROM addressbooks_id_seq), COALESCE((SELECT MAX(id) FROM addressbooks), 0)) + 50,
+    false);
+SELECT setval('contacts_id_seq',
+    GREATEST((SELECT last_value FROM contacts_id_seq), COALESCE((SELECT MAX(id) FROM contacts), 0)) + 50,
+    false);
+
+-- ============================================================
+-- Migration: phone_number -> phone_key
+-- ============================================================
+-- Uniqueness within a book moves from the raw phone_number to its digits.
+-- The application fills phone_key for older rows in batches at startup; a
+-- row whose book already holds its digits is left null and logged.
+ALTER TABLE contacts ADD COLUMN IF NOT EXISTS phone_key VARCHAR(20);
+ALTER TABLE contacts DROP CONSTRAINT IF EXISTS uk_phone_addressbook;
+DROP INDEX IF EXISTS idx_contact_phone;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_phone_key_addressbook ON contacts(phone_key, address_book_id);
+
+-- ============================================================
+-- Migration: named address book name constraint
+-- ============================================================
+-- Duplicate names are told apart from other conflicts by the constraint's name,
+-- so the name PostgreSQL generated for the old column-level UNIQUE is replaced.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'addressbooks_name_key') THEN
+        ALTER TABLE addressbooks RENAME CONSTRAINT addressbooks_name_key TO uk_addressbook_name;
+    END IF;
+END $$;
+
 -- ============================================================
 -- Indexes for Performance
 -- ============================================================
 CREATE INDEX IF NOT EXISTS idx_addressbook_name ON addressbooks(name);
 CREATE INDEX IF NOT EXISTS idx_addressbook_created_at ON addressbooks(created_at);
-CREATE INDEX IF NOT EXISTS idx_contact_phone ON contacts(phone_number);
-CREATE INDEX IF NOT EXISTS idx_contact_addressbook ON contacts(address_book_id);
 CREATE INDEX IF NOT EXISTS idx_contact_name ON contacts(name);
+-- Seek indexes for cursor pagination within a book: (book, sort key, id)
+CREATE INDEX IF NOT EXISTS idx_contact_addressbook_id ON contacts(address_book_id, id);
+CREATE INDEX IF NOT EXISTS idx_contact_addressbook_name ON contacts(address_book_id, name, id);
+-- A prefix of idx_contact_addressbook_id, which serves every lookup it did
+DROP INDEX IF EXISTS idx_contact_addressbook;
+-- A prefix of uk_phone_key_addressbook, which serves every lookup it did
+DROP INDEX IF EXISTS idx_contact_phone_key;
+CREATE INDEX IF NOT EXISTS idx_unique_phone_representative ON unique_phone_numbers(representative_contact_id);
+
+-- Substring search: trigram index on lower(name) serves LOWER(name) LIKE '%term%'.
+-- Needs the pg_trgm extension; the application also creates these at startup if missing.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_addressbook_name_trgm ON addressbooks USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_contact_name_trgm ON contacts USING gin (lower(name) gin_trgm_ops);
 
 -- ============================================================
 -- Comments for Documentation
 -- ============================================================
 COMMENT ON TABLE addressbooks IS 'Stores address book metadata';
 COMMENT ON TABLE contacts IS 'Stores contacts linked to address books';
-COMMENT ON COLUMN contacts.phone_number IS 'Phone number, unique within each address book';
+COMMENT ON COLUMN contacts.phone_number IS 'Phone number as entered';
+COMMENT ON COLUMN contacts.phone_key IS 'Digits of the phone number, unique within each address book';
+COMMENT ON TABLE unique_phone_numbers IS 'Distinct phone numbers across all address books';
+COMMENT ON TABLE addressbook_contact_counters IS 'Striped contact counts per address book';
@@ -0,0 +1,129 @@
+package com.addressbook.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.project.util.SearchPatterns;
+
+/**
+ * Latency distribution of one address book search (id page plus count) over 1M books on
+ * PostgreSQL. {@code index=btree} is the schema before the trigram index, where only
+ * {@code idx_addressbook_name} exists and every search scans; {@code index=trigram} adds
+ * the {@code lower(name)} GIN index. Compare the {@code p0.99} rows of the two runs.
+ *
+ * <p>Needs a PostgreSQL database with pg_trgm available. The data lives in its own
+ * {@code benchmark_addressbooks} table, created on first run and kept for later runs.
+ * Connection settings: {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user},
+ * {@code -Dbenchmark.jdbc.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class AddressBookSearchBenchmark {
+
+    static final int BOOK_COUNT = 1_000_000;
+
+    private static final String PAGE_SQL = "SELECT id FROM benchmark_addressbooks "
+            + "WHERE lower(name) LIKE ? ESCAPE '\\' ORDER BY name LIMIT 20";
+    private static final String COUNT_SQL = "SELECT COUNT(id) FROM benchmark_addressbooks "
+            + "WHERE lower(name) LIKE ? ESCAPE '\\'";
+
+    @Param({ "btree", "trigram" })
+    private String index;
+
+    private Connection connection;
+    private PreparedStatement pageStatement;
+    private PreparedStatement countStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/addressbook"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS benchmark_addressbooks "
+                    + "(id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM benchmark_addressbooks")) {
+                rs.next();
+                if (rs.getLong(1) != BOOK_COUNT) {
+                    statement.execute("TRUNCATE benchmark_addressbooks");
+                    statement.execute("INSERT INTO benchmark_addressbooks (id, name) "
+                            + "SELECT g, 'Book ' || md5(g::text) FROM generate_series(1, " + BOOK_COUNT + ") g");
+                }
+            }
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_benchmark_addressbook_name "
+                    + "ON benchmark_addressbooks (name)");
+            if ("trigram".equals(index)) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_benchmark_addressbook_name_trgm "
+                        + "ON benchmark_addressbooks USING gin (lower(name) gin_trgm_ops)");
+            } else {
+                statement.execute("DROP INDEX IF EXISTS idx_benchmark_addressbook_name_trgm");
+            }
+            statement.execute("ANALYZE benchmark_addressbooks");
+        }
+        pageStatement = connection.prepareStatement(PAGE_SQL);
+        countStatement = connection.prepareStatement(COUNT_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Searches for a random 4-character slice of an md5 name, which matches a few
+     * hundred books.
+     */
+    @Benchmark
+    public long search() throws SQLException {
+        String term = Integer.toHexString(0x1000 + ThreadLocalRandom.current().nextInt(0xF000));
+        String pattern = SearchPatterns.containsIgnoreCase(term);
+
+        long ids = 0;
+        pageStatement.setString(1, pattern);
+        try (ResultSet rs = pageStatement.executeQuery()) {
+            while (rs.next()) {
+                ids += rs.getLong(1);
+            }
+        }
+        countStatement.setString(1, pattern);
+        try (ResultSet rs = countStatement.executeQuery()) {
+            rs.next();
+            return ids + rs.getLong(1);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AddressBookSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
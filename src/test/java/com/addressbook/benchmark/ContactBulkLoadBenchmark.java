@@ -0,0 +1,105 @@
+package com.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.contact.ContactRequest;
+import com.project.services.addressbook.AddressBookService;
+import com.project.services.contact.ContactBulkLoadService;
+
+/**
+ * Rows per second for loading 100k contacts into a new address book, through the bulk
+ * loader versus a V2 create. The score is reported per contact, so it reads directly as
+ * rows/sec; the target for {@code bulkLoad} is 100k rows/sec.
+ *
+ * <p>Uses the {@code test} profile (in-memory H2) by default, which exercises the
+ * multi-row INSERT fallback. Pass {@code -Dbenchmark.profile=prod} with
+ * {@code DATABASE_URL} set to measure the COPY path on PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ContactBulkLoadBenchmark.CONTACT_COUNT)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ContactBulkLoadBenchmark {
+
+    static final int CONTACT_COUNT = 100_000;
+
+    @Param({ "v2Create", "bulkLoad" })
+    private String path;
+
+    private final AtomicInteger bookSequence = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private AddressBookService addressBookService;
+    private ContactBulkLoadService contactBulkLoadService;
+    private List<ContactRequest> contacts;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AddressBookApplication.class)
+                .profiles(System.getProperty("benchmark.profile", "test"))
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn")
+                .run();
+        addressBookService = context.getBean(AddressBookService.class);
+        contactBulkLoadService = context.getBean(ContactBulkLoadService.class);
+
+        contacts = new ArrayList<>(CONTACT_COUNT);
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            contacts.add(ContactRequest.builder()
+                    .name("Contact " + i)
+                    .phoneNumber("+614" + String.format("%08d", i))
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object load() {
+        AddressBookRequest.AddressBookRequestBuilder book = AddressBookRequest.builder()
+                .name("Bulk Benchmark " + System.nanoTime() + "-" + bookSequence.incrementAndGet());
+        if ("v2Create".equals(path)) {
+            return addressBookService.createAddressBookWithContacts(book.contacts(contacts).build());
+        }
+        Long addressBookId = addressBookService.createAddressBook(book.build()).getId();
+        return contactBulkLoadService.loadContacts(addressBookId, contacts.iterator());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactBulkLoadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import com.project.dto.contact.ContactRequest;
+import com.project.entity.addressbook.AddressBook;
+import com.project.services.contact.ContactCreationServiceImpl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Measures {@link ContactCreationServiceImpl#addContactsToAddressBook} for growing
+ * request sizes. The score is the time for one whole request; divide it by
+ * {@code contactCount} for the per-contact cost, which should stay flat from 100
+ * up to 100k contacts. The heap is fixed so that growing it is not part of the
+ * 100k score.
+ *
+ * <p>Run from the IDE via {@link #main}, or see the Benchmarks section of the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms2g", "-Xmx2g" })
+public class ContactCreationBenchmark {
+
+    @Param({ "100", "1000", "10000", "100000" })
+    private int contactCount;
+
+    private final ContactCreationServiceImpl contactCreationService = new ContactCreationServiceImpl();
+
+    private List<ContactRequest> requests;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(ContactCreationServiceImpl.class)).setLevel(Level.WARN);
+        requests = new ArrayList<>(contactCount);
+        for (int i = 0; i < contactCount; i++) {
+            requests.add(ContactRequest.builder()
+                    .name("Contact " + i)
+                    .phoneNumber(String.format("+61 4%02d %03d %03d", i / 1_000_000, (i / 1000) % 1000, i % 1000))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public AddressBook addContacts() {
+        AddressBook addressBook = AddressBook.builder()
+                .name("Benchmark")
+                .contacts(new HashSet<>())
+                .build();
+        contactCreationService.addContactsToAddressBook(addressBook, requests);
+        return addressBook;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactCreationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
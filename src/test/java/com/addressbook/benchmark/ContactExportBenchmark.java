@@ -0,0 +1,117 @@
+package com.addressbook.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.contact.ContactDataFormat;
+import com.project.dto.contact.ContactRequest;
+import com.project.services.addressbook.AddressBookService;
+import com.project.services.contact.ContactBulkLoadService;
+import com.project.services.contact.ContactExportService;
+
+/**
+ * Rows per second exporting a 1M-contact address book to a discarding stream. The score
+ * is reported per contact. The fork runs with a 128 MB heap, far less than 1M loaded
+ * contacts take, so the run only completes if the export holds on to none of them.
+ *
+ * <p>Uses the {@code test} profile by default, with H2 on disk under {@code target/} so
+ * the database itself stays out of the capped heap. Pass
+ * {@code -Dbenchmark.profile=prod} with {@code DATABASE_URL} set to measure PostgreSQL,
+ * where the fetch size decides how many rows are in memory at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ContactExportBenchmark.CONTACT_COUNT)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ContactExportBenchmark {
+
+    static final int CONTACT_COUNT = 1_000_000;
+    static final int LOAD_BATCH = 10_000;
+
+    @Param({ "NDJSON", "CSV" })
+    private ContactDataFormat format;
+
+    private ConfigurableApplicationContext context;
+    private ContactExportService contactExportService;
+    private Long addressBookId;
+    private Path database;
+
+    @Setup
+    public void setUp() {
+        String profile = System.getProperty("benchmark.profile", "test");
+        SpringApplicationBuilder application = new SpringApplicationBuilder(AddressBookApplication.class)
+                .profiles(profile)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn");
+        // One file per fork: a file database outlives the fork, and the next one would reuse its ids
+        database = Path.of("target", "contact-export-benchmark-" + ProcessHandle.current().pid());
+        // A command-line argument, so it wins over the profile's in-memory URL
+        context = profile.equals("test")
+                ? application.run("--spring.datasource.url=jdbc:h2:file:./" + database)
+                : application.run();
+        contactExportService = context.getBean(ContactExportService.class);
+        ContactBulkLoadService contactBulkLoadService = context.getBean(ContactBulkLoadService.class);
+
+        addressBookId = context.getBean(AddressBookService.class).createAddressBook(AddressBookRequest.builder()
+                .name("Export Benchmark " + System.nanoTime())
+                .build()).getId();
+        for (int start = 0; start < CONTACT_COUNT; start += LOAD_BATCH) {
+            List<ContactRequest> batch = new ArrayList<>(LOAD_BATCH);
+            for (int i = start; i < start + LOAD_BATCH; i++) {
+                batch.add(ContactRequest.builder()
+                        .name("Contact " + i)
+                        .phoneNumber("+614" + String.format("%08d", i))
+                        .build());
+            }
+            contactBulkLoadService.loadContacts(addressBookId, batch.iterator());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+    }
+
+    @Benchmark
+    public void export() throws Exception {
+        contactExportService.exportAddressBook(addressBookId, format).writeTo(OutputStream.nullOutputStream());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactExportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,107 @@
+package com.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.contact.ContactRequest;
+import com.project.services.addressbook.AddressBookService;
+
+/**
+ * Inserts per second for a V2 create of a 10k-contact address book. The score is
+ * reported per contact, so it reads directly as inserts/sec.
+ *
+ * <p>{@code ids=identity} is the baseline: {@code benchmark/identity-ids-orm.xml} maps
+ * book and contact ids back to IDENTITY columns, so Hibernate must send each INSERT on
+ * its own to read the generated key. {@code ids=sequence} is the mapping as shipped,
+ * pooled sequence ids with the configured JDBC batch size.
+ *
+ * <p>Uses the {@code test} profile (in-memory H2) by default. Pass
+ * {@code -Dbenchmark.profile=prod} with {@code DATABASE_URL} set to measure PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ContactInsertBenchmark.CONTACT_COUNT)
+@Warmup(iterations = 6, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ContactInsertBenchmark {
+
+    static final int CONTACT_COUNT = 10_000;
+
+    @Param({ "identity", "sequence" })
+    private String ids;
+
+    private final AtomicInteger bookSequence = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private AddressBookService addressBookService;
+    private List<ContactRequest> contacts;
+
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(AddressBookApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn");
+        if ("identity".equals(ids)) {
+            application.properties("spring.jpa.mapping-resources=benchmark/identity-ids-orm.xml");
+        }
+        // Only the requested profile: dev's seed data has explicit ids that IDENTITY columns would reuse
+        context = application.run("--spring.profiles.active=" + System.getProperty("benchmark.profile", "test"));
+        addressBookService = context.getBean(AddressBookService.class);
+
+        contacts = new ArrayList<>(CONTACT_COUNT);
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            contacts.add(ContactRequest.builder()
+                    .name("Contact " + i)
+                    .phoneNumber("+614" + String.format("%08d", i))
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AddressBookResponse createAddressBookWithContacts() {
+        AddressBookRequest request = AddressBookRequest.builder()
+                .name("Benchmark " + System.nanoTime() + "-" + bookSequence.incrementAndGet())
+                .contacts(contacts)
+                .build();
+        return addressBookService.createAddressBookWithContacts(request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.addressbook.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.project.util.SearchPatterns;
+
+/**
+ * Latency distribution of one keyset page of a contact name search over 10M contacts on
+ * PostgreSQL, the query behind {@code /api/v1/contacts/search}. {@code index=btree} has
+ * only the {@code (address_book_id, name, id)} index, so a search scans; {@code index=trigram}
+ * adds the {@code lower(name)} GIN index. The target is a p99 under 10 ms.
+ *
+ * <p>{@code order=id} is the endpoints' default; {@code order=name} cannot be read in
+ * order from the GIN index, so every match is sorted before the page is cut. A
+ * {@code rare} term matches a few hundred contacts, a {@code common} one all of them.
+ *
+ * <p>Needs a PostgreSQL database with pg_trgm available. The data lives in its own
+ * {@code benchmark_contacts} table, created on first run and kept for later runs.
+ * Connection settings: {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user},
+ * {@code -Dbenchmark.jdbc.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ContactSearchBenchmark {
+
+    static final int CONTACT_COUNT = 10_000_000;
+
+    private static final String PAGE_SQL = "SELECT id, name, phone_number FROM benchmark_contacts "
+            + "WHERE lower(name) LIKE ? ESCAPE '\\' ORDER BY %s LIMIT 21";
+
+    @Param({ "btree", "trigram" })
+    private String index;
+
+    @Param({ "id", "name" })
+    private String order;
+
+    @Param({ "rare", "common" })
+    private String term;
+
+    private Connection connection;
+    private PreparedStatement pageStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/addressbook"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS benchmark_contacts (id BIGINT PRIMARY KEY, "
+                    + "address_book_id BIGINT NOT NULL, name VARCHAR(255) NOT NULL, phone_number VARCHAR(50) NOT NULL)");
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM benchmark_contacts")) {
+                rs.next();
+                if (rs.getLong(1) != CONTACT_COUNT) {
+                    statement.execute("TRUNCATE benchmark_contacts");
+                    statement.execute("INSERT INTO benchmark_contacts (id, address_book_id, name, phone_number) "
+                            + "SELECT g, g % 10000, 'Contact ' || md5(g::text), '+61' || lpad(g::text, 9, '0') "
+                            + "FROM generate_series(1, " + CONTACT_COUNT + ") g");
+                }
+            }
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_benchmark_contact_addressbook_name "
+                    + "ON benchmark_contacts (address_book_id, name, id)");
+            if ("trigram".equals(index)) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_benchmark_contact_name_trgm "
+                        + "ON benchmark_contacts USING gin (lower(name) gin_trgm_ops)");
+            } else {
+                statement.execute("DROP INDEX IF EXISTS idx_benchmark_contact_name_trgm");
+            }
+            statement.execute("ANALYZE benchmark_contacts");
+        }
+        pageStatement = connection.prepareStatement(String.format(PAGE_SQL, "id".equals(order) ? "id" : "name, id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Searches for a random 5-character slice of an md5 name, which matches a few
+     * hundred contacts, or for a slice of the "Contact" prefix every name shares. There
+     * is no count query: a keyset page only fetches one row past the limit to decide
+     * whether a next page exists.
+     */
+    @Benchmark
+    public long search() throws SQLException {
+        String slice = "common".equals(term)
+                ? "tact"
+                : Integer.toHexString(0x10000 + ThreadLocalRandom.current().nextInt(0xF0000));
+
+        long ids = 0;
+        pageStatement.setString(1, SearchPatterns.containsIgnoreCase(slice));
+        try (ResultSet rs = pageStatement.executeQuery()) {
+            while (rs.next()) {
+                ids += rs.getLong(1);
+            }
+        }
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,152 @@
+package com.addressbook.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.project.util.LongMultimap;
+
+/**
+ * Lookup latency and heap per entry of the reverse phone index, a {@link LongMultimap}
+ * of encoded phone keys, against the obvious boxed alternative, a
+ * {@code HashMap<String, Set<Long>>}. Both hold the same (phone key, address book) pairs:
+ * {@code entries} distinct 11-digit keys, one in ten of them in a second book.
+ *
+ * <p>The retained heap is the heap in use after a full GC with the index built, minus the
+ * same before; divide the {@code retainedBytes} counter by {@code pairs} for the bytes per
+ * pair. Lookups hit existing keys in random order; the score is the time of one lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms4g", "-Xmx4g" })
+public class PhoneLookupBenchmark {
+
+    private static final int LOOKUP_KEYS = 1 << 16;
+
+    @Param({ "1000000", "10000000" })
+    private int entries;
+
+    @Param({ "LONG_MULTIMAP", "HASH_MAP" })
+    private String index;
+
+    private LongMultimap multimap;
+    private Map<String, Set<Long>> hashMap;
+    private long[] codes;
+    private String[] keys;
+    private int next;
+    private long retainedBytes;
+    private long pairs;
+
+    /**
+     * The index's retained heap and pair count, reported once per iteration; JMH sums them
+     * over the iterations, so their ratio is the bytes per pair. Set on tear down, as JMH
+     * zeroes the counters after an iteration's setup.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+        public long pairs;
+
+        @TearDown(Level.Iteration)
+        public void report(PhoneLookupBenchmark benchmark) {
+            retainedBytes = benchmark.retainedBytes;
+            pairs = benchmark.pairs;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        long before = usedHeapAfterGc();
+        Random random = new Random(42);
+        pairs = 0;
+        if ("LONG_MULTIMAP".equals(index)) {
+            multimap = new LongMultimap();
+            for (int i = 0; i < entries; i++) {
+                // The encoding of "614" + 8 digits: a leading 1, then the key's digits
+                long code = 1_614_00000000L + i;
+                long addressBookId = 1 + random.nextInt(100_000);
+                pairs += multimap.put(code, addressBookId) ? 1 : 0;
+                if (i % 10 == 0) {
+                    pairs += multimap.put(code, addressBookId + 1) ? 1 : 0;
+                }
+            }
+        } else {
+            hashMap = new HashMap<>();
+            for (int i = 0; i < entries; i++) {
+                String key = "614" + (10_000_000 + i);
+                long addressBookId = 1 + random.nextInt(100_000);
+                Set<Long> books = hashMap.computeIfAbsent(key, k -> new HashSet<>(2));
+                pairs += books.add(addressBookId) ? 1 : 0;
+                if (i % 10 == 0) {
+                    pairs += books.add(addressBookId + 1) ? 1 : 0;
+                }
+            }
+        }
+        retainedBytes = usedHeapAfterGc() - before;
+
+        codes = new long[LOOKUP_KEYS];
+        keys = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            int key = random.nextInt(entries);
+            codes[i] = 1_614_00000000L + key;
+            keys[i] = "614" + (10_000_000 + key);
+        }
+    }
+
+    @Benchmark
+    public Object lookup(Footprint footprint) {
+        int i = next++ & (LOOKUP_KEYS - 1);
+        return multimap != null ? multimap.get(codes[i]) : hashMap.get(keys[i]);
+    }
+
+    /**
+     * The heap in use right after a full GC, read from the collector's own figure: the
+     * current usage would also count the thread's unused allocation buffer.
+     */
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PhoneLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.addressbook.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.project.entity.contact.Contact;
+import com.project.util.PhoneNumbers;
+
+/**
+ * Nanoseconds per phone number to validate, and to validate and normalize, with the
+ * {@code Contact.PHONE_NUMBER_PATTERN} regex the entity used to carry versus the
+ * single-pass scanner in {@link PhoneNumbers}. The regex variant normalizes with
+ * {@code replaceAll("[^0-9]", "")}.
+ *
+ * <p>{@code VALID} inputs are formatted the way clients send them; {@code INVALID} ones
+ * fail late (a letter near the end, or one character too many), which is the worst case
+ * for both. Run with {@code -prof gc} to see allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PhoneNumberValidationBenchmark.INPUT_COUNT)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhoneNumberValidationBenchmark {
+
+    static final int INPUT_COUNT = 4;
+
+    private static final Pattern PHONE_NUMBER = Pattern.compile(Contact.PHONE_NUMBER_PATTERN);
+    private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
+
+    @Param({ "VALID", "INVALID" })
+    private String inputs;
+
+    private String[] phoneNumbers;
+
+    @Setup
+    public void setUp() {
+        phoneNumbers = "VALID".equals(inputs)
+                ? new String[] { "+61 400 000 000", "(02) 9876-5432", "+1-555-010-0199", "0412345678" }
+                : new String[] { "+61 400 000 00x", "(02) 9876-543a", "+1-555-010-0199-000000",
+                        "0412345678 ext" };
+    }
+
+    @Benchmark
+    public void regexValidate(Blackhole blackhole) {
+        for (String phoneNumber : phoneNumbers) {
+            blackhole.consume(PHONE_NUMBER.matcher(phoneNumber).matches());
+        }
+    }
+
+    @Benchmark
+    public void scannerValidate(Blackhole blackhole) {
+        for (String phoneNumber : phoneNumbers) {
+            blackhole.consume(PhoneNumbers.isValid(phoneNumber));
+        }
+    }
+
+    @Benchmark
+    public void regexValidateAndNormalize(Blackhole blackhole) {
+        for (String phoneNumber : phoneNumbers) {
+            if (PHONE_NUMBER.matcher(phoneNumber).matches()) {
+                blackhole.consume(NON_DIGIT.matcher(phoneNumber).replaceAll(""));
+            }
+        }
+    }
+
+    @Benchmark
+    public void scannerValidateAndNormalize(Blackhole blackhole) {
+        for (String phoneNumber : phoneNumbers) {
+            if (PhoneNumbers.isValid(phoneNumber)) {
+                blackhole.consume(PhoneNumbers.normalize(phoneNumber));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PhoneNumberValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,152 @@
+package com.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.contact.ContactRequest;
+import com.project.dto.contact.ContactResponse;
+import com.project.services.addressbook.AddressBookService;
+import com.project.services.contact.ContactService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Database round trips on a read-heavy mix with and without the second-level cache:
+ * 95% reads (a whole book or a single contact, half each) and 5% contact renames over
+ * 200 books of 20 contacts. Compare the {@code statements} counter per operation
+ * between {@code secondLevelCache=false} and {@code true}.
+ *
+ * <p>Uses the {@code test} profile (in-memory H2) by default, where a round trip is
+ * nearly free, so the throughput gap understates a networked database. Pass
+ * {@code -Dbenchmark.profile=prod} with {@code DATABASE_URL} set to measure PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SecondLevelCacheBenchmark {
+
+    static final int BOOK_COUNT = 200;
+    static final int CONTACTS_PER_BOOK = 20;
+    static final int WRITE_PERCENT = 5;
+
+    @Param({ "false", "true" })
+    private String secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private AddressBookService addressBookService;
+    private ContactService contactService;
+    private Statistics statistics;
+    private final List<ContactResponse> contacts = new ArrayList<>();
+
+    /**
+     * Statements and operations as totals per iteration; their ratio is the number of
+     * database round trips per request.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long statements;
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            operations = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Command-line arguments, so the switch wins over application.properties, which turns the cache on
+        context = new SpringApplicationBuilder(AddressBookApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn")
+                .run("--spring.profiles.active=" + System.getProperty("benchmark.profile", "test"),
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache);
+        addressBookService = context.getBean(AddressBookService.class);
+        contactService = context.getBean(ContactService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        for (int b = 0; b < BOOK_COUNT; b++) {
+            List<ContactRequest> requests = new ArrayList<>(CONTACTS_PER_BOOK);
+            for (int c = 0; c < CONTACTS_PER_BOOK; c++) {
+                requests.add(ContactRequest.builder()
+                        .name("Contact " + c)
+                        .phoneNumber(String.format("+614%04d%04d", b, c))
+                        .build());
+            }
+            AddressBookResponse book = addressBookService.createAddressBookWithContacts(AddressBookRequest.builder()
+                    .name("Cache Benchmark " + System.nanoTime() + "-" + b)
+                    .contacts(requests)
+                    .build());
+            contacts.addAll(book.getContacts());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object readHeavyMix(RoundTrips roundTrips) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ContactResponse contact = contacts.get(random.nextInt(contacts.size()));
+        int roll = random.nextInt(100);
+
+        long before = statistics.getPrepareStatementCount();
+        Object result;
+        if (roll < WRITE_PERCENT) {
+            result = contactService.updateContact(contact.getAddressBookId(), contact.getId(),
+                    ContactRequest.builder()
+                            .name("Renamed " + random.nextInt(1000))
+                            .phoneNumber(contact.getPhoneNumber())
+                            .build());
+        } else if (roll % 2 == 0) {
+            result = addressBookService.getAddressBookById(contact.getAddressBookId());
+        } else {
+            result = contactService.getContactById(contact.getAddressBookId(), contact.getId());
+        }
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+        roundTrips.operations++;
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SecondLevelCacheBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,136 @@
+package com.addressbook.benchmark;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.contact.ContactRequest;
+import com.project.services.addressbook.AddressBookService;
+import com.project.services.contact.ContactBulkLoadService;
+import com.project.services.snapshot.SnapshotService;
+
+/**
+ * Contacts per second writing a snapshot of 1M contacts to a file and restoring it. Each
+ * restore replaces the dataset with the same snapshot, so every invocation does the same
+ * work. The fork runs with a 128 MB heap, so neither direction may hold the dataset.
+ *
+ * <p>Uses the {@code test} profile by default, with H2 on disk under {@code target/}. Pass
+ * {@code -Dbenchmark.profile=prod} with {@code DATABASE_URL} set to measure PostgreSQL,
+ * where restore goes through COPY.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(SnapshotBenchmark.CONTACT_COUNT)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class SnapshotBenchmark {
+
+    static final int CONTACT_COUNT = 1_000_000;
+    static final int ADDRESS_BOOK_COUNT = 100;
+    static final int LOAD_BATCH = 10_000;
+
+    @Param({ "true", "false" })
+    private boolean compress;
+
+    private ConfigurableApplicationContext context;
+    private SnapshotService snapshotService;
+    private Path snapshotFile;
+    private Path database;
+
+    @Setup
+    public void setUp() throws Exception {
+        String profile = System.getProperty("benchmark.profile", "test");
+        SpringApplicationBuilder application = new SpringApplicationBuilder(AddressBookApplication.class)
+                .profiles(profile)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn");
+        // A fresh file per fork; a command-line argument, so it wins over the profile's in-memory URL
+        database = Path.of("target", "snapshot-benchmark-" + ProcessHandle.current().pid());
+        context = profile.equals("test")
+                ? application.run("--spring.datasource.url=jdbc:h2:file:./" + database)
+                : application.run();
+        snapshotService = context.getBean(SnapshotService.class);
+        AddressBookService addressBookService = context.getBean(AddressBookService.class);
+        ContactBulkLoadService contactBulkLoadService = context.getBean(ContactBulkLoadService.class);
+
+        int perBook = CONTACT_COUNT / ADDRESS_BOOK_COUNT;
+        for (int book = 0; book < ADDRESS_BOOK_COUNT; book++) {
+            Long addressBookId = addressBookService.createAddressBook(AddressBookRequest.builder()
+                    .name("Snapshot Benchmark " + book + " " + System.nanoTime())
+                    .build()).getId();
+            List<ContactRequest> batch = new ArrayList<>(perBook);
+            for (int i = 0; i < perBook; i++) {
+                batch.add(ContactRequest.builder()
+                        .name("Contact " + book + "-" + i)
+                        .phoneNumber("+614" + String.format("%08d", book * perBook + i))
+                        .build());
+                if (batch.size() == LOAD_BATCH) {
+                    contactBulkLoadService.loadContacts(addressBookId, batch.iterator());
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                contactBulkLoadService.loadContacts(addressBookId, batch.iterator());
+            }
+        }
+        snapshotFile = Files.createTempFile(Path.of("target"), "snapshot-benchmark", ".snapshot");
+        snapshot();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+    }
+
+    @Benchmark
+    public void snapshot() throws Exception {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            snapshotService.writeSnapshot(channel, compress);
+        }
+    }
+
+    @Benchmark
+    public void restore() throws Exception {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            snapshotService.restore(channel);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnapshotBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,157 @@
+package com.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AddressBookApplication;
+import com.project.dto.addressbook.AddressBookRequest;
+import com.project.dto.contact.ContactRequest;
+import com.project.dto.response.ApiResponse;
+import com.project.services.addressbook.AddressBookService;
+import com.project.services.contact.ContactService;
+
+/**
+ * Time and JSON bytes of one page of 100 contacts, every field against a sparse
+ * {@code fields=} selection: a page of one book's contacts, and a page of unique contacts
+ * drawn from many books. The score covers the query, the mapping and serializing the
+ * response envelope; the {@code bytes} counter divided by {@code operations} is the
+ * payload per page.
+ *
+ * <p>Uses the {@code test} profile (in-memory H2) by default, where a round trip is
+ * nearly free and only the columns read and the objects built show. Pass
+ * {@code -Dbenchmark.profile=prod} with {@code DATABASE_URL} set to measure PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SparseFieldsBenchmark {
+
+    static final int BOOK_COUNT = 100;
+    static final int CONTACTS_PER_BOOK = 200;
+    static final int PAGE_SIZE = 100;
+    static final String ALL_FIELDS = "all";
+
+    @Param({ ALL_FIELDS, "id,name", "id,phoneNumber,addressBookName" })
+    private String fields;
+
+    private ConfigurableApplicationContext context;
+    private ContactService contactService;
+    private ObjectMapper objectMapper;
+    private final List<Long> addressBookIds = new ArrayList<>();
+
+    /**
+     * Payload bytes and operations as totals per iteration; their ratio is the size of
+     * one page.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            operations = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // As an argument, so it replaces the dev profile application.properties activates,
+        // whose SQL logging would dominate the timings
+        context = new SpringApplicationBuilder(AddressBookApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "logging.level.root=warn",
+                        "logging.level.com.project=warn")
+                .run("--spring.profiles.active=" + System.getProperty("benchmark.profile", "test"));
+        contactService = context.getBean(ContactService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        AddressBookService addressBookService = context.getBean(AddressBookService.class);
+
+        for (int b = 0; b < BOOK_COUNT; b++) {
+            List<ContactRequest> requests = new ArrayList<>(CONTACTS_PER_BOOK);
+            for (int c = 0; c < CONTACTS_PER_BOOK; c++) {
+                requests.add(ContactRequest.builder()
+                        .name("Contact " + b + "-" + c)
+                        .phoneNumber(String.format("+614%04d%04d", b, c))
+                        .build());
+            }
+            addressBookIds.add(addressBookService.createAddressBookWithContacts(AddressBookRequest.builder()
+                    .name("Sparse Benchmark " + System.nanoTime() + "-" + b)
+                    .contacts(requests)
+                    .build()).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] bookPage(Payload payload) throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long addressBookId = addressBookIds.get(random.nextInt(addressBookIds.size()));
+        Pageable pageable = PageRequest.of(random.nextInt(CONTACTS_PER_BOOK / PAGE_SIZE), PAGE_SIZE,
+                Sort.by("id"));
+        Object page = ALL_FIELDS.equals(fields)
+                ? contactService.getAllContactsPaged(addressBookId, pageable)
+                : contactService.getAllContactsPaged(addressBookId, pageable, fields);
+        return write(page, payload);
+    }
+
+    @Benchmark
+    public byte[] uniquePage(Payload payload) throws JsonProcessingException {
+        int pages = BOOK_COUNT * CONTACTS_PER_BOOK / PAGE_SIZE;
+        Pageable pageable = PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE, Sort.by("id"));
+        Object page = ALL_FIELDS.equals(fields)
+                ? contactService.getUniqueContactsPaged(pageable)
+                : contactService.getUniqueContactsPaged(pageable, fields);
+        return write(page, payload);
+    }
+
+    private byte[] write(Object page, Payload payload) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(page, "Contacts retrieved successfully"));
+        payload.bytes += json.length;
+        payload.operations++;
+        return json;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SparseFieldsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -9,6 +9,10 @@ import com.project.entity.contact.Contact;
 
 import net.datafaker.Faker;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -257,6 +261,15 @@ public class TestDataFactory {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * What a repository throws when a flush violates the named unique constraint.
+     */
+    public static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("duplicate key", "23505"), constraintName));
+    }
+
     public static String generateAustralianPhoneNumber() {
         return "+61" + faker.number().digits(9);
     }
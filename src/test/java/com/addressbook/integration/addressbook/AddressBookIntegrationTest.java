@@ -1,12 +1,31 @@
 package com.addressbook.integration.addressbook;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.addressbook.fixture.TestDataFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -14,14 +33,29 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.AddressBookApplication;
 import com.project.dto.addressbook.AddressBookRequest;
 import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.contact.ContactExistsRequest;
+import com.project.dto.contact.ContactIdsRequest;
 import com.project.dto.contact.ContactRequest;
 import com.project.dto.contact.ContactResponse;
+import com.project.dto.contact.PhoneLookupResponse;
 import com.project.dto.response.ApiResponse;
+import com.project.dto.response.CursorResponse;
 import com.project.dto.response.PagedResponse;
+import com.project.entity.contact.Contact;
 import com.project.repository.addressbook.AddressBookRepository;
 import com.project.repository.contact.ContactRepository;
+import com.project.repository.contact.UniquePhoneNumberRepository;
+import com.project.services.contact.PhoneKeyBackfillService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.services.contact.UniqueContactIndexService;
+import com.project.util.PhoneNumbers;
+
+import jakarta.persistence.EntityManagerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +66,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("Address Book Integration Tests")
 class AddressBookIntegrationTest {
 
+    private static final int PARALLEL_REQUESTS = 8;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -44,10 +80,29 @@ class AddressBookIntegrationTest {
     @Autowired
     private ContactRepository contactRepository;
 
+    @Autowired
+    private UniquePhoneNumberRepository uniquePhoneNumberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PhoneKeyBackfillService phoneKeyBackfillService;
+
+    @Autowired
+    private UniqueContactIndexService uniqueContactIndexService;
+
+    @Autowired
+    private PhoneLookupService phoneLookupService;
+
     @BeforeEach
     void setUp() {
         contactRepository.deleteAll();
         addressBookRepository.deleteAll();
+        uniquePhoneNumberRepository.deleteAll();
     }
 
     @Test
@@ -1170,6 +1225,11 @@ class AddressBookIntegrationTest {
         // Should only delete the one that exists
         assertThat(responseJson).contains("\"deletedCount\":1");
         assertThat(responseJson).contains("\"requestedCount\":3");
+
+        // Neither query parameter nor body
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts/bulk"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Required parameter 'ids' is missing"));
     }
 
     @Test
@@ -1298,6 +1358,1332 @@ class AddressBookIntegrationTest {
         assertThat(pagedResponse.getContent()).hasSize(3);
     }
 
+    @Test
+    @Order(45)
+    @DisplayName("Should walk all contacts with cursor pagination")
+    void testCursorPaginationWalksAllContacts() throws Exception {
+        Long addressBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        for (int i = 0; i < 25; i++) {
+            // Duplicate names force the id tiebreaker to decide the order
+            addTestContact(addressBookId, "Contact " + (i % 5), "+6140000" + String.format("%04d", i));
+        }
+
+        List<ContactResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/v1/addressbooks/" + addressBookId + "/contacts")
+                    .param("limit", "10")
+                    .param("sortBy", "name");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            CursorResponse<ContactResponse> page = readCursorResponse(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString());
+            seen.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(25);
+        assertThat(seen).extracting(ContactResponse::getId).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(ContactResponse::getName)
+                .thenComparing(ContactResponse::getId));
+    }
+
+    @Test
+    @Order(46)
+    @DisplayName("Should page unique contacts with a cursor")
+    void testCursorPaginationUniqueContacts() throws Exception {
+        Long addressBook1 = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long addressBook2 = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        addTestContact(addressBook1, "Shared", "+61400000001");
+        addTestContact(addressBook1, "Only One", "+61400000002");
+        addTestContact(addressBook2, "Shared", "+61400000001");
+        addTestContact(addressBook2, "Only Two", "+61400000003");
+
+        CursorResponse<ContactResponse> first = readCursorResponse(mockMvc.perform(
+                get("/api/v1/addressbooks/" + addressBook1 + "/contacts/unique").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+        CursorResponse<ContactResponse> second = readCursorResponse(mockMvc.perform(
+                get("/api/v1/addressbooks/" + addressBook1 + "/contacts/unique")
+                        .param("limit", "2")
+                        .param("cursor", first.getNextCursor()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(first.getContent()).extracting(ContactResponse::getName)
+                .containsExactly("Shared", "Only One");
+        assertThat(second.getContent()).extracting(ContactResponse::getName)
+                .containsExactly("Only Two");
+    }
+
+    @Test
+    @Order(47)
+    @DisplayName("Should reject an invalid cursor with 400")
+    void testCursorPaginationInvalidCursor() throws Exception {
+        Long addressBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts")
+                .param("limit", "10")
+                .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(48)
+    @DisplayName("Should bulk delete contacts with ids in the request body")
+    void testBulkDeleteContactsWithRequestBody() throws Exception {
+        Long addressBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long otherBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long first = addTestContact(addressBookId, "First", "+61400000011");
+        Long second = addTestContact(addressBookId, "Second", "+61400000012");
+        addTestContact(addressBookId, "Kept", "+61400000013");
+        Long foreign = addTestContact(otherBookId, "Foreign", "+61400000014");
+
+        ContactIdsRequest request = ContactIdsRequest.builder()
+                .ids(List.of(first, second, foreign))
+                .build();
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.requestedCount").value(3))
+                .andExpect(jsonPath("$.response.deletedCount").value(2));
+
+        assertThat(contactRepository.findByAddressBookId(addressBookId))
+                .extracting(contact -> contact.getName())
+                .containsExactly("Kept");
+        assertThat(contactRepository.findByAddressBookId(otherBookId)).hasSize(1);
+    }
+
+    @Test
+    @Order(49)
+    @DisplayName("Should delete all contacts of a book and report the count")
+    void testRemoveAllContacts() throws Exception {
+        Long addressBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long otherBookId = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        addTestContact(addressBookId, "One", "+61400000021");
+        addTestContact(addressBookId, "Two", "+61400000022");
+        addTestContact(otherBookId, "Other", "+61400000023");
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.deletedCount").value(2));
+
+        assertThat(contactRepository.findByAddressBookId(addressBookId)).isEmpty();
+        assertThat(contactRepository.findByAddressBookId(otherBookId)).hasSize(1);
+    }
+
+    @Test
+    @Order(50)
+    @DisplayName("Should list address book summaries with contact counts and no contacts")
+    void testGetAddressBookSummaries() throws Exception {
+        Long fullBookId = createTestAddressBook("Summary Full");
+        createTestAddressBook("Summary Empty");
+        addTestContact(fullBookId, "One", "+61400000031");
+        addTestContact(fullBookId, "Two", "+61400000032");
+        addTestContact(fullBookId, "Three", "+61400000033");
+
+        mockMvc.perform(get("/api/v1/addressbooks/summary").param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(2))
+                .andExpect(jsonPath("$.response.content[0].name").value("Summary Empty"))
+                .andExpect(jsonPath("$.response.content[0].contactCount").value(0))
+                .andExpect(jsonPath("$.response.content[1].name").value("Summary Full"))
+                .andExpect(jsonPath("$.response.content[1].contactCount").value(3))
+                .andExpect(jsonPath("$.response.content[1].contacts").doesNotExist());
+    }
+
+    @Test
+    @Order(51)
+    @DisplayName("Should keep the contact count in step with every write path")
+    void testContactCountFollowsWrites() throws Exception {
+        AddressBookRequest request = AddressBookRequest.builder()
+                .name(TestDataFactory.generateAddressBookName())
+                .contacts(List.of(
+                        TestDataFactory.createContactRequest("V2 One", "+61400000041"),
+                        TestDataFactory.createContactRequest("V2 Two", "+61400000042")))
+                .build();
+        String created = mockMvc.perform(post("/api/v2/addressbooks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long addressBookId = objectMapper.readValue(created,
+                new TypeReference<ApiResponse<AddressBookResponse>>() {
+                }).getResponse().getId();
+        assertContactCount(addressBookId, 2);
+
+        Long third = addTestContact(addressBookId, "Three", "+61400000043");
+        Long fourth = addTestContact(addressBookId, "Four", "+61400000044");
+        Long fifth = addTestContact(addressBookId, "Five", "+61400000045");
+        assertContactCount(addressBookId, 5);
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts/" + third))
+                .andExpect(status().isOk());
+        assertContactCount(addressBookId, 4);
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts/bulk")
+                .param("ids", fourth + "," + fifth + ",999999"))
+                .andExpect(status().isOk());
+        assertContactCount(addressBookId, 2);
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + addressBookId + "/contacts"))
+                .andExpect(status().isOk());
+        assertContactCount(addressBookId, 0);
+    }
+
+    private void assertContactCount(Long addressBookId, long expected) throws Exception {
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response").value(expected));
+        assertThat(contactRepository.countByAddressBookId(addressBookId)).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(52)
+    @DisplayName("Should keep the unique contacts index in step with every write path")
+    void testUniqueContactsIndexFollowsWrites() throws Exception {
+        AddressBookRequest request = AddressBookRequest.builder()
+                .name(TestDataFactory.generateAddressBookName())
+                .contacts(List.of(
+                        TestDataFactory.createContactRequest("Shared", "+61400000051"),
+                        TestDataFactory.createContactRequest("Solo", "+61400000052")))
+                .build();
+        mockMvc.perform(post("/api/v2/addressbooks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        assertUniqueIndexMatchesContacts();
+
+        Long book1 = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long book2 = createTestAddressBook(TestDataFactory.generateAddressBookName());
+        Long shared1 = addTestContact(book1, "Shared", "+61400000051");
+        Long other = addTestContact(book1, "Other", "+61400000053");
+        addTestContact(book2, "Shared", "+61400000051");
+        Long moving = addTestContact(book2, "Moving", "+61400000054");
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(put("/api/v1/addressbooks/" + book2 + "/contacts/" + moving)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Moving", "+61400000053"))))
+                .andExpect(status().isOk());
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + book1 + "/contacts/" + other))
+                .andExpect(status().isOk());
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + book1 + "/contacts/bulk").param("ids", shared1.toString()))
+                .andExpect(status().isOk());
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + book2 + "/contacts"))
+                .andExpect(status().isOk());
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(delete("/api/v1/addressbooks/" + book1))
+                .andExpect(status().isOk());
+        assertUniqueIndexMatchesContacts();
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + book2 + "/contacts/unique"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(2));
+    }
+
+    /**
+     * The index must hold exactly what grouping the contacts table would give.
+     */
+    private void assertUniqueIndexMatchesContacts() {
+        List<Contact> all = contactRepository.findAll();
+        assertThat(all).allSatisfy(contact ->
+                assertThat(contact.getPhoneKey()).isEqualTo(PhoneNumbers.normalize(contact.getPhoneNumber())));
+        Map<String, List<Contact>> byPhone = all.stream()
+                .collect(Collectors.groupingBy(Contact::getPhoneKey));
+        Map<String, List<Long>> expected = new HashMap<>();
+        byPhone.forEach((phone, contacts) -> expected.put(phone, List.of(
+                contacts.stream().mapToLong(Contact::getId).min().getAsLong(),
+                (long) contacts.size())));
+
+        Map<String, List<Long>> actual = new HashMap<>();
+        uniquePhoneNumberRepository.findAll().forEach(unique -> actual.put(unique.getPhoneKey(),
+                List.of(unique.getRepresentativeContactId(), unique.getReferenceCount())));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @Order(53)
+    @DisplayName("Should match LIKE wildcards in search terms literally")
+    void testSearchAddressBooksWithWildcardCharacters() throws Exception {
+        createTestAddressBook("Sale 50% Off");
+        createTestAddressBook("Sale 500 Off");
+        createTestAddressBook("snake_case book");
+        createTestAddressBook("snakeXcase book");
+
+        mockMvc.perform(get("/api/v1/addressbooks/search").param("name", "50%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(1))
+                .andExpect(jsonPath("$.response.content[0].name").value("Sale 50% Off"));
+
+        mockMvc.perform(get("/api/v1/addressbooks/search").param("name", "SNAKE_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(1))
+                .andExpect(jsonPath("$.response.content[0].name").value("snake_case book"));
+    }
+
+    @Test
+    @Order(54)
+    @DisplayName("Should search contacts by partial name across all books with keyset paging")
+    void testSearchContactsGlobally() throws Exception {
+        Long firstBookId = createTestAddressBook("Search Book One");
+        Long secondBookId = createTestAddressBook("Search Book Two");
+        addTestContact(firstBookId, "Johnny Cash", "+61400000101");
+        addTestContact(firstBookId, "Mary Jones", "+61400000102");
+        addTestContact(secondBookId, "JOHN Smith", "+61400000103");
+        addTestContact(secondBookId, "Alice Brown", "+61400000104");
+
+        String firstPage = mockMvc.perform(get("/api/v1/contacts/search")
+                .param("name", "joh")
+                .param("limit", "1")
+                .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(1))
+                .andExpect(jsonPath("$.response.content[0].name").value("JOHN Smith"))
+                .andExpect(jsonPath("$.response.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/contacts/search")
+                .param("name", "joh")
+                .param("limit", "1")
+                .param("cursor", readCursorResponse(firstPage).getNextCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(1))
+                .andExpect(jsonPath("$.response.content[0].name").value("Johnny Cash"))
+                .andExpect(jsonPath("$.response.hasNext").value(false));
+    }
+
+    @Test
+    @Order(55)
+    @DisplayName("Should search contacts by partial name within one address book")
+    void testSearchContactsInAddressBook() throws Exception {
+        Long firstBookId = createTestAddressBook("Scoped Search One");
+        Long secondBookId = createTestAddressBook("Scoped Search Two");
+        addTestContact(firstBookId, "Johnny Cash", "+61400000201");
+        addTestContact(firstBookId, "100% Jo", "+61400000202");
+        addTestContact(secondBookId, "John Smith", "+61400000203");
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + firstBookId + "/contacts/search")
+                .param("name", "JO")
+                .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(2))
+                .andExpect(jsonPath("$.response.content[0].name").value("100% Jo"))
+                .andExpect(jsonPath("$.response.content[1].name").value("Johnny Cash"))
+                .andExpect(jsonPath("$.response.hasNext").value(false));
+
+        // Id order by default
+        mockMvc.perform(get("/api/v1/addressbooks/" + firstBookId + "/contacts/search")
+                .param("name", "JO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content[*].name", contains("Johnny Cash", "100% Jo")));
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + firstBookId + "/contacts/search")
+                .param("name", "0%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(1))
+                .andExpect(jsonPath("$.response.content[0].name").value("100% Jo"));
+
+        mockMvc.perform(get("/api/v1/addressbooks/999999/contacts/search")
+                .param("name", "jo"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(56)
+    @DisplayName("Should serve repeated book and contact reads from the second-level cache")
+    void testSecondLevelCacheServesRepeatedReads() throws Exception {
+        Long addressBookId = createTestAddressBook("Cached Book");
+        Long contactId = addTestContact(addressBookId, "Cached Contact", "+61400000301");
+        addTestContact(addressBookId, "Other Cached Contact", "+61400000302");
+        Long otherBookId = createTestAddressBook("Uncached Book");
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/" + contactId))
+                .andExpect(status().isOk());
+
+        // Writes to another book go through native statements on the index and counter
+        // tables; they must not evict this book
+        Long otherContactId = addTestContact(otherBookId, "Elsewhere", "+61400000301");
+        mockMvc.perform(delete("/api/v1/addressbooks/" + otherBookId + "/contacts/" + otherContactId))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.contacts.length()").value(2));
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/" + contactId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.name").value("Cached Contact"));
+
+        // Only the ids of the book's first contacts are queried
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(4);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    @Test
+    @Order(57)
+    @DisplayName("Should invalidate cached books and contacts on every write")
+    void testSecondLevelCacheInvalidation() throws Exception {
+        Long addressBookId = createTestAddressBook("Invalidation Book");
+        Long firstId = addTestContact(addressBookId, "First", "+61400000401");
+        String bookUrl = "/api/v1/addressbooks/" + addressBookId;
+        mockMvc.perform(get(bookUrl)).andExpect(status().isOk());
+
+        Long secondId = addTestContact(addressBookId, "Second", "+61400000402");
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(2));
+
+        mockMvc.perform(put(bookUrl + "/contacts/" + firstId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("First Renamed", "+61400000401"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl + "/contacts/" + firstId))
+                .andExpect(jsonPath("$.response.name").value("First Renamed"));
+
+        mockMvc.perform(delete(bookUrl + "/contacts/" + secondId)).andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(1));
+        mockMvc.perform(get(bookUrl + "/contacts/" + secondId)).andExpect(status().isNotFound());
+
+        mockMvc.perform(delete(bookUrl + "/contacts/bulk").param("ids", String.valueOf(firstId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(0));
+        mockMvc.perform(get(bookUrl + "/contacts/" + firstId)).andExpect(status().isNotFound());
+
+        Long thirdId = addTestContact(addressBookId, "Third", "+61400000403");
+        mockMvc.perform(get(bookUrl + "/contacts/" + thirdId)).andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(1));
+        mockMvc.perform(delete(bookUrl + "/contacts")).andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(0));
+        mockMvc.perform(get(bookUrl + "/contacts/" + thirdId)).andExpect(status().isNotFound());
+
+        mockMvc.perform(put(bookUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createAddressBookRequest("Invalidation Book Renamed", "Renamed"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.name").value("Invalidation Book Renamed"));
+
+        mockMvc.perform(delete(bookUrl)).andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(58)
+    @DisplayName("Should bulk load contacts, skipping duplicates and rejecting invalid rows")
+    void testBulkLoadContacts() throws Exception {
+        Long addressBookId = createTestAddressBook("Bulk Load Book");
+        Long existingId = addTestContact(addressBookId, "Existing", "+61400000501");
+        addTestContact(createTestAddressBook("Other Bulk Book"), "Elsewhere", "+61400000502");
+        String bookUrl = "/api/v1/addressbooks/" + addressBookId;
+        // Read the book, caching it and its contacts, before the load bypasses Hibernate
+        mockMvc.perform(get(bookUrl)).andExpect(jsonPath("$.response.contacts.length()").value(1));
+
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rows.add(TestDataFactory.createContactRequest("Loaded " + i, String.format("+6141%07d", i)));
+        }
+        rows.add(TestDataFactory.createContactRequest("Already There", "+61400000501"));
+        rows.add(TestDataFactory.createContactRequest("Repeat Of Loaded 0", "+61410000000"));
+        rows.add(TestDataFactory.createContactRequest("Shared Number", "+61400000502"));
+        rows.add(TestDataFactory.createContactRequest("Tab\tAnd \\ Backslash", "+61400000503"));
+        rows.add(TestDataFactory.createContactRequest(" ", "+61400000504"));
+        rows.add(TestDataFactory.createContactRequest("Bad Phone", "not-a-phone"));
+        rows.add(null);
+
+        mockMvc.perform(post(bookUrl + "/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.received").value(257))
+                .andExpect(jsonPath("$.response.inserted").value(252))
+                .andExpect(jsonPath("$.response.duplicates").value(2))
+                .andExpect(jsonPath("$.response.rejected").value(3));
+
+        assertContactCount(addressBookId, 253);
+        assertUniqueIndexMatchesContacts();
+        mockMvc.perform(get(bookUrl))
+                .andExpect(jsonPath("$.response.contacts.length()").value(100))
+                .andExpect(jsonPath("$.response.contactCount").value(253));
+        mockMvc.perform(get(bookUrl + "/contacts/" + existingId))
+                .andExpect(jsonPath("$.response.name").value("Existing"));
+        mockMvc.perform(get(bookUrl + "/contacts/search").param("name", "Loaded 0"))
+                .andExpect(jsonPath("$.response.content[0].phoneNumber").value("+61410000000"));
+        mockMvc.perform(get(bookUrl + "/contacts/search").param("name", "backslash"))
+                .andExpect(jsonPath("$.response.content[0].name").value("Tab\tAnd \\ Backslash"));
+
+        // Regular inserts after a load must not reuse the loaded ids
+        addTestContact(addressBookId, "After Load", "+61400000505");
+        assertContactCount(addressBookId, 254);
+    }
+
+    @Test
+    @Order(59)
+    @DisplayName("Should reject a malformed bulk load without loading anything")
+    void testBulkLoadMalformedJson() throws Exception {
+        Long addressBookId = createTestAddressBook("Malformed Load Book");
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\": \"Fine\", \"phoneNumber\": \"+61400000601\"}, {\"name\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        assertContactCount(addressBookId, 0);
+
+        mockMvc.perform(post("/api/v1/addressbooks/999999/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(60)
+    @DisplayName("Should import CSV across chunks and batches, reporting bad rows by line")
+    void testImportCsv() throws Exception {
+        Long addressBookId = createTestAddressBook("CSV Import Book");
+        StringBuilder csv = new StringBuilder("phoneNumber,Name,notes\r\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append(String.format("+6142%07d,Imported %d,x\r\n", i, i));
+        }
+        csv.append("+61420000500,\"Smith, \"\"Jo\"\"\",\n")   // line 122
+                .append("+61420000501,\"Two\nLines\",\n")       // lines 123-124
+                .append("\n")                                      // line 125, blank
+                .append("+61420000000,Repeat,\n")                  // line 126, duplicate
+                .append("not-a-phone,Bad Phone,\n")                // line 127
+                .append("+61420000502\n")                          // line 128, no name
+                .append("+61420000503,").append("x".repeat(300)).append('\n') // line 129
+                .append("+61420000504,\"Open quote\n");           // line 130
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts/import")
+                .contentType("text/csv")
+                .content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.rows").value(127))
+                .andExpect(jsonPath("$.response.imported").value(122))
+                .andExpect(jsonPath("$.response.duplicates").value(1))
+                .andExpect(jsonPath("$.response.rejected").value(4))
+                .andExpect(jsonPath("$.response.errors[*].line").value(contains(127, 128, 129, 130)))
+                .andExpect(jsonPath("$.response.errors[0].message").value(Contact.PHONE_NUMBER_MESSAGE))
+                .andExpect(jsonPath("$.response.errors[1].message").value("Contact name is required"));
+
+        assertContactCount(addressBookId, 122);
+        assertUniqueIndexMatchesContacts();
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/search").param("name", "smith"))
+                .andExpect(jsonPath("$.response.content[0].name").value("Smith, \"Jo\""));
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/search").param("name", "two"))
+                .andExpect(jsonPath("$.response.content[0].name").value("Two\nLines"));
+    }
+
+    @Test
+    @Order(61)
+    @DisplayName("Should import NDJSON, skip numbers the book has and cap the reported errors")
+    void testImportNdjson() throws Exception {
+        Long addressBookId = createTestAddressBook("NDJSON Import Book");
+        addTestContact(addressBookId, "Already Here", "+61430000000");
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            ndjson.append(String.format("{\"name\": \"  Json %d  \", \"phoneNumber\": \"+6143%07d\"}\n", i, i));
+        }
+        ndjson.append("{\"name\": \"Broken\"\n")                          // line 31
+                .append("null\n")                                           // line 32
+                .append("42\n")                                             // line 33
+                .append("{\"name\": \"No Phone\"}\n")                      // line 34
+                .append("{\"name\": \"Bad\", \"phoneNumber\": \"abc\"}\n")  // line 35
+                .append("{\"name\": \" \", \"phoneNumber\": \"+61430000099\"}\n") // line 36
+                .append("{\"name\": \"").append("y".repeat(300)).append("\"}");  // line 37
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.rows").value(37))
+                .andExpect(jsonPath("$.response.imported").value(29))
+                .andExpect(jsonPath("$.response.duplicates").value(1))
+                .andExpect(jsonPath("$.response.rejected").value(7))
+                .andExpect(jsonPath("$.response.errors.length()").value(5))
+                .andExpect(jsonPath("$.response.errors[0].line").value(31))
+                .andExpect(jsonPath("$.response.errors[1].message").value("Row is not a contact"));
+
+        assertContactCount(addressBookId, 30);
+        assertUniqueIndexMatchesContacts();
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/search").param("name", "Json 7"))
+                .andExpect(jsonPath("$.response.content[0].name").value("Json 7"));
+    }
+
+    @Test
+    @Order(62)
+    @DisplayName("Should reject an import without a usable CSV header or book")
+    void testImportRejected() throws Exception {
+        Long addressBookId = createTestAddressBook("Rejected Import Book");
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts/import")
+                .contentType("text/csv")
+                .content("name,email\nAlice,alice@example.com\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        assertContactCount(addressBookId, 0);
+
+        mockMvc.perform(post("/api/v1/addressbooks/999999/contacts/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\": \"Nobody\", \"phoneNumber\": \"+61440000000\"}\n"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(63)
+    @DisplayName("Should stream a book's contacts as NDJSON and CSV that import again")
+    void testExportAddressBook() throws Exception {
+        Long addressBookId = createTestAddressBook("Export Book");
+        for (int i = 0; i < 60; i++) {
+            addTestContact(addressBookId, "Exported " + i, String.format("+6145%07d", i));
+        }
+        addTestContact(addressBookId, "Quote \"Comma\", Co", "+61450000999");
+
+        String ndjson = export("/api/v1/addressbooks/" + addressBookId + "/contacts/export", "application/x-ndjson");
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(61);
+        ContactResponse first = objectMapper.readValue(lines.get(0), ContactResponse.class);
+        assertThat(first.getName()).isEqualTo("Exported 0");
+        assertThat(first.getAddressBookId()).isEqualTo(addressBookId);
+        assertThat(first.getCreatedAt()).isNotNull();
+        assertThat(lines).extracting(line -> objectMapper.readValue(line, ContactResponse.class).getId())
+                .isSorted();
+
+        MvcResult csv = mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId + "/contacts/export")
+                .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csvBody = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"addressbook-" + addressBookId + "-contacts.csv\""))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(csvBody).startsWith("id,name,phoneNumber,addressBookId,createdAt\r\n")
+                .contains(",\"Quote \"\"Comma\"\", Co\",+61450000999,");
+
+        Long copyId = createTestAddressBook("Export Copy Book");
+        mockMvc.perform(post("/api/v1/addressbooks/" + copyId + "/contacts/import")
+                .contentType("text/csv")
+                .content(csvBody))
+                .andExpect(jsonPath("$.response.imported").value(61))
+                .andExpect(jsonPath("$.response.rejected").value(0));
+        mockMvc.perform(get("/api/v1/addressbooks/" + copyId + "/contacts/search").param("name", "quote"))
+                .andExpect(jsonPath("$.response.content[0].name").value("Quote \"Comma\", Co"));
+    }
+
+    @Test
+    @Order(64)
+    @DisplayName("Should stream every contact across books, and refuse unknown books and formats")
+    void testExportAllContacts() throws Exception {
+        Long firstBookId = createTestAddressBook("Export All One");
+        Long secondBookId = createTestAddressBook("Export All Two");
+        addTestContact(firstBookId, "First Book Contact", "+61450001001");
+        addTestContact(secondBookId, "Second Book Contact", "+61450001002");
+
+        List<String> lines = export("/api/v1/contacts/export", "application/x-ndjson").lines().toList();
+
+        assertThat(lines).hasSize((int) contactRepository.count());
+        assertThat(lines).anyMatch(line -> line.contains("\"+61450001001\""))
+                .anyMatch(line -> line.contains("\"+61450001002\""));
+
+        mockMvc.perform(get("/api/v1/addressbooks/999999/contacts/export"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/contacts/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value 'xml' for parameter 'format'"));
+    }
+
+    @Test
+    @Order(65)
+    @DisplayName("Should restore a snapshot exactly, replacing everything written since")
+    void testSnapshotAndRestore() throws Exception {
+        Long workId = createTestAddressBook("Snapshot Work");
+        Long homeId = createTestAddressBook("Snapshot Home");
+        for (int i = 0; i < 30; i++) {
+            addTestContact(workId, "Colleague " + i, String.format("+6146%07d", i));
+        }
+        addTestContact(homeId, "Colleague 0", "+61460000000");
+        addTestContact(homeId, "Tab\tand \\ «quoted»", "+61460000999");
+        List<Contact> contacts = contactRepository.findAll(Sort.by("id"));
+        long maxId = contacts.get(contacts.size() - 1).getId();
+
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/snapshot"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] snapshot = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Changes after the snapshot, one of them cached by the read that follows it
+        mockMvc.perform(put("/api/v1/addressbooks/" + workId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createAddressBookRequest("Snapshot Work Renamed"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/addressbooks/" + workId))
+                .andExpect(jsonPath("$.response.name").value("Snapshot Work Renamed"));
+        mockMvc.perform(delete("/api/v1/addressbooks/" + homeId))
+                .andExpect(status().isOk());
+        addTestContact(workId, "Added Later", "+61460000500");
+        Long laterId = createTestAddressBook("Snapshot Later");
+
+        mockMvc.perform(post("/api/v1/admin/snapshot/restore")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(snapshot))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.addressBooks").value(2))
+                .andExpect(jsonPath("$.response.contacts").value(32));
+
+        assertThat(contactRepository.findAll(Sort.by("id")))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("addressBook")
+                .isEqualTo(contacts);
+        mockMvc.perform(get("/api/v1/addressbooks/" + workId))
+                .andExpect(jsonPath("$.response.name").value("Snapshot Work"));
+        mockMvc.perform(get("/api/v1/addressbooks/" + laterId))
+                .andExpect(status().isNotFound());
+        assertContactCount(workId, 30);
+        assertContactCount(homeId, 2);
+        assertUniqueIndexMatchesContacts();
+
+        // Ids handed out after the restore must not collide with restored ones
+        assertThat(addTestContact(homeId, "After Restore", "+61460000600")).isGreaterThan(maxId);
+        assertThat(createTestAddressBook("After Restore")).isGreaterThan(homeId);
+    }
+
+    @Test
+    @Order(66)
+    @DisplayName("Should refuse a damaged snapshot and leave the data untouched")
+    void testRestoreDamagedSnapshot() throws Exception {
+        Long addressBookId = createTestAddressBook("Snapshot Damaged");
+        addTestContact(addressBookId, "Kept", "+61460001000");
+
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/snapshot").param("compress", "false"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] snapshot = mockMvc.perform(asyncDispatch(started))
+                .andReturn().getResponse().getContentAsByteArray();
+        addTestContact(addressBookId, "Also Kept", "+61460001001");
+        // The last four bytes are the checksum
+        snapshot[snapshot.length - 1] ^= 1;
+
+        mockMvc.perform(post("/api/v1/admin/snapshot/restore")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(snapshot))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Snapshot checksum does not match its contents"));
+        mockMvc.perform(post("/api/v1/admin/snapshot/restore")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content("not a snapshot".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Not an address book snapshot"));
+
+        assertContactCount(addressBookId, 2);
+        assertUniqueIndexMatchesContacts();
+    }
+
+    @Test
+    @Order(67)
+    @DisplayName("Should treat differently formatted phone numbers as one number on every write path")
+    void testPhoneNumbersCompareByDigits() throws Exception {
+        Long addressBookId = createTestAddressBook("Phone Key Book");
+        String bookUrl = "/api/v1/addressbooks/" + addressBookId;
+        Long firstId = addTestContact(addressBookId, "Formatted", "+61 470-000-000");
+        Long secondId = addTestContact(addressBookId, "Plain", "+61470000001");
+
+        mockMvc.perform(post(bookUrl + "/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Same Digits", "+61470000000"))))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put(bookUrl + "/contacts/" + secondId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Plain", "+61 (470) 000 000"))))
+                .andExpect(status().isConflict());
+        // Reformatting a contact's own number is not a conflict
+        mockMvc.perform(put(bookUrl + "/contacts/" + firstId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Formatted", "+61470000000"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.phoneNumber").value("+61470000000"));
+
+        List<ContactRequest> rows = List.of(
+                TestDataFactory.createContactRequest("Loaded Duplicate", "+61 470 000 001"),
+                TestDataFactory.createContactRequest("Loaded", "+61-470-000-002"),
+                TestDataFactory.createContactRequest("Loaded Again", "+61470000002"));
+        mockMvc.perform(post(bookUrl + "/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.inserted").value(1))
+                .andExpect(jsonPath("$.response.duplicates").value(2));
+
+        Long otherBookId = createTestAddressBook("Phone Key Other Book");
+        addTestContact(otherBookId, "Elsewhere", "+61 470 000 002");
+
+        assertContactCount(addressBookId, 3);
+        assertUniqueIndexMatchesContacts();
+        assertThat(uniquePhoneNumberRepository.findById("61470000002"))
+                .hasValueSatisfying(unique -> assertThat(unique.getReferenceCount()).isEqualTo(2));
+    }
+
+    @Test
+    @Order(68)
+    @DisplayName("Should backfill phone keys, leaving a number the book already holds unkeyed")
+    void testPhoneKeyBackfill() throws Exception {
+        Long addressBookId = createTestAddressBook("Backfill Book");
+        String insert = "INSERT INTO contacts (id, name, phone_number, address_book_id, created_at) "
+                + "VALUES (NEXT VALUE FOR contacts_id_seq, ?, ?, ?, LOCALTIMESTAMP)";
+        jdbcTemplate.update(insert, "Legacy", "+61 480 000 000", addressBookId);
+        jdbcTemplate.update(insert, "Legacy Copy", "+61480000000", addressBookId);
+        jdbcTemplate.update(insert, "Legacy Other", "+61-480-000-001", addressBookId);
+
+        assertThat(phoneKeyBackfillService.backfill()).isEqualTo(2);
+        assertThat(phoneKeyBackfillService.backfill()).isZero();
+
+        Map<String, String> keys = new HashMap<>();
+        contactRepository.findByAddressBookId(addressBookId)
+                .forEach(contact -> keys.put(contact.getName(), contact.getPhoneKey()));
+        assertThat(keys).containsEntry("Legacy", "61480000000")
+                .containsEntry("Legacy Copy", null)
+                .containsEntry("Legacy Other", "61480000001");
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("New", "+61 480 000 001"))))
+                .andExpect(status().isConflict());
+
+        jdbcTemplate.update("DELETE FROM contacts WHERE phone_key IS NULL");
+        uniqueContactIndexService.rebuild();
+        assertUniqueIndexMatchesContacts();
+    }
+
+    @Test
+    @Order(69)
+    @DisplayName("Should reject an invalid phone number in the request, before it reaches the entity")
+    void testRejectInvalidPhoneNumber() throws Exception {
+        Long addressBookId = createTestAddressBook("Invalid Phone Book");
+
+        mockMvc.perform(post("/api/v1/addressbooks/" + addressBookId + "/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Bad Phone", "+61 400 000 00x"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.phoneNumber").value(Contact.PHONE_NUMBER_MESSAGE));
+
+        assertContactCount(addressBookId, 0);
+    }
+
+    @Test
+    @Order(70)
+    @DisplayName("Should find the books holding a phone number, following every write path")
+    void testReversePhoneLookup() throws Exception {
+        Long firstBookId = createTestAddressBook("Lookup First Book");
+        Long secondBookId = createTestAddressBook("Lookup Second Book");
+        Long movedId = addTestContact(firstBookId, "Moved", "+61 490 000 000");
+        Long removedId = addTestContact(secondBookId, "Removed", "+61490000000");
+
+        assertBooksWithPhone("+61 (490) 000-000", firstBookId, secondBookId);
+        assertBooksWithPhone("+61 490 000 009");
+
+        mockMvc.perform(put("/api/v1/addressbooks/" + firstBookId + "/contacts/" + movedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        TestDataFactory.createContactRequest("Moved", "+61 490 000 009"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/addressbooks/" + secondBookId + "/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        TestDataFactory.createContactRequest("Loaded", "+61-490-000-009"),
+                        TestDataFactory.createContactRequest("Loaded Too", "+61490000001")))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/addressbooks/" + secondBookId + "/contacts/" + removedId))
+                .andExpect(status().isOk());
+
+        assertBooksWithPhone("+61490000000");
+        assertBooksWithPhone("+61490000009", firstBookId, secondBookId);
+        assertBooksWithPhone("+61490000001", secondBookId);
+
+        AddressBookRequest withContacts = TestDataFactory.createAddressBookRequest("Lookup Third Book");
+        withContacts.setContacts(List.of(TestDataFactory.createContactRequest("Created", "+61490000001"),
+                TestDataFactory.createContactRequest("Long Number", "+12345678901234567890")));
+        String created = mockMvc.perform(post("/api/v2/addressbooks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(withContacts)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long thirdBookId = objectMapper.readTree(created).at("/response/id").asLong();
+        mockMvc.perform(delete("/api/v1/addressbooks/" + firstBookId))
+                .andExpect(status().isOk());
+
+        assertBooksWithPhone("+61490000009", secondBookId);
+        assertBooksWithPhone("+61490000001", secondBookId, thirdBookId);
+        // Too long for the index, answered by the database
+        assertBooksWithPhone("+12345678901234567890", thirdBookId);
+
+        Long createdId = contactRepository.findByAddressBookId(thirdBookId).stream()
+                .filter(contact -> contact.getName().equals("Created"))
+                .findFirst().orElseThrow().getId();
+        mockMvc.perform(delete("/api/v1/addressbooks/" + thirdBookId + "/contacts/bulk")
+                .param("ids", createdId.toString()))
+                .andExpect(status().isOk());
+        assertBooksWithPhone("+61490000001", secondBookId);
+
+        phoneLookupService.rebuild();
+        assertBooksWithPhone("+61490000001", secondBookId);
+        assertBooksWithPhone("+61490000009", secondBookId);
+
+        mockMvc.perform(get("/api/v1/contacts/by-phone/{phone}", "12ab56"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.phone").value(Contact.PHONE_NUMBER_MESSAGE));
+    }
+
+    @Test
+    @Order(71)
+    @DisplayName("Should report which phone numbers a book already holds, by digits")
+    void testFindExistingPhoneNumbers() throws Exception {
+        Long addressBookId = createTestAddressBook("Exists Book");
+        Long otherBookId = createTestAddressBook("Exists Other Book");
+        addTestContact(addressBookId, "First", "+61 491 000 000");
+        addTestContact(addressBookId, "Second", "+61491000001");
+        addTestContact(otherBookId, "Elsewhere", "+61491000002");
+        String url = "/api/v1/addressbooks/" + addressBookId + "/contacts/exists";
+
+        List<String> phoneNumbers = new ArrayList<>(List.of("+61491000000", "+61 (491) 000-001", "+61491000002",
+                "not-a-phone", "+61491000000"));
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ContactExistsRequest.builder()
+                        .phoneNumbers(phoneNumbers)
+                        .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.requested").value(5))
+                .andExpect(jsonPath("$.response.existing").value(contains("+61491000000", "+61 (491) 000-001")))
+                .andExpect(jsonPath("$.response.invalid").value(contains("not-a-phone")));
+
+        for (int i = phoneNumbers.size(); i < ContactExistsRequest.MAX_PHONE_NUMBERS; i++) {
+            phoneNumbers.add(String.format("+6149%07d", i));
+        }
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ContactExistsRequest.builder()
+                        .phoneNumbers(phoneNumbers)
+                        .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.existing.length()").value(2));
+
+        phoneNumbers.add("+61491999999");
+        mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ContactExistsRequest.builder()
+                        .phoneNumbers(phoneNumbers)
+                        .build())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.phoneNumbers").exists());
+        mockMvc.perform(post("/api/v1/addressbooks/999999/contacts/exists")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"phoneNumbers\":[\"+61491000000\"]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(72)
+    @DisplayName("Should bulk upsert contacts by the digits of their phone number")
+    void testBulkUpsertContacts() throws Exception {
+        Long addressBookId = createTestAddressBook("Upsert Book");
+        Long renamedId = addTestContact(addressBookId, "Old Name", "+61492000000");
+        Long reformattedId = addTestContact(addressBookId, "Same Name", "+61492000001");
+        Long unchangedId = addTestContact(addressBookId, "Unchanged", "+61492000002");
+        addTestContact(createTestAddressBook("Upsert Other Book"), "Elsewhere", "+61492000003");
+        String bookUrl = "/api/v1/addressbooks/" + addressBookId;
+        // Cache the book and its contacts before the upsert bypasses Hibernate
+        mockMvc.perform(get(bookUrl)).andExpect(jsonPath("$.response.contacts.length()").value(3));
+        mockMvc.perform(get(bookUrl + "/contacts/" + renamedId)).andExpect(status().isOk());
+        mockMvc.perform(get(bookUrl + "/contacts/" + reformattedId)).andExpect(status().isOk());
+
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            rows.add(TestDataFactory.createContactRequest("Upserted " + i, String.format("+6149210%05d", i)));
+        }
+        rows.add(TestDataFactory.createContactRequest("Overridden", "+61492000000"));
+        rows.add(TestDataFactory.createContactRequest("New Name", "+61 492 000 000"));
+        rows.add(TestDataFactory.createContactRequest("Same Name", "+61 (492) 000-001"));
+        rows.add(TestDataFactory.createContactRequest("Unchanged", "+61492000002"));
+        rows.add(TestDataFactory.createContactRequest("Not Elsewhere", "+61492000003"));
+        rows.add(TestDataFactory.createContactRequest("Bad Phone", "not-a-phone"));
+
+        mockMvc.perform(put(bookUrl + "/contacts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.received").value(1_506))
+                .andExpect(jsonPath("$.response.inserted").value(1_501))
+                .andExpect(jsonPath("$.response.updated").value(2))
+                .andExpect(jsonPath("$.response.unchanged").value(1))
+                .andExpect(jsonPath("$.response.duplicates").value(1))
+                .andExpect(jsonPath("$.response.rejected").value(1));
+
+        assertContactCount(addressBookId, 1_504);
+        assertUniqueIndexMatchesContacts();
+        mockMvc.perform(get(bookUrl)).andExpect(jsonPath("$.response.contactCount").value(1_504));
+        mockMvc.perform(get(bookUrl + "/contacts/" + renamedId))
+                .andExpect(jsonPath("$.response.name").value("New Name"))
+                .andExpect(jsonPath("$.response.phoneNumber").value("+61 492 000 000"));
+        mockMvc.perform(get(bookUrl + "/contacts/" + reformattedId))
+                .andExpect(jsonPath("$.response.phoneNumber").value("+61 (492) 000-001"));
+        mockMvc.perform(get(bookUrl + "/contacts/" + unchangedId))
+                .andExpect(jsonPath("$.response.name").value("Unchanged"));
+        assertBooksWithPhone("+614921000042", addressBookId);
+
+        // Sending the same rows again changes nothing
+        mockMvc.perform(put(bookUrl + "/contacts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.inserted").value(0))
+                .andExpect(jsonPath("$.response.updated").value(0))
+                .andExpect(jsonPath("$.response.unchanged").value(1_504));
+        assertContactCount(addressBookId, 1_504);
+
+        mockMvc.perform(put("/api/v1/addressbooks/999999/contacts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(73)
+    @DisplayName("Should let exactly one of parallel duplicate creates succeed")
+    void testParallelDuplicateCreates() throws Exception {
+        AddressBookRequest book = TestDataFactory.createAddressBookRequest("Parallel Book");
+        List<Integer> bookStatuses = postInParallel("/api/v1/addressbooks", objectMapper.writeValueAsString(book));
+        assertThat(bookStatuses).containsOnly(201, 409).filteredOn(status -> status == 201).hasSize(1);
+        Long addressBookId = addressBookRepository.findByName("Parallel Book").orElseThrow().getId();
+
+        // Formatted differently, the same digits
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+            String phone = i % 2 == 0 ? "+61493000000" : "+61 493 000 000";
+            bodies.add(objectMapper.writeValueAsString(TestDataFactory.createContactRequest("Racer " + i, phone)));
+        }
+        List<Integer> contactStatuses = postInParallel("/api/v1/addressbooks/" + addressBookId + "/contacts",
+                bodies.toArray(String[]::new));
+        assertThat(contactStatuses).containsOnly(201, 409).filteredOn(status -> status == 201).hasSize(1);
+
+        assertContactCount(addressBookId, 1);
+        assertUniqueIndexMatchesContacts();
+        assertBooksWithPhone("+61493000000", addressBookId);
+    }
+
+    @Test
+    @Order(74)
+    @DisplayName("Should embed the first contacts of a book and stream all of them on request")
+    void testBoundedAndStreamedBookReads() throws Exception {
+        Long addressBookId = createTestAddressBook("Large Read Book");
+        Long smallBookId = createTestAddressBook("SmallReadBook");
+        addTestContact(smallBookId, "Only", "+61494999999");
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rows.add(TestDataFactory.createContactRequest("Reader " + i, String.format("+61494%06d", i)));
+        }
+        String bookUrl = "/api/v1/addressbooks/" + addressBookId;
+        mockMvc.perform(post(bookUrl + "/contacts/bulk-load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rows)))
+                .andExpect(status().isOk());
+
+        String json = mockMvc.perform(get(bookUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.contactCount").value(250))
+                .andExpect(jsonPath("$.response.contacts.length()").value(100))
+                .andExpect(jsonPath("$.response.contacts[0].name").value("Reader 0"))
+                .andExpect(jsonPath("$.response.contacts[99].name").value("Reader 99"))
+                .andReturn().getResponse().getContentAsString();
+        String contactsNext = objectMapper.readValue(json,
+                new TypeReference<ApiResponse<AddressBookResponse>>() {
+                }).getResponse().getContactsNext();
+        assertThat(contactsNext).startsWith(bookUrl + "/contacts?limit=100&cursor=");
+        mockMvc.perform(get(contactsNext))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(100))
+                .andExpect(jsonPath("$.response.content[0].name").value("Reader 100"))
+                .andExpect(jsonPath("$.response.hasNext").value(true));
+        mockMvc.perform(get("/api/v1/addressbooks/name/{name}", "Large Read Book"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.contacts.length()").value(100))
+                .andExpect(jsonPath("$.response.contactsNext").value(contactsNext));
+        mockMvc.perform(get("/api/v1/addressbooks/" + smallBookId))
+                .andExpect(jsonPath("$.response.contactCount").value(1))
+                .andExpect(jsonPath("$.response.contacts.length()").value(1))
+                .andExpect(jsonPath("$.response.contactsNext").doesNotExist());
+
+        String streamed = export(bookUrl + "?contacts=stream", MediaType.APPLICATION_JSON_VALUE);
+        ApiResponse<AddressBookResponse> response = objectMapper.readValue(streamed,
+                new TypeReference<ApiResponse<AddressBookResponse>>() {
+                });
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getResponse().getName()).isEqualTo("Large Read Book");
+        assertThat(response.getResponse().getContactCount()).isEqualTo(250);
+        assertThat(response.getResponse().getContacts()).hasSize(250)
+                .extracting(ContactResponse::getAddressBookId).containsOnly(addressBookId);
+        assertThat(response.getResponse().getContacts().get(249).getName()).isEqualTo("Reader 249");
+        assertThat(export("/api/v1/addressbooks/name/SmallReadBook?contacts=stream",
+                MediaType.APPLICATION_JSON_VALUE)).contains("\"contactCount\":1");
+
+        mockMvc.perform(get("/api/v1/addressbooks/999999").param("contacts", "stream"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(75)
+    @DisplayName("Should return only the selected fields of books and contacts")
+    void testSparseFieldsets() throws Exception {
+        Long addressBookId = createTestAddressBook("Sparse Fields Book");
+        addTestContact(addressBookId, "Carol", "+61495000003");
+        Long aliceId = addTestContact(addressBookId, "Alice", "+61495000001");
+        addTestContact(addressBookId, "Bob", "+61495000002");
+        String contactsUrl = "/api/v1/addressbooks/" + addressBookId + "/contacts";
+
+        Map<String, Object> page = readResponse(mockMvc.perform(get(contactsUrl)
+                .param("fields", "name,id")
+                .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(3))
+                .andExpect(jsonPath("$.response.content[*].name", contains("Alice", "Bob", "Carol")))
+                .andReturn());
+        assertThat(contentOf(page).get(0)).containsOnlyKeys("id", "name").containsEntry("id", aliceId.intValue());
+
+        // The sort key is read for the cursor but not returned, and the cursor also serves full pages
+        Map<String, Object> first = readResponse(mockMvc.perform(get(contactsUrl)
+                .param("fields", "phoneNumber")
+                .param("limit", "2")
+                .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content[*].phoneNumber", contains("+61495000001", "+61495000002")))
+                .andExpect(jsonPath("$.response.hasNext").value(true))
+                .andReturn());
+        assertThat(contentOf(first).get(0)).containsOnlyKeys("phoneNumber");
+        String nextCursor = (String) first.get("nextCursor");
+        mockMvc.perform(get(contactsUrl).param("fields", "phoneNumber").param("limit", "2")
+                .param("cursor", nextCursor))
+                .andExpect(jsonPath("$.response.content[*].phoneNumber", contains("+61495000003")))
+                .andExpect(jsonPath("$.response.hasNext").value(false));
+        mockMvc.perform(get(contactsUrl).param("limit", "2").param("cursor", nextCursor))
+                .andExpect(jsonPath("$.response.content[0].name").value("Carol"))
+                .andExpect(jsonPath("$.response.content[0].addressBookName").value("Sparse Fields Book"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(contactsUrl + "/" + aliceId).param("fields", "addressBookName,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.length()").value(2))
+                .andExpect(jsonPath("$.response.name").value("Alice"))
+                .andExpect(jsonPath("$.response.addressBookName").value("Sparse Fields Book"));
+        // Contact and book name in one joined query, with no entity loaded
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        mockMvc.perform(get("/api/v1/addressbooks/999999/contacts/" + aliceId).param("fields", "id"))
+                .andExpect(status().isNotFound());
+
+        Map<String, Object> unique = readResponse(mockMvc.perform(get(contactsUrl + "/unique")
+                .param("fields", "phoneNumber,addressBookId")
+                .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.totalElements").value(uniquePhoneNumberRepository.count()))
+                .andReturn());
+        assertThat(contentOf(unique)).isNotEmpty()
+                .allSatisfy(contact -> assertThat(contact).containsOnlyKeys("phoneNumber", "addressBookId"));
+        mockMvc.perform(get(contactsUrl + "/unique").param("fields", "id").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(2))
+                .andExpect(jsonPath("$.response.content[0].length()").value(1));
+
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId).param("fields", "contactCount,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.length()").value(2))
+                .andExpect(jsonPath("$.response.name").value("Sparse Fields Book"))
+                .andExpect(jsonPath("$.response.contactCount").value(3));
+        mockMvc.perform(get("/api/v1/addressbooks/name/{name}", "Sparse Fields Book").param("fields", "id"))
+                .andExpect(jsonPath("$.response.id").value(addressBookId));
+        Map<String, Object> books = readResponse(mockMvc.perform(get("/api/v1/addressbooks")
+                .param("fields", "id,name")
+                .param("sortDir", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content[0].name").value("Sparse Fields Book"))
+                .andReturn());
+        assertThat(contentOf(books).get(0)).containsOnlyKeys("id", "name");
+
+        mockMvc.perform(get(contactsUrl).param("fields", "id,email"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("'email'")));
+        mockMvc.perform(get("/api/v1/addressbooks/" + addressBookId).param("fields", "contacts"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(76)
+    @DisplayName("Should read contact pages with their books in one query plus the count")
+    void testContactReadsQueryCount() throws Exception {
+        List<String> bookNames = List.of("Projection Book A", "Projection Book B", "Projection Book C");
+        List<Long> bookIds = new ArrayList<>();
+        for (int b = 0; b < bookNames.size(); b++) {
+            Long bookId = createTestAddressBook(bookNames.get(b));
+            bookIds.add(bookId);
+            for (int c = 0; c < 4; c++) {
+                addTestContact(bookId, "Projected " + b + "-" + c, String.format("+61496%03d%03d", b, c));
+            }
+        }
+        String contactsUrl = "/api/v1/addressbooks/" + bookIds.get(0) + "/contacts";
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        // A full page, so the total is read from the book's counters
+        statistics.clear();
+        mockMvc.perform(get(contactsUrl).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content.length()").value(3))
+                .andExpect(jsonPath("$.response.content[0].addressBookName").value("Projection Book A"))
+                .andExpect(jsonPath("$.response.totalElements").value(4));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // The newest unique contacts, drawn from all three books
+        long uniqueCount = uniquePhoneNumberRepository.count();
+        statistics.clear();
+        mockMvc.perform(get(contactsUrl + "/unique")
+                .param("size", "12")
+                .param("sortBy", "id")
+                .param("sortDir", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.content[*].addressBookName",
+                        hasItems(bookNames.toArray(String[]::new))))
+                .andExpect(jsonPath("$.response.totalElements").value(uniqueCount));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // Only an empty page looks the book up
+        mockMvc.perform(get("/api/v1/addressbooks/999999/contacts"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/addressbooks/" + bookIds.get(1) + "/contacts").param("page", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.empty").value(true));
+    }
+
+    private String export(String url, String expectedContentType) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(expectedContentType))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> readResponse(MvcResult result) throws Exception {
+        ApiResponse<Map<String, Object>> apiResponse = objectMapper.readValue(
+                result.getResponse().getContentAsString(),
+                new TypeReference<ApiResponse<Map<String, Object>>>() {
+                });
+        assertThat(apiResponse.isSuccess()).isTrue();
+        return apiResponse.getResponse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> contentOf(Map<String, Object> page) {
+        return (List<Map<String, Object>>) page.get("content");
+    }
+
+    private CursorResponse<ContactResponse> readCursorResponse(String json) throws Exception {
+        ApiResponse<CursorResponse<ContactResponse>> apiResponse = objectMapper.readValue(json,
+                new TypeReference<ApiResponse<CursorResponse<ContactResponse>>>() {
+                });
+        assertThat(apiResponse.isSuccess()).isTrue();
+        return apiResponse.getResponse();
+    }
+
+    private void assertBooksWithPhone(String phone, Long... addressBookIds) throws Exception {
+        String json = mockMvc.perform(get("/api/v1/contacts/by-phone/{phone}", phone))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        ApiResponse<PhoneLookupResponse> apiResponse = objectMapper.readValue(json,
+                new TypeReference<ApiResponse<PhoneLookupResponse>>() {
+                });
+        assertThat(apiResponse.getResponse().getPhoneKey()).isEqualTo(PhoneNumbers.normalize(phone));
+        assertThat(apiResponse.getResponse().getAddressBookIds())
+                .as("books holding %s", phone)
+                .containsExactly(Arrays.stream(addressBookIds).mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * Posts the bodies, or one body {@value #PARALLEL_REQUESTS} times, from as many
+     * threads released together, and returns the response statuses.
+     */
+    private List<Integer> postInParallel(String url, String... bodies) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                String body = bodies[i % bodies.length];
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post(url)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            List<Integer> result = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                result.add(status.get(30, TimeUnit.SECONDS));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private Long createTestAddressBook(String name) throws Exception {
         AddressBookRequest request = TestDataFactory.createAddressBookRequest(name);
 
@@ -0,0 +1,101 @@
+package com.addressbook.integration.replica;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.addressbook.fixture.TestDataFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AddressBookApplication;
+import com.project.dto.contact.ContactRequest;
+
+import jakarta.servlet.http.Cookie;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs against a replica that is a copy of the primary taken once and never updated, so
+ * every write after the copy is one the replica lags behind on.
+ */
+@SpringBootTest(classes = AddressBookApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica_cache_primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.read-replicas.enabled=true",
+        "app.datasource.read-replicas.instances[0].url=" + ReplicaSecondLevelCacheIntegrationTest.REPLICA_URL,
+        "app.datasource.read-replicas.health-check-interval=0s" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Read Replica Second-Level Cache Integration Tests")
+class ReplicaSecondLevelCacheIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_cache_replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should not let a lagging replica put a deleted contact back in the cache")
+    void testLaggingReplicaDoesNotRecacheDeletedContact() throws Exception {
+        long addressBookId = id(mockMvc.perform(post("/api/v1/addressbooks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataFactory.createAddressBookRequest(
+                        TestDataFactory.generateAddressBookName())))));
+        String contactUrl = "/api/v1/addressbooks/" + addressBookId + "/contacts";
+        long contactId = id(mockMvc.perform(post(contactUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ContactRequest("Lag Test", "+14155550123")))));
+        copyPrimaryToReplica();
+
+        Cookie writerCookie = mockMvc.perform(delete(contactUrl + "/" + contactId))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("primary-reads-until"))
+                .andReturn()
+                .getResponse()
+                .getCookie("primary-reads-until");
+
+        // Another client, outside any read-your-writes window, still sees it on the replica
+        mockMvc.perform(get(contactUrl + "/" + contactId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(contactUrl + "/" + contactId).cookie(writerCookie))
+                .andExpect(status().isNotFound());
+    }
+
+    private long id(ResultActions result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+        return body.path("response").path("id").asLong();
+    }
+
+    private void copyPrimaryToReplica() throws SQLException {
+        List<String> script = jdbcTemplate.queryForList("SCRIPT", String.class);
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "addressbook_test", "addressbook_test");
+                Statement statement = connection.createStatement()) {
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -13,19 +13,29 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import com.addressbook.fixture.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.dto.addressbook.AddressBookIdResponse;
 import com.project.dto.addressbook.AddressBookRequest;
 import com.project.dto.addressbook.AddressBookResponse;
+import com.project.dto.addressbook.AddressBookSummaryResponse;
 import com.project.dto.contact.ContactRequest;
+import com.project.dto.contact.ContactResponse;
 import com.project.dto.response.PagedResponse;
 import com.project.entity.addressbook.AddressBook;
+import com.project.entity.contact.Contact;
 import com.project.exception.DuplicateAddressBookException;
 import com.project.exception.ResourceNotFoundException;
 import com.project.mapper.contact.EntityMapper;
 import com.project.repository.addressbook.AddressBookRepository;
+import com.project.repository.contact.ContactRepository;
 import com.project.services.addressbook.AddressBookServiceImpl;
+import com.project.services.contact.ContactCountService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.services.contact.UniqueContactIndexService;
 import com.project.services.contact.ContactCreationService;
+import com.project.util.CursorCodec;
 import com.project.util.PaginationHelper;
+import com.project.util.SearchPatterns;
 
 import java.util.*;
 import static org.assertj.core.api.Assertions.*;
@@ -51,6 +61,23 @@ public class AddressBookServiceTest {
     @Mock
     private PaginationHelper paginationHelper;
 
+    @Mock
+    private ContactCountService contactCountService;
+
+    @Mock
+    private UniqueContactIndexService uniqueContactIndexService;
+
+    @Mock
+    private PhoneLookupService phoneLookupService;
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private EntityMapper<Contact, ContactResponse> contactMapper;
+
+    private final CursorCodec cursorCodec = new CursorCodec(new ObjectMapper());
+
     private AddressBookServiceImpl addressBookService;
 
     private AddressBook addressBook;
@@ -68,7 +95,13 @@ public class AddressBookServiceTest {
                 addressBookMapper,
                 addressBookIdMapper,
                 contactCreationService,
-                paginationHelper);
+                paginationHelper,
+                contactCountService,
+                uniqueContactIndexService,
+                phoneLookupService,
+                contactRepository,
+                contactMapper,
+                cursorCodec);
 
         testName = TestDataFactory.generateName();
         testDescription = TestDataFactory.generateDescription();
@@ -101,28 +134,29 @@ public class AddressBookServiceTest {
         @Test
         @DisplayName("Should create address book successfully")
         void testCreateAddressBook() {
-            when(addressBookRepository.existsByName(testName)).thenReturn(false);
-            when(addressBookRepository.save(any(AddressBook.class))).thenReturn(addressBook);
+            when(addressBookRepository.saveAndFlush(any(AddressBook.class))).thenReturn(addressBook);
             when(addressBookMapper.mapToResponse(any(AddressBook.class))).thenReturn(expectedResponse);
 
             AddressBookResponse response = addressBookService.createAddressBook(request);
 
             assertThat(response).isNotNull();
             assertThat(response.getName()).isEqualTo(testName);
-            verify(addressBookRepository, times(1)).save(any(AddressBook.class));
+            verify(addressBookRepository, times(1)).saveAndFlush(any(AddressBook.class));
             verify(contactCreationService, never()).addContactsToAddressBook(any(), any());
+            verify(contactCountService).initialize(addressBook.getId(), 0);
         }
 
         @Test
         @DisplayName("Should throw DuplicateAddressBookException when name exists")
         void testCreateAddressBookWithDuplicateName() {
-            when(addressBookRepository.existsByName(testName)).thenReturn(true);
+            when(addressBookRepository.saveAndFlush(any(AddressBook.class)))
+                    .thenThrow(TestDataFactory.uniqueViolation("PUBLIC.UK_ADDRESSBOOK_NAME_INDEX_8"));
 
             assertThatThrownBy(() -> addressBookService.createAddressBook(request))
                     .isInstanceOf(DuplicateAddressBookException.class)
                     .hasMessageContaining("Address book with name '" + testName + "' already exists");
 
-            verify(addressBookRepository, never()).save(any(AddressBook.class));
+            verify(contactCountService, never()).initialize(any(), anyLong());
         }
 
         @Test
@@ -139,8 +173,7 @@ public class AddressBookServiceTest {
                     .contacts(List.of(contactRequest))
                     .build();
 
-            when(addressBookRepository.existsByName(testName)).thenReturn(false);
-            when(addressBookRepository.save(any(AddressBook.class))).thenReturn(addressBook);
+            when(addressBookRepository.saveAndFlush(any(AddressBook.class))).thenReturn(addressBook);
             when(addressBookMapper.mapToResponse(any(AddressBook.class))).thenReturn(expectedResponse);
 
             AddressBookResponse response = addressBookService.createAddressBookWithContacts(requestWithContacts);
@@ -159,8 +192,7 @@ public class AddressBookServiceTest {
                     .contacts(new ArrayList<>())
                     .build();
 
-            when(addressBookRepository.existsByName(testName)).thenReturn(false);
-            when(addressBookRepository.save(any(AddressBook.class))).thenReturn(addressBook);
+            when(addressBookRepository.saveAndFlush(any(AddressBook.class))).thenReturn(addressBook);
             when(addressBookMapper.mapToResponse(any(AddressBook.class))).thenReturn(expectedResponse);
 
             addressBookService.createAddressBookWithContacts(requestWithEmptyContacts);
@@ -176,20 +208,42 @@ public class AddressBookServiceTest {
         @Test
         @DisplayName("Should get address book by id")
         void testGetAddressBookById() {
-            when(addressBookRepository.findByIdWithContacts(1L)).thenReturn(Optional.of(addressBook));
-            when(addressBookMapper.mapToResponse(addressBook)).thenReturn(expectedResponse);
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(contactRepository.findFirstByAddressBookId(1L, 101))
+                    .thenReturn(TestDataFactory.createContacts(2, addressBook));
 
             AddressBookResponse response = addressBookService.getAddressBookById(1L);
 
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(1L);
-            verify(addressBookRepository, times(1)).findByIdWithContacts(1L);
+            assertThat(response.getContacts()).hasSize(2);
+            assertThat(response.getContactCount()).isEqualTo(2);
+            assertThat(response.getContactsNext()).isNull();
+            verify(addressBookRepository, times(1)).findById(1L);
+            verify(contactCountService, never()).getCount(any());
+        }
+
+        @Test
+        @DisplayName("Should embed only the first contacts of a large address book")
+        void testGetAddressBookByIdEmbedsFirstContacts() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(contactRepository.findFirstByAddressBookId(1L, 101))
+                    .thenReturn(TestDataFactory.createContacts(101, addressBook));
+            when(contactCountService.getCount(1L)).thenReturn(200_000L);
+
+            AddressBookResponse response = addressBookService.getAddressBookById(1L);
+
+            assertThat(response.getContacts()).hasSize(100);
+            assertThat(response.getContactCount()).isEqualTo(200_000);
+            assertThat(response.getContactsNext()).startsWith("/api/v1/addressbooks/1/contacts?limit=100&cursor=");
+            String cursor = response.getContactsNext().substring(response.getContactsNext().indexOf("cursor=") + 7);
+            assertThat(cursorCodec.decode(cursor).position().getKeys()).containsEntry("id", 100L);
         }
 
         @Test
         @DisplayName("Should throw exception when address book not found")
         void testGetAddressBookByIdNotFound() {
-            when(addressBookRepository.findByIdWithContacts(99L)).thenReturn(Optional.empty());
+            when(addressBookRepository.findById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> addressBookService.getAddressBookById(99L))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -199,21 +253,21 @@ public class AddressBookServiceTest {
         @Test
         @DisplayName("Should get address book by name")
         void testGetAddressBookByName() {
-            when(addressBookRepository.findByNameWithContacts(testName)).thenReturn(Optional.of(addressBook));
-            when(addressBookMapper.mapToResponse(addressBook)).thenReturn(expectedResponse);
+            when(addressBookRepository.findByName(testName)).thenReturn(Optional.of(addressBook));
+            when(contactRepository.findFirstByAddressBookId(1L, 101)).thenReturn(List.of());
 
             AddressBookResponse response = addressBookService.getAddressBookByName(testName);
 
             assertThat(response).isNotNull();
             assertThat(response.getName()).isEqualTo(testName);
-            verify(addressBookRepository, times(1)).findByNameWithContacts(testName);
+            verify(addressBookRepository, times(1)).findByName(testName);
         }
 
         @Test
         @DisplayName("Should throw exception when address book not found by name")
         void testGetAddressBookByNameNotFound() {
             String nonExistentName = "Non Existent Book";
-            when(addressBookRepository.findByNameWithContacts(nonExistentName)).thenReturn(Optional.empty());
+            when(addressBookRepository.findByName(nonExistentName)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> addressBookService.getAddressBookByName(nonExistentName))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -225,6 +279,7 @@ public class AddressBookServiceTest {
         void testSearchByName() {
             String searchTerm = "test";
             Pageable pageable = PageRequest.of(0, 10);
+            Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
             Page<AddressBook> page = new PageImpl<>(Arrays.asList(addressBook), pageable, 1);
             PagedResponse<AddressBookResponse> pagedResponse = PagedResponse.<AddressBookResponse>builder()
                     .content(List.of(expectedResponse))
@@ -238,15 +293,16 @@ public class AddressBookServiceTest {
                     .build();
 
             when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
-            when(addressBookRepository.findByNameContainingIgnoreCaseWithContacts(searchTerm, pageable))
-                    .thenReturn(page);
+            when(addressBookRepository.findIdsByNameLike(SearchPatterns.containsIgnoreCase(searchTerm), pageable))
+                    .thenReturn(idPage);
+            when(addressBookRepository.findAllWithContactsByIdIn(List.of(1L))).thenReturn(List.of(addressBook));
             doReturn(pagedResponse).when(paginationHelper).createPagedResponse(eq(page), any());
 
             PagedResponse<AddressBookResponse> response = addressBookService.searchByName(searchTerm, pageable);
 
             assertThat(response).isNotNull();
             assertThat(response.getContent()).hasSize(1);
-            verify(addressBookRepository).findByNameContainingIgnoreCaseWithContacts(searchTerm, pageable);
+            verify(addressBookRepository).findIdsByNameLike(SearchPatterns.containsIgnoreCase(searchTerm), pageable);
         }
 
         @Test
@@ -254,6 +310,7 @@ public class AddressBookServiceTest {
         void testSearchByNameNoResults() {
             String searchTerm = "nonexistent";
             Pageable pageable = PageRequest.of(0, 10);
+            Page<Long> emptyIdPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
             Page<AddressBook> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
             PagedResponse<AddressBookResponse> emptyPagedResponse = PagedResponse.<AddressBookResponse>builder()
                     .content(Collections.emptyList())
@@ -267,8 +324,8 @@ public class AddressBookServiceTest {
                     .build();
 
             when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
-            when(addressBookRepository.findByNameContainingIgnoreCaseWithContacts(searchTerm, pageable))
-                    .thenReturn(emptyPage);
+            when(addressBookRepository.findIdsByNameLike(SearchPatterns.containsIgnoreCase(searchTerm), pageable))
+                    .thenReturn(emptyIdPage);
             doReturn(emptyPagedResponse).when(paginationHelper).createPagedResponse(eq(emptyPage), any());
 
             PagedResponse<AddressBookResponse> response = addressBookService.searchByName(searchTerm, pageable);
@@ -310,6 +367,7 @@ public class AddressBookServiceTest {
         @DisplayName("Should get all address books paginated")
         void testGetAllAddressBooksPaginated() {
             Pageable pageable = PageRequest.of(0, 10);
+            Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
             Page<AddressBook> page = new PageImpl<>(Arrays.asList(addressBook), pageable, 1);
             PagedResponse<AddressBookResponse> pagedResponse = PagedResponse.<AddressBookResponse>builder()
                     .content(List.of(expectedResponse))
@@ -323,7 +381,8 @@ public class AddressBookServiceTest {
                     .build();
 
             when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
-            when(addressBookRepository.findAllWithContacts(pageable)).thenReturn(page);
+            when(addressBookRepository.findAllIds(pageable)).thenReturn(idPage);
+            when(addressBookRepository.findAllWithContactsByIdIn(List.of(1L))).thenReturn(List.of(addressBook));
             doReturn(pagedResponse).when(paginationHelper).createPagedResponse(eq(page), any());
 
             PagedResponse<AddressBookResponse> response = addressBookService.getAllAddressBooks(pageable);
@@ -339,6 +398,7 @@ public class AddressBookServiceTest {
         void testGetAllAddressBooksSanitizesPageable() {
             Pageable largePageable = PageRequest.of(0, 500);
             Pageable sanitizedPageable = PageRequest.of(0, 100);
+            Page<Long> emptyIdPage = new PageImpl<>(Collections.emptyList(), sanitizedPageable, 0);
             Page<AddressBook> emptyPage = new PageImpl<>(Collections.emptyList(), sanitizedPageable, 0);
             PagedResponse<AddressBookResponse> emptyPagedResponse = PagedResponse.<AddressBookResponse>builder()
                     .content(Collections.emptyList())
@@ -352,13 +412,56 @@ public class AddressBookServiceTest {
                     .build();
 
             when(paginationHelper.sanitizePageable(largePageable)).thenReturn(sanitizedPageable);
-            when(addressBookRepository.findAllWithContacts(sanitizedPageable)).thenReturn(emptyPage);
+            when(addressBookRepository.findAllIds(sanitizedPageable)).thenReturn(emptyIdPage);
             doReturn(emptyPagedResponse).when(paginationHelper).createPagedResponse(eq(emptyPage), any());
 
             addressBookService.getAllAddressBooks(largePageable);
 
             verify(paginationHelper).sanitizePageable(largePageable);
-            verify(addressBookRepository).findAllWithContacts(sanitizedPageable);
+            verify(addressBookRepository).findAllIds(sanitizedPageable);
+            verify(addressBookRepository, never()).findAllWithContactsByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should keep the order of the id page when loading contacts")
+        void testGetAllAddressBooksKeepsIdPageOrder() {
+            AddressBook second = TestDataFactory.createAddressBook(2L);
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<Long> idPage = new PageImpl<>(List.of(2L, 1L), pageable, 2);
+
+            when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
+            when(addressBookRepository.findAllIds(pageable)).thenReturn(idPage);
+            when(addressBookRepository.findAllWithContactsByIdIn(List.of(2L, 1L)))
+                    .thenReturn(List.of(addressBook, second));
+
+            addressBookService.getAllAddressBooks(pageable);
+
+            verify(paginationHelper).createPagedResponse(
+                    argThat(page -> page.getContent().equals(List.of(second, addressBook))
+                            && page.getTotalElements() == 2),
+                    any());
+        }
+
+        @Test
+        @DisplayName("Should list summaries without loading contacts")
+        void testGetAddressBookSummaries() {
+            Pageable pageable = PageRequest.of(0, 20);
+            AddressBookSummaryResponse summary = AddressBookSummaryResponse.builder()
+                    .id(1L)
+                    .name(testName)
+                    .contactCount(50_000L)
+                    .build();
+            Page<AddressBookSummaryResponse> page = new PageImpl<>(List.of(summary), pageable, 1);
+
+            when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
+            when(addressBookRepository.findAllSummaries(pageable)).thenReturn(page);
+            when(paginationHelper.createPagedResponse(eq(page), any())).thenCallRealMethod();
+
+            PagedResponse<AddressBookSummaryResponse> result = addressBookService.getAddressBookSummaries(pageable);
+
+            assertThat(result.getContent()).containsExactly(summary);
+            verify(addressBookRepository, never()).findAllWithContactsByIdIn(any());
+            verifyNoInteractions(addressBookMapper);
         }
     }
 
@@ -372,17 +475,9 @@ public class AddressBookServiceTest {
             String updatedName = TestDataFactory.generateName();
             String updatedDescription = TestDataFactory.generateDescription();
 
-            AddressBookResponse updatedResponse = AddressBookResponse.builder()
-                    .id(1L)
-                    .name(updatedName)
-                    .description(updatedDescription)
-                    .contactCount(0)
-                    .contacts(new ArrayList<>())
-                    .build();
-
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
-            when(addressBookRepository.save(any(AddressBook.class))).thenReturn(addressBook);
-            when(addressBookMapper.mapToResponse(any(AddressBook.class))).thenReturn(updatedResponse);
+            when(addressBookRepository.saveAndFlush(any(AddressBook.class))).thenReturn(addressBook);
+            when(contactRepository.findFirstByAddressBookId(1L, 101)).thenReturn(List.of());
 
             AddressBookRequest updateRequest = AddressBookRequest.builder()
                     .name(updatedName)
@@ -393,7 +488,8 @@ public class AddressBookServiceTest {
 
             assertThat(response).isNotNull();
             assertThat(response.getName()).isEqualTo(updatedName);
-            verify(addressBookRepository, times(1)).save(any(AddressBook.class));
+            verify(addressBookRepository, times(1)).saveAndFlush(any(AddressBook.class));
+            verify(addressBookMapper, never()).mapToResponse(any(AddressBook.class));
         }
 
         @Test
@@ -409,7 +505,7 @@ public class AddressBookServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Address book not found with id: 99");
 
-            verify(addressBookRepository, never()).save(any(AddressBook.class));
+            verify(addressBookRepository, never()).saveAndFlush(any(AddressBook.class));
         }
     }
 
@@ -0,0 +1,154 @@
+package com.addressbook.unit.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.config.datasource.ReadYourWritesContext;
+import com.project.config.datasource.ReplicaRoutingDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Routes between two separate in-memory H2 databases, each of which knows its own name.
+ */
+@DisplayName("Replica Routing DataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private ToggleableDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        replica = new ToggleableDataSource(database("replica"));
+        routingDataSource = new ReplicaRoutingDataSource(database("primary"), Map.of("replica-0", replica),
+                Duration.ZERO, Duration.ofSeconds(1));
+        routingDataSource.afterPropertiesSet();
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReadYourWritesContext.end();
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and writes to the primary")
+    void testRoutesByReadOnlyFlag() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary after the request commits a write")
+    void testReadYourWritesAfterCommit() {
+        int[] windowsOpened = { 0 };
+        ReadYourWritesContext.begin(false, () -> windowsOpened[0]++);
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        writeTransaction.executeWithoutResult(status -> currentNode());
+        writeTransaction.executeWithoutResult(status -> currentNode());
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(windowsOpened[0]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not open the window when the write rolls back")
+    void testRolledBackWriteDoesNotPin() {
+        ReadYourWritesContext.begin(false, () -> {
+        });
+
+        writeTransaction.executeWithoutResult(status -> {
+            currentNode();
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary inside a client's read-your-writes window")
+    void testPinnedRequestReadsPrimary() {
+        ReadYourWritesContext.begin(true, () -> {
+        });
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should fail over to the primary and back with the replica's health")
+    void testFailover() {
+        replica.down = true;
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+
+        replica.down = false;
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.isHealthy("replica-0")).isTrue();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String writeNode() {
+        return writeTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class ToggleableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private ToggleableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
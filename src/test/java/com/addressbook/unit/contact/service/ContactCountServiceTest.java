@@ -0,0 +1,80 @@
+package com.addressbook.unit.contact.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.project.entity.addressbook.ContactCountStripe;
+import com.project.repository.addressbook.ContactCountStripeRepository;
+import com.project.services.contact.ContactCountServiceImpl;
+
+import java.util.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Contact Count Service Unit Tests")
+class ContactCountServiceTest {
+
+    @Mock
+    private ContactCountStripeRepository stripeRepository;
+
+    private ContactCountServiceImpl contactCountService;
+
+    @BeforeEach
+    void setUp() {
+        contactCountService = new ContactCountServiceImpl(stripeRepository);
+    }
+
+    @Test
+    @DisplayName("Should create every stripe with the initial count on the first")
+    @SuppressWarnings("unchecked")
+    void testInitialize() {
+        contactCountService.initialize(7L, 42L);
+
+        ArgumentCaptor<List<ContactCountStripe>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stripeRepository).saveAll(captor.capture());
+        List<ContactCountStripe> stripes = captor.getValue();
+
+        assertThat(stripes).hasSize(8);
+        assertThat(stripes).extracting(ContactCountStripe::getStripe).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(stripes).extracting(ContactCountStripe::getContactCount).containsOnly(42L, 0L);
+        assertThat(stripes.stream().mapToLong(ContactCountStripe::getContactCount).sum()).isEqualTo(42L);
+        assertThat(stripes).allMatch(ContactCountStripe::isNew);
+    }
+
+    @Test
+    @DisplayName("Should spread adjustments over the stripes")
+    void testAdjustSpreadsOverStripes() {
+        when(stripeRepository.addToStripe(eq(7L), anyInt(), eq(1L))).thenReturn(1);
+
+        for (int i = 0; i < 200; i++) {
+            contactCountService.adjust(7L, 1);
+        }
+
+        ArgumentCaptor<Integer> stripes = ArgumentCaptor.forClass(Integer.class);
+        verify(stripeRepository, times(200)).addToStripe(eq(7L), stripes.capture(), eq(1L));
+        assertThat(new HashSet<>(stripes.getAllValues())).hasSizeGreaterThan(1).allMatch(s -> s >= 0 && s < 8);
+    }
+
+    @Test
+    @DisplayName("Should skip the update for a zero delta")
+    void testAdjustZero() {
+        contactCountService.adjust(7L, 0);
+
+        verifyNoInteractions(stripeRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the count as the sum of the stripes")
+    void testGetCount() {
+        when(stripeRepository.sumByAddressBookId(7L)).thenReturn(123L);
+
+        assertThat(contactCountService.getCount(7L)).isEqualTo(123L);
+    }
+}
@@ -147,5 +147,63 @@ class ContactCreationServiceTest {
                     .isInstanceOf(DuplicateContactException.class)
                     .hasMessageContaining(duplicatePhone);
         }
+
+        @Test
+        @DisplayName("Should treat differently formatted copies of a phone number as duplicates")
+        void testDetectsDuplicateAcrossFormatting() {
+            ContactRequest contact1 = ContactRequest.builder()
+                    .name("Person 1")
+                    .phoneNumber("+61 400-000-000")
+                    .build();
+
+            ContactRequest contact2 = ContactRequest.builder()
+                    .name("Person 2")
+                    .phoneNumber("+61400000000")
+                    .build();
+
+            assertThatThrownBy(() -> contactCreationService.addContactsToAddressBook(
+                    addressBook, List.of(contact1, contact2)))
+                    .isInstanceOf(DuplicateContactException.class)
+                    .hasMessageContaining("+61400000000");
+
+            assertThat(addressBook.getContacts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a phone number already present in the address book")
+        void testDetectsDuplicateOfExistingContact() {
+            ContactRequest existing = ContactRequest.builder()
+                    .name("Existing")
+                    .phoneNumber("+61411111111")
+                    .build();
+            contactCreationService.addContactsToAddressBook(addressBook, List.of(existing));
+
+            ContactRequest duplicate = ContactRequest.builder()
+                    .name("Duplicate")
+                    .phoneNumber("+61 411 111 111")
+                    .build();
+
+            assertThatThrownBy(() -> contactCreationService.addContactsToAddressBook(
+                    addressBook, List.of(duplicate)))
+                    .isInstanceOf(DuplicateContactException.class);
+
+            assertThat(addressBook.getContacts()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should keep every contact of a large request")
+        void testAddLargeNumberOfContacts() {
+            List<ContactRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                requests.add(ContactRequest.builder()
+                        .name("Person " + i)
+                        .phoneNumber("+614" + String.format("%08d", i))
+                        .build());
+            }
+
+            contactCreationService.addContactsToAddressBook(addressBook, requests);
+
+            assertThat(addressBook.getContacts()).hasSize(10_000);
+        }
     }
 }
@@ -11,20 +11,37 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.jpa.domain.Specification;
 
 import com.addressbook.fixture.TestDataFactory;
+import com.project.dto.contact.ContactExistsResponse;
 import com.project.dto.contact.ContactRequest;
 import com.project.dto.contact.ContactResponse;
 import com.project.dto.response.PagedResponse;
 import com.project.entity.addressbook.AddressBook;
 import com.project.entity.contact.Contact;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.exception.DuplicateContactException;
+import com.project.exception.InvalidCursorException;
+import com.project.exception.InvalidFieldSelectionException;
 import com.project.exception.ResourceNotFoundException;
 import com.project.mapper.contact.EntityMapper;
 import com.project.repository.addressbook.AddressBookRepository;
 import com.project.repository.contact.ContactRepository;
+import com.project.repository.contact.PhoneLookupRepository;
+import com.project.services.contact.ContactCountService;
+import com.project.services.contact.PhoneLookupService;
+import com.project.services.contact.UniqueContactIndexService;
 import com.project.services.contact.ContactServiceImpl;
+import com.project.util.CursorCodec;
+import com.project.util.FieldSelection;
 import com.project.util.PaginationHelper;
+import com.project.util.PhoneNumbers;
 
 import java.util.*;
 import static org.assertj.core.api.Assertions.*;
@@ -47,6 +64,20 @@ class ContactServiceTest {
     @Mock
     private PaginationHelper paginationHelper;
 
+    @Mock
+    private ContactCountService contactCountService;
+
+    @Mock
+    private UniqueContactIndexService uniqueContactIndexService;
+
+    @Mock
+    private PhoneLookupService phoneLookupService;
+
+    @Mock
+    private PhoneLookupRepository phoneLookupRepository;
+
+    private CursorCodec cursorCodec;
+
     private ContactServiceImpl contactService;
 
     private AddressBook addressBook;
@@ -65,7 +96,12 @@ class ContactServiceTest {
                 contactRepository,
                 addressBookRepository,
                 contactMapper,
-                paginationHelper);
+                paginationHelper,
+                cursorCodec = new CursorCodec(new ObjectMapper()),
+                contactCountService,
+                uniqueContactIndexService,
+                phoneLookupService,
+                phoneLookupRepository);
 
         testName = TestDataFactory.generateName();
         testPhoneNumber = TestDataFactory.generateAustralianPhoneNumber();
@@ -105,16 +141,15 @@ class ContactServiceTest {
         @DisplayName("Should add contact successfully")
         void testAddContact() {
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
-            when(contactRepository.existsByPhoneNumberAndAddressBookId(anyString(), anyLong()))
-                    .thenReturn(false);
-            when(contactRepository.save(any(Contact.class))).thenReturn(contact);
+            when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(contact);
             when(contactMapper.mapToResponse(any(Contact.class))).thenReturn(response);
 
             ContactResponse result = contactService.addContact(1L, request);
 
             assertThat(result).isNotNull();
             assertThat(result.getName()).isEqualTo(testName);
-            verify(contactRepository, times(1)).save(any(Contact.class));
+            verify(contactRepository, times(1)).saveAndFlush(any(Contact.class));
+            verify(contactCountService).adjust(1L, 1);
         }
 
         @Test
@@ -125,15 +160,15 @@ class ContactServiceTest {
                     duplicatePhone);
 
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
-            when(contactRepository.existsByPhoneNumberAndAddressBookId(duplicatePhone, 1L))
-                    .thenReturn(true);
+            when(contactRepository.saveAndFlush(any(Contact.class)))
+                    .thenThrow(TestDataFactory.uniqueViolation("uk_phone_key_addressbook"));
 
             assertThatThrownBy(() -> contactService.addContact(1L, duplicateRequest))
                     .isInstanceOf(DuplicateContactException.class)
                     .hasMessageContaining("Contact with phone number " + duplicatePhone
                             + " already exists");
 
-            verify(contactRepository, never()).save(any(Contact.class));
+            verify(contactCountService, never()).adjust(anyLong(), anyLong());
         }
 
         @Test
@@ -146,14 +181,12 @@ class ContactServiceTest {
                     .build();
 
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
-            when(contactRepository.existsByPhoneNumberAndAddressBookId(existingPhone, 1L))
-                    .thenReturn(true);
+            when(contactRepository.saveAndFlush(any(Contact.class)))
+                    .thenThrow(TestDataFactory.uniqueViolation("PUBLIC.UK_PHONE_KEY_ADDRESSBOOK_INDEX_D"));
 
             assertThatThrownBy(() -> contactService.addContact(1L, duplicateRequest))
                     .isInstanceOf(DuplicateContactException.class)
                     .hasMessageContaining(existingPhone);
-
-            verify(contactRepository, never()).save(any(Contact.class));
         }
 
         @Test
@@ -166,7 +199,7 @@ class ContactServiceTest {
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Address book not found with id: " + nonExistentId);
 
-            verify(contactRepository, never()).save(any(Contact.class));
+            verify(contactRepository, never()).saveAndFlush(any(Contact.class));
         }
 
         @Test
@@ -179,15 +212,13 @@ class ContactServiceTest {
                     .build();
 
             when(addressBookRepository.findById(2L)).thenReturn(Optional.of(anotherAddressBook));
-            when(contactRepository.existsByPhoneNumberAndAddressBookId(testPhoneNumber, 2L))
-                    .thenReturn(false);
-            when(contactRepository.save(any(Contact.class))).thenReturn(contact);
+            when(contactRepository.saveAndFlush(any(Contact.class))).thenReturn(contact);
             when(contactMapper.mapToResponse(any(Contact.class))).thenReturn(response);
 
             ContactResponse result = contactService.addContact(2L, request);
 
             assertThat(result).isNotNull();
-            verify(contactRepository, times(1)).save(any(Contact.class));
+            verify(contactRepository, times(1)).saveAndFlush(any(Contact.class));
         }
     }
 
@@ -198,7 +229,7 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should get contact by id")
         void testGetContactById() {
-            when(contactRepository.findByIdAndAddressBookId(1L, 1L))
+            when(contactRepository.findById(1L))
                     .thenReturn(Optional.of(contact));
             when(contactMapper.mapToResponse(any(Contact.class))).thenReturn(response);
 
@@ -212,7 +243,7 @@ class ContactServiceTest {
         @DisplayName("Should throw ResourceNotFoundException when contact not found by id")
         void testGetContactByIdNotFound() {
             Long nonExistentContactId = 999L;
-            when(contactRepository.findByIdAndAddressBookId(nonExistentContactId, 1L))
+            when(contactRepository.findById(nonExistentContactId))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> contactService.getContactById(1L, nonExistentContactId))
@@ -223,8 +254,8 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should throw ResourceNotFoundException when contact exists but in different address book")
         void testGetContactFromWrongAddressBook() {
-            when(contactRepository.findByIdAndAddressBookId(1L, 2L))
-                    .thenReturn(Optional.empty());
+            when(contactRepository.findById(1L))
+                    .thenReturn(Optional.of(contact));
 
             assertThatThrownBy(() -> contactService.getContactById(2L, 1L))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -239,52 +270,54 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should get all contacts in address book (non-paginated)")
         void testGetAllContacts() {
-            Pageable limitedPage = PageRequest.of(0, 100);
-            Page<Contact> page = new PageImpl<>(Arrays.asList(contact), limitedPage, 1);
-
-            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
             when(paginationHelper.getMaxPageSize()).thenReturn(100);
-            when(contactRepository.findByAddressBookId(eq(1L), any(Pageable.class))).thenReturn(page);
-            when(contactMapper.mapToResponse(any(Contact.class))).thenReturn(response);
+            when(contactRepository.findResponsesByAddressBookId(eq(1L), any(Pageable.class)))
+                    .thenReturn(List.of(response));
 
             List<ContactResponse> results = contactService.getAllContacts(1L);
 
             assertThat(results).hasSize(1);
-            verify(contactRepository, times(1)).findByAddressBookId(eq(1L), any(Pageable.class));
+            verify(contactRepository, times(1)).findResponsesByAddressBookId(eq(1L), any(Pageable.class));
+            // A non-empty page shows the book exists
+            verify(addressBookRepository, never()).findById(anyLong());
         }
 
         @Test
-        @DisplayName("Should get all contacts paginated")
+        @DisplayName("Should get all contacts paginated, a full page totalled from the counters")
         void testGetAllContactsPaged() {
-            Pageable pageable = PageRequest.of(0, 10);
-            Page<Contact> page = new PageImpl<>(Arrays.asList(contact), pageable, 1);
+            Pageable pageable = PageRequest.of(0, 1);
             PagedResponse<ContactResponse> pagedResponse = PagedResponse.<ContactResponse>builder()
                     .content(List.of(response))
                     .page(0)
-                    .size(10)
-                    .totalElements(1)
-                    .totalPages(1)
+                    .size(1)
+                    .totalElements(5)
+                    .totalPages(5)
                     .first(true)
-                    .last(true)
+                    .last(false)
                     .empty(false)
                     .build();
 
-            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
             when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
-            when(contactRepository.findByAddressBookId(1L, pageable)).thenReturn(page);
-            doReturn(pagedResponse).when(paginationHelper).createPagedResponse(eq(page), any());
+            when(contactRepository.findResponsesByAddressBookId(1L, pageable)).thenReturn(List.of(response));
+            when(contactCountService.getCount(1L)).thenReturn(5L);
+            doReturn(pagedResponse).when(paginationHelper).createPagedResponse(
+                    argThat(page -> page.getTotalElements() == 5), any());
 
             PagedResponse<ContactResponse> results = contactService.getAllContactsPaged(1L, pageable);
 
             assertThat(results).isNotNull();
-            assertThat(results.getTotalElements()).isEqualTo(1);
+            assertThat(results.getTotalElements()).isEqualTo(5);
             verify(paginationHelper).sanitizePageable(pageable);
+            verify(contactRepository, never()).countByAddressBookId(anyLong());
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when getting contacts from non-existent address book")
         void testGetAllContactsFromNonExistentAddressBook() {
             Long nonExistentId = 999L;
+            when(paginationHelper.getMaxPageSize()).thenReturn(100);
+            when(contactRepository.findResponsesByAddressBookId(eq(nonExistentId), any(Pageable.class)))
+                    .thenReturn(List.of());
             when(addressBookRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> contactService.getAllContacts(nonExistentId))
@@ -297,6 +330,9 @@ class ContactServiceTest {
         void testGetAllContactsPagedFromNonExistentAddressBook() {
             Long nonExistentId = 999L;
             Pageable pageable = PageRequest.of(0, 10);
+            when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
+            when(contactRepository.findResponsesByAddressBookId(nonExistentId, pageable))
+                    .thenReturn(List.of());
             when(addressBookRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> contactService.getAllContactsPaged(nonExistentId, pageable))
@@ -307,12 +343,9 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should return empty list when address book has no contacts")
         void testGetAllContactsEmpty() {
-            Pageable limitedPage = PageRequest.of(0, 100);
-            Page<Contact> emptyPage = new PageImpl<>(Collections.emptyList(), limitedPage, 0);
-
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
             when(paginationHelper.getMaxPageSize()).thenReturn(100);
-            when(contactRepository.findByAddressBookId(eq(1L), any(Pageable.class))).thenReturn(emptyPage);
+            when(contactRepository.findResponsesByAddressBookId(eq(1L), any(Pageable.class))).thenReturn(List.of());
 
             List<ContactResponse> results = contactService.getAllContacts(1L);
 
@@ -320,6 +353,49 @@ class ContactServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Update Contact Tests")
+    class UpdateContactTests {
+
+        @Test
+        @DisplayName("Should keep a contact findable in its book's contact set when its number changes")
+        void testUpdatePhoneNumberRehashesBookContacts() {
+            contact.setPhoneKey(PhoneNumbers.normalize(testPhoneNumber));
+            addressBook.getContacts().add(contact);
+            String newPhoneNumber = "+61 499 000 111";
+            when(contactRepository.findById(1L)).thenReturn(Optional.of(contact));
+            when(contactRepository.saveAndFlush(contact)).thenReturn(contact);
+            when(contactMapper.mapToResponse(contact)).thenReturn(response);
+
+            contactService.updateContact(1L, 1L, ContactRequest.builder()
+                    .name(testName)
+                    .phoneNumber(newPhoneNumber)
+                    .build());
+
+            assertThat(addressBook.getContacts()).hasSize(1).contains(contact);
+            assertThat(addressBook.getContacts().remove(contact)).isTrue();
+            assertThat(contact.getPhoneKey()).isEqualTo(PhoneNumbers.normalize(newPhoneNumber));
+        }
+
+        @Test
+        @DisplayName("Should leave a contact without a phone key unkeyed when its digits do not change")
+        void testUpdateKeepsMissingPhoneKey() {
+            contact.setPhoneKey(null);
+            when(contactRepository.findById(1L)).thenReturn(Optional.of(contact));
+            when(contactRepository.saveAndFlush(contact)).thenReturn(contact);
+            when(contactMapper.mapToResponse(contact)).thenReturn(response);
+
+            contactService.updateContact(1L, 1L, ContactRequest.builder()
+                    .name("Renamed")
+                    .phoneNumber(testPhoneNumber)
+                    .build());
+
+            assertThat(contact.getName()).isEqualTo("Renamed");
+            assertThat(contact.getPhoneKey()).isNull();
+            verifyNoInteractions(uniqueContactIndexService, phoneLookupService);
+        }
+    }
+
     @Nested
     @DisplayName("Remove Contact Tests")
     class RemoveContactTests {
@@ -327,19 +403,20 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should remove contact successfully")
         void testRemoveContact() {
-            when(contactRepository.findByIdAndAddressBookId(1L, 1L))
+            when(contactRepository.findById(1L))
                     .thenReturn(Optional.of(contact));
 
             contactService.removeContact(1L, 1L);
 
             verify(contactRepository, times(1)).delete(contact);
+            verify(contactCountService).adjust(1L, -1);
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when removing non-existent contact")
         void testRemoveContactNotFound() {
             Long nonExistentContactId = 999L;
-            when(contactRepository.findByIdAndAddressBookId(nonExistentContactId, 1L))
+            when(contactRepository.findById(nonExistentContactId))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> contactService.removeContact(1L, nonExistentContactId))
@@ -352,8 +429,8 @@ class ContactServiceTest {
         @Test
         @DisplayName("Should throw ResourceNotFoundException when removing contact from wrong address book")
         void testRemoveContactFromWrongAddressBook() {
-            when(contactRepository.findByIdAndAddressBookId(1L, 2L))
-                    .thenReturn(Optional.empty());
+            when(contactRepository.findById(1L))
+                    .thenReturn(Optional.of(contact));
 
             assertThatThrownBy(() -> contactService.removeContact(2L, 1L))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -361,6 +438,42 @@ class ContactServiceTest {
 
             verify(contactRepository, never()).delete(any(Contact.class));
         }
+
+        @Test
+        @DisplayName("Should delete requested contacts in chunked set-based statements")
+        void testRemoveContactsChunked() {
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= 2_500; id++) {
+                ids.add(id);
+            }
+            ids.add(1L);
+
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(contactRepository.deleteByIdInAndAddressBookId(anyCollection(), eq(1L)))
+                    .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+            int deleted = contactService.removeContacts(1L, ids);
+
+            assertThat(deleted).isEqualTo(2_500);
+            verify(contactCountService).adjust(1L, -2_500);
+            verify(contactRepository, times(3)).deleteByIdInAndAddressBookId(anyCollection(), eq(1L));
+            verify(contactRepository, never()).deleteAll(anyIterable());
+        }
+
+        @Test
+        @DisplayName("Should delete all contacts chunk by chunk until a short chunk")
+        void testRemoveAllContactsChunked() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(contactRepository.deleteChunkByAddressBookId(eq(1L), anyInt()))
+                    .thenReturn(10_000, 10_000, 42);
+
+            int deleted = contactService.removeAllContacts(1L);
+
+            assertThat(deleted).isEqualTo(20_042);
+            verify(contactCountService).adjust(1L, -20_042);
+            verify(contactRepository, times(3)).deleteChunkByAddressBookId(eq(1L), anyInt());
+            verify(contactRepository, never()).countByAddressBookId(anyLong());
+        }
     }
 
     @Nested
@@ -373,13 +486,6 @@ class ContactServiceTest {
             String secondContactName = TestDataFactory.generateName();
             String secondContactPhone = TestDataFactory.generateAustralianPhoneNumber();
 
-            Contact contact2 = Contact.builder()
-                    .id(2L)
-                    .name(secondContactName)
-                    .phoneNumber(secondContactPhone)
-                    .addressBook(addressBook)
-                    .build();
-
             ContactResponse response2 = ContactResponse.builder()
                     .id(2L)
                     .name(secondContactName)
@@ -387,12 +493,10 @@ class ContactServiceTest {
                     .build();
 
             Pageable limitedPage = PageRequest.of(0, 100);
-            Page<Contact> page = new PageImpl<>(Arrays.asList(contact, contact2), limitedPage, 2);
+            Page<ContactResponse> page = new PageImpl<>(Arrays.asList(response, response2), limitedPage, 2);
 
             when(paginationHelper.getMaxPageSize()).thenReturn(100);
-            when(contactRepository.findUniqueContacts(any(Pageable.class))).thenReturn(page);
-            when(contactMapper.mapToResponse(contact)).thenReturn(response);
-            when(contactMapper.mapToResponse(contact2)).thenReturn(response2);
+            when(contactRepository.findUniqueContactResponses(any(Pageable.class))).thenReturn(page);
 
             List<ContactResponse> results = contactService.getUniqueContactsAcrossAllAddressBooks();
 
@@ -403,7 +507,7 @@ class ContactServiceTest {
         @DisplayName("Should get unique contacts paginated")
         void testGetUniqueContactsPaged() {
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Contact> page = new PageImpl<>(Arrays.asList(contact), pageable, 1);
+            Page<ContactResponse> page = new PageImpl<>(Arrays.asList(response), pageable, 1);
             PagedResponse<ContactResponse> pagedResponse = PagedResponse.<ContactResponse>builder()
                     .content(List.of(response))
                     .page(0)
@@ -416,7 +520,7 @@ class ContactServiceTest {
                     .build();
 
             when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
-            when(contactRepository.findUniqueContacts(pageable)).thenReturn(page);
+            when(contactRepository.findUniqueContactResponses(pageable)).thenReturn(page);
             doReturn(pagedResponse).when(paginationHelper).createPagedResponse(eq(page), any());
 
             PagedResponse<ContactResponse> results = contactService.getUniqueContactsPaged(pageable);
@@ -429,10 +533,10 @@ class ContactServiceTest {
         @DisplayName("Should return empty list when no contacts exist")
         void testGetUniqueContactsEmpty() {
             Pageable limitedPage = PageRequest.of(0, 100);
-            Page<Contact> emptyPage = new PageImpl<>(Collections.emptyList(), limitedPage, 0);
+            Page<ContactResponse> emptyPage = new PageImpl<>(Collections.emptyList(), limitedPage, 0);
 
             when(paginationHelper.getMaxPageSize()).thenReturn(100);
-            when(contactRepository.findUniqueContacts(any(Pageable.class))).thenReturn(emptyPage);
+            when(contactRepository.findUniqueContactResponses(any(Pageable.class))).thenReturn(emptyPage);
 
             List<ContactResponse> results = contactService.getUniqueContactsAcrossAllAddressBooks();
 
@@ -443,12 +547,12 @@ class ContactServiceTest {
         @DisplayName("Should get contact count for address book")
         void testGetContactCount() {
             when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
-            when(contactRepository.countByAddressBookId(1L)).thenReturn(5L);
+            when(contactCountService.getCount(1L)).thenReturn(5L);
 
             long count = contactService.getContactCount(1L);
 
             assertThat(count).isEqualTo(5L);
-            verify(contactRepository).countByAddressBookId(1L);
+            verify(contactRepository, never()).countByAddressBookId(anyLong());
         }
 
         @Test
@@ -462,4 +566,227 @@ class ContactServiceTest {
             verify(contactRepository).countDistinctPhoneNumbers();
         }
     }
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should seek by sort key with id tiebreaker on first page")
+        void testGetContactsByCursorFirstPage() {
+            Window<Contact> window = Window.from(List.of(contact),
+                    index -> ScrollPosition.forward(Map.of("name", testName, "id", 1L)), true);
+
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(paginationHelper.sanitizeLimit(10)).thenReturn(10);
+            when(contactRepository.findByAddressBookId(eq(1L), any(ScrollPosition.class), any(Sort.class),
+                    any(Limit.class))).thenReturn(window);
+
+            contactService.getContactsByCursor(1L, null, 10, Sort.Order.desc("name"));
+
+            verify(contactRepository).findByAddressBookId(1L, ScrollPosition.keyset(),
+                    Sort.by(Sort.Order.desc("name"), Sort.Order.desc("id")), Limit.of(10));
+            verify(paginationHelper).createCursorResponse(eq(window), eq(10),
+                    argThat(cursor -> cursorCodec.decode(cursor).position().getKeys()
+                            .equals(Map.of("name", testName, "id", 1L))),
+                    any());
+        }
+
+        @Test
+        @DisplayName("Should resume from the position and sort stored in the cursor")
+        void testGetContactsByCursorResumes() {
+            String cursor = cursorCodec.encode(Sort.Order.asc("name"),
+                    ScrollPosition.forward(Map.of("name", "Bob", "id", 42L)));
+            Window<Contact> window = Window.from(List.of(contact), ScrollPosition::offset, false);
+
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(paginationHelper.sanitizeLimit(10)).thenReturn(10);
+            when(contactRepository.findByAddressBookId(eq(1L), any(ScrollPosition.class), any(Sort.class),
+                    any(Limit.class))).thenReturn(window);
+
+            contactService.getContactsByCursor(1L, cursor, 10, Sort.Order.desc("createdAt"));
+
+            verify(contactRepository).findByAddressBookId(1L,
+                    ScrollPosition.forward(Map.of("name", "Bob", "id", 42L)),
+                    Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id")), Limit.of(10));
+            verify(paginationHelper).createCursorResponse(eq(window), eq(10), isNull(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject sort fields without a seek index")
+        void testGetContactsByCursorUnsupportedSort() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+
+            assertThatThrownBy(() -> contactService.getContactsByCursor(1L, null, 10, Sort.Order.asc("addressBook")))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessageContaining("addressBook");
+            assertThatThrownBy(() -> contactService.getContactsByCursor(1L, null, 10, Sort.Order.desc("createdAt")))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessageContaining("createdAt");
+
+            verify(contactRepository, never()).findByAddressBookId(anyLong(), any(ScrollPosition.class),
+                    any(Sort.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a tampered cursor")
+        void testGetContactsByCursorMalformed() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+
+            assertThatThrownBy(() -> contactService.getContactsByCursor(1L, "not-a-cursor", 10, Sort.Order.asc("id")))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Name Search Tests")
+    class NameSearchTests {
+
+        @Test
+        @DisplayName("Should scroll search results by name with id tiebreaker")
+        void testSearchContacts() {
+            Window<Contact> window = Window.from(List.of(contact), ScrollPosition::offset, false);
+
+            when(paginationHelper.sanitizeLimit(20)).thenReturn(20);
+            doReturn(window).when(contactRepository).findBy(any(Specification.class), any());
+
+            contactService.searchContacts("jo", null, 20, Sort.Order.asc("name"));
+
+            verify(contactRepository).findBy(any(Specification.class), any());
+            verify(paginationHelper).createCursorResponse(eq(window), eq(20), isNull(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw when searching a missing address book")
+        void testSearchContactsInMissingAddressBook() {
+            when(addressBookRepository.findById(99L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> contactService.searchContactsInAddressBook(99L, "jo", null, 20,
+                    Sort.Order.asc("name")))
+                    .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(contactRepository, never()).findBy(any(Specification.class), any());
+        }
+
+        @Test
+        @DisplayName("Should reject sort fields without a seek index")
+        void testSearchContactsUnsupportedSort() {
+            assertThatThrownBy(() -> contactService.searchContacts("jo", null, 20, Sort.Order.asc("addressBook")))
+                    .isInstanceOf(InvalidCursorException.class);
+
+            verify(contactRepository, never()).findBy(any(Specification.class), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Existing Phone Numbers Tests")
+    class ExistingPhoneNumbersTests {
+
+        @Test
+        @DisplayName("Should check all valid numbers by key in one query and list invalid ones")
+        void testFindExistingPhoneNumbers() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(phoneLookupRepository.findExistingPhoneKeys(eq(1L), anyCollection()))
+                    .thenReturn(List.of("61400000000"));
+
+            ContactExistsResponse result = contactService.findExistingPhoneNumbers(1L,
+                    List.of("+61 400 000 000", "+61400000001", "not a number", "+61400000000", "+61 400 000 000"));
+
+            assertThat(result.getRequested()).isEqualTo(5);
+            assertThat(result.getExisting()).containsExactly("+61 400 000 000", "+61400000000");
+            assertThat(result.getInvalid()).containsExactly("not a number");
+            verify(phoneLookupRepository).findExistingPhoneKeys(1L, Set.of("61400000000", "61400000001"));
+        }
+
+        @Test
+        @DisplayName("Should not query when no number is valid")
+        void testFindExistingPhoneNumbersAllInvalid() {
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+
+            ContactExistsResponse result = contactService.findExistingPhoneNumbers(1L, List.of("abc"));
+
+            assertThat(result.getExisting()).isEmpty();
+            assertThat(result.getInvalid()).containsExactly("abc");
+            verifyNoInteractions(phoneLookupRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sparse Fieldset Tests")
+    class SparseFieldsetTests {
+
+        @Test
+        @DisplayName("Should select the requested fields in field order")
+        void testGetContactFieldsById() {
+            Map<String, Object> row = Map.of("id", 1L, "name", testName);
+            when(contactRepository.findFieldsBy(any(), any(FieldSelection.class), eq(Pageable.unpaged())))
+                    .thenReturn(List.of(row));
+
+            Map<String, Object> result = contactService.getContactById(1L, 1L, "name, id");
+
+            assertThat(result).isEqualTo(row);
+            verify(contactRepository).findFieldsBy(any(),
+                    argThat(fields -> fields.getFields().equals(new LinkedHashSet<>(List.of("id", "name")))),
+                    eq(Pageable.unpaged()));
+            verifyNoInteractions(contactMapper);
+        }
+
+        @Test
+        @DisplayName("Should throw when the contact is not in the address book")
+        void testGetContactFieldsByIdNotFound() {
+            when(contactRepository.findFieldsBy(any(), any(FieldSelection.class), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            assertThatThrownBy(() -> contactService.getContactById(1L, 999L, "id"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("999");
+        }
+
+        @Test
+        @DisplayName("Should take the total of a full page of fields from the contact counters")
+        void testGetContactFieldsPagedTotalFromCounters() {
+            Pageable pageable = PageRequest.of(0, 1);
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(paginationHelper.sanitizePageable(pageable)).thenReturn(pageable);
+            when(contactRepository.findFieldsBy(any(), any(FieldSelection.class), eq(pageable)))
+                    .thenReturn(List.of(Map.of("id", 1L)));
+            when(contactCountService.getCount(1L)).thenReturn(42L);
+
+            contactService.getAllContactsPaged(1L, pageable, "id");
+
+            verify(paginationHelper).createPagedResponse(argThat(page -> page.getTotalElements() == 42), any());
+            verify(contactRepository, never()).countByAddressBookId(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields before querying")
+        void testUnknownField() {
+            assertThatThrownBy(() -> contactService.getAllContactsPaged(1L, PageRequest.of(0, 10), "id,email"))
+                    .isInstanceOf(InvalidFieldSelectionException.class)
+                    .hasMessageContaining("email");
+
+            verifyNoInteractions(contactRepository, addressBookRepository);
+        }
+
+        @Test
+        @DisplayName("Should seek fields by sort key with id tiebreaker and encode the last position")
+        void testGetContactFieldsByCursor() {
+            Window<Map<String, Object>> window = Window.from(List.of(Map.of("phoneNumber", testPhoneNumber)),
+                    index -> ScrollPosition.forward(Map.of("name", testName, "id", 1L)), true);
+
+            when(addressBookRepository.findById(1L)).thenReturn(Optional.of(addressBook));
+            when(paginationHelper.sanitizeLimit(10)).thenReturn(10);
+            when(contactRepository.scrollFieldsBy(any(), any(FieldSelection.class), any(Sort.class),
+                    any(KeysetScrollPosition.class), anyInt())).thenReturn(window);
+
+            contactService.getContactsByCursor(1L, null, 10, Sort.Order.asc("name"), "phoneNumber");
+
+            verify(contactRepository).scrollFieldsBy(any(), any(FieldSelection.class),
+                    eq(Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"))), eq(ScrollPosition.keyset()), eq(10));
+            verify(paginationHelper).createCursorResponse(eq(window), eq(10),
+                    argThat(cursor -> cursorCodec.decode(cursor).position().getKeys()
+                            .equals(Map.of("name", testName, "id", 1L))),
+                    any());
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.addressbook.unit.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.util.ContactRecordReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Contact Record Reader Unit Tests")
+class ContactRecordReaderTest {
+
+    @Test
+    @DisplayName("Should split lines, numbering them and dropping CRLF")
+    void testSplitsLines() throws IOException {
+        assertThat(readAll("a\r\nb\n\nc", false, 100)).containsExactly(
+                new ContactRecordReader.Record(1, "a"),
+                new ContactRecordReader.Record(2, "b"),
+                new ContactRecordReader.Record(3, ""),
+                new ContactRecordReader.Record(4, "c"));
+        assertThat(readAll("", false, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a quoted CSV field's line break inside the record")
+    void testQuotedLineBreak() throws IOException {
+        assertThat(readAll("1,\"two\r\nlines\"\n2,x\n", true, 100)).containsExactly(
+                new ContactRecordReader.Record(1, "1,\"two\nlines\""),
+                new ContactRecordReader.Record(3, "2,x"));
+        // NDJSON has no quoting at the record level
+        assertThat(readAll("\"a\nb\"", false, 100)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should skip an over-long record without losing the next one")
+    void testTooLong() throws IOException {
+        List<ContactRecordReader.Record> records = readAll("x".repeat(50_000) + "\nok\n", false, 10);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).isTooLong()).isTrue();
+        assertThat(records.get(1)).isEqualTo(new ContactRecordReader.Record(2, "ok"));
+    }
+
+    @Test
+    @DisplayName("Should split CSV fields with quotes, commas and doubled quotes")
+    void testSplitCsv() {
+        assertThat(ContactRecordReader.splitCsv("a,\"b, c\",\"say \"\"hi\"\"\",")).containsExactly(
+                "a", "b, c", "say \"hi\"", "");
+        assertThat(ContactRecordReader.splitCsv("")).containsExactly("");
+        assertThatThrownBy(() -> ContactRecordReader.splitCsv("\"open"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContactRecordReader.splitCsv("\"a\"b,c"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ContactRecordReader.Record> readAll(String text, boolean csv, int maxChars)
+            throws IOException {
+        ContactRecordReader reader = new ContactRecordReader(new StringReader(text), csv, maxChars);
+        List<ContactRecordReader.Record> records = new ArrayList<>();
+        ContactRecordReader.Record record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
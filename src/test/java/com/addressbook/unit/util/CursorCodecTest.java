@@ -0,0 +1,73 @@
+package com.addressbook.unit.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.exception.InvalidCursorException;
+import com.project.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Cursor Codec Unit Tests")
+class CursorCodecTest {
+
+    private CursorCodec cursorCodec;
+
+    @BeforeEach
+    void setUp() {
+        cursorCodec = new CursorCodec(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should round-trip sort order and typed keys")
+    void testRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("createdAt", createdAt, "id", 9_000_000_001L));
+
+        String cursor = cursorCodec.encode(Sort.Order.desc("createdAt"), position);
+        CursorCodec.Cursor decoded = cursorCodec.decode(cursor);
+
+        assertThat(decoded.order()).isEqualTo(Sort.Order.desc("createdAt"));
+        assertThat(decoded.position().getKeys())
+                .containsEntry("createdAt", createdAt)
+                .containsEntry("id", 9_000_000_001L);
+        assertThat(decoded.position().scrollsForward()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should produce URL-safe cursors")
+    void testUrlSafe() {
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("name", "??>>~~ Ünïcode", "id", 1L));
+
+        String cursor = cursorCodec.encode(Sort.Order.asc("name"), position);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(cursorCodec.decode(cursor).position().getKeys()).containsEntry("name", "??>>~~ Ünïcode");
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that are not base64")
+    void testRejectNotBase64() {
+        assertThatThrownBy(() -> cursorCodec.decode("***"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject cursors with untyped keys")
+    void testRejectUntypedKeys() {
+        String json = "{\"sort\":\"id\",\"dir\":\"ASC\",\"keys\":{\"id\":\"42\"}}";
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes());
+
+        assertThatThrownBy(() -> cursorCodec.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
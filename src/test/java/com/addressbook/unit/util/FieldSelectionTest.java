@@ -0,0 +1,41 @@
+package com.addressbook.unit.util;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.exception.InvalidFieldSelectionException;
+import com.project.util.FieldSelection;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Field Selection Unit Tests")
+class FieldSelectionTest {
+
+    private static final List<String> SELECTABLE = List.of("id", "name", "phoneNumber", "createdAt");
+
+    @Test
+    @DisplayName("Should keep the resource's field order and drop blanks and repeats")
+    void testParse() {
+        FieldSelection selection = FieldSelection.parse(" phoneNumber,id,,id ", SELECTABLE);
+
+        assertThat(selection.getFields()).containsExactly("id", "phoneNumber");
+        assertThat(selection.includes("phoneNumber")).isTrue();
+        assertThat(selection.includes("name")).isFalse();
+        assertThat(selection).hasToString("id,phoneNumber");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields and empty selections")
+    void testInvalid() {
+        assertThatThrownBy(() -> FieldSelection.parse("id,email", SELECTABLE))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageContaining("'email'")
+                .hasMessageContaining("phoneNumber");
+        assertThatThrownBy(() -> FieldSelection.parse(" , ", SELECTABLE))
+                .isInstanceOf(InvalidFieldSelectionException.class);
+        assertThatThrownBy(() -> FieldSelection.parse("ID", SELECTABLE))
+                .isInstanceOf(InvalidFieldSelectionException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.addressbook.unit.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.util.LongMultimap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Long Multimap Unit Tests")
+class LongMultimapTest {
+
+    @Test
+    @DisplayName("Should keep every value of a key and each pair once")
+    void testPutAndGet() {
+        LongMultimap multimap = new LongMultimap();
+
+        assertThat(multimap.put(61400000000L, 1)).isTrue();
+        assertThat(multimap.put(61400000000L, 2)).isTrue();
+        assertThat(multimap.put(61400000000L, 1)).isFalse();
+        assertThat(multimap.put(61400000001L, 1)).isTrue();
+
+        assertThat(multimap.get(61400000000L)).containsExactlyInAnyOrder(1, 2);
+        assertThat(multimap.get(61400000001L)).containsExactly(1);
+        assertThat(multimap.get(61400000002L)).isEmpty();
+        assertThat(multimap.size()).isEqualTo(3);
+        assertThatThrownBy(() -> multimap.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should remove single pairs and every pair of a value")
+    void testRemove() {
+        LongMultimap multimap = new LongMultimap();
+        for (long key = 1; key <= 1_000; key++) {
+            multimap.put(key, key % 3);
+        }
+
+        assertThat(multimap.remove(3, 0)).isTrue();
+        assertThat(multimap.remove(3, 0)).isFalse();
+        assertThat(multimap.remove(4, 0)).isFalse();
+        assertThat(multimap.removeValue(1)).isEqualTo(334);
+
+        assertThat(multimap.size()).isEqualTo(1_000 - 1 - 334);
+        assertThat(multimap.get(4)).isEmpty();
+        assertThat(multimap.get(5)).containsExactly(2);
+        assertThat(multimap.get(6)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Should agree with a map of sets over random changes")
+    void testAgreesWithModel() {
+        LongMultimap multimap = new LongMultimap();
+        Map<Long, Set<Long>> model = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // Few keys and values, so keys collect several values and runs collide
+            long key = 1 + random.nextInt(5_000);
+            long value = random.nextInt(50);
+            int operation = random.nextInt(100);
+            if (operation < 60) {
+                assertThat(multimap.put(key, value))
+                        .isEqualTo(model.computeIfAbsent(key, k -> new HashSet<>()).add(value));
+            } else if (operation < 99) {
+                Set<Long> values = model.get(key);
+                assertThat(multimap.remove(key, value)).isEqualTo(values != null && values.remove(value));
+            } else {
+                long removed = model.values().stream().filter(values -> values.remove(value)).count();
+                assertThat(multimap.removeValue(value)).isEqualTo(removed);
+            }
+        }
+
+        assertThat(multimap.size()).isEqualTo(model.values().stream().mapToInt(Set::size).sum());
+        for (long key = 1; key <= 5_000; key++) {
+            long[] expected = model.getOrDefault(key, Set.of()).stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] actual = multimap.get(key);
+            Arrays.sort(actual);
+            assertThat(actual).as("key %d", key).containsExactly(expected);
+        }
+    }
+}
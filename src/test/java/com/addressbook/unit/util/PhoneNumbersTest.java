@@ -0,0 +1,62 @@
+package com.addressbook.unit.util;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.project.entity.contact.Contact;
+import com.project.util.PhoneNumbers;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Phone Numbers Unit Tests")
+class PhoneNumbersTest {
+
+    private static final Pattern PHONE_NUMBER = Pattern.compile(Contact.PHONE_NUMBER_PATTERN);
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "+", "12345", "+12345", "123456", "+123456", "+61 (400) 000-000",
+            "12345678901234567890", "+12345678901234567890", "123456789012345678901", "++123456",
+            "12+3456", "123456+", "12 34\t56", "1234\n56", "1234\u000B56", "123 456", "123456٣",
+            "(((())))", "------", "      ", "+61-abc-000", "+61 400 000 000 ext 1" })
+    @DisplayName("Should agree with the phone number pattern on edge cases")
+    void testIsValidMatchesPattern(String phoneNumber) {
+        assertThat(PhoneNumbers.isValid(phoneNumber))
+                .isEqualTo(PHONE_NUMBER.matcher(phoneNumber).matches());
+    }
+
+    @Test
+    @DisplayName("Should agree with the phone number pattern on random input")
+    void testIsValidMatchesPatternRandomly() {
+        String alphabet = "0123456789 +-()\t\nx. ";
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            char[] chars = new char[random.nextInt(24)];
+            for (int j = 0; j < chars.length; j++) {
+                // Mostly valid characters, so both answers come up often
+                chars[j] = alphabet.charAt(random.nextInt(random.nextInt(10) == 0 ? alphabet.length() : 15));
+            }
+            String phoneNumber = new String(chars);
+            assertThat(PhoneNumbers.isValid(phoneNumber))
+                    .as("'%s'", phoneNumber)
+                    .isEqualTo(PHONE_NUMBER.matcher(phoneNumber).matches());
+        }
+        assertThat(PhoneNumbers.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reduce a phone number to its digits, reusing digit-only input")
+    void testNormalize() {
+        String digits = "61400000000";
+
+        assertThat(PhoneNumbers.normalize("+61 (400) 000-000")).isEqualTo(digits);
+        assertThat(PhoneNumbers.normalize("6140000000-0")).isEqualTo(digits);
+        assertThat(PhoneNumbers.normalize("+")).isEmpty();
+        assertThat(PhoneNumbers.normalize(digits)).isSameAs(digits);
+        assertThat(PhoneNumbers.normalize(null)).isNull();
+    }
+}
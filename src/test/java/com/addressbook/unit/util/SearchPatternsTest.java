@@ -0,0 +1,30 @@
+package com.addressbook.unit.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.util.SearchPatterns;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Search Patterns Unit Tests")
+class SearchPatternsTest {
+
+    @Test
+    @DisplayName("Should wrap a lower-cased term in wildcards")
+    void testContainsIgnoreCase() {
+        assertThat(SearchPatterns.containsIgnoreCase("Work Book")).isEqualTo("%work book%");
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards and the escape character")
+    void testEscapesWildcards() {
+        assertThat(SearchPatterns.containsIgnoreCase("50%_off\\now")).isEqualTo("%50\\%\\_off\\\\now%");
+    }
+
+    @Test
+    @DisplayName("Should match everything for an empty term")
+    void testEmptyTerm() {
+        assertThat(SearchPatterns.containsIgnoreCase("")).isEqualTo("%%");
+    }
+}
@@ -0,0 +1,156 @@
+package com.addressbook.unit.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.project.exception.MalformedSnapshotException;
+import com.project.util.SnapshotFormat.AddressBookRecord;
+import com.project.util.SnapshotFormat.ContactRecord;
+import com.project.util.SnapshotReader;
+import com.project.util.SnapshotWriter;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Snapshot Format Unit Tests")
+class SnapshotFormatTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_000);
+
+    private static final List<AddressBookRecord> ADDRESS_BOOKS = List.of(
+            new AddressBookRecord(1, "Work", "Colleagues, «clients» and 日本", CREATED, CREATED.plusDays(2)),
+            new AddressBookRecord(51, "Home", null, LocalDateTime.of(1960, 1, 1, 0, 0), null));
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    @DisplayName("Should read back exactly what was written")
+    void testRoundTrip(boolean compress) throws IOException {
+        List<ContactRecord> contacts = contacts(5_000);
+
+        Snapshot snapshot = read(write(ADDRESS_BOOKS, contacts, compress));
+
+        assertThat(snapshot.addressBooks()).isEqualTo(ADDRESS_BOOKS);
+        assertThat(snapshot.contacts()).isEqualTo(contacts);
+    }
+
+    @Test
+    @DisplayName("Should read an empty snapshot")
+    void testEmpty() throws IOException {
+        Snapshot snapshot = read(write(List.of(), List.of(), false));
+
+        assertThat(snapshot.addressBooks()).isEmpty();
+        assertThat(snapshot.contacts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should store sequential contacts in a few bytes each, and fewer compressed")
+    void testCompact() throws IOException {
+        List<ContactRecord> contacts = contacts(10_000);
+
+        int plain = write(List.of(), contacts, false).length;
+        int compressed = write(List.of(), contacts, true).length;
+
+        // Name and phone are 24 bytes of text; framing, ids and time take about 10 more
+        assertThat(plain).isLessThan(contacts.size() * (24 + 10));
+        assertThat(compressed).isLessThan(plain / 2);
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot with a changed byte")
+    void testChecksum() throws IOException {
+        byte[] bytes = write(ADDRESS_BOOKS, contacts(100), false);
+        // A character of the first book's description: still a well-formed record
+        bytes[30] ^= 1;
+
+        assertThatThrownBy(() -> read(bytes))
+                .isInstanceOf(MalformedSnapshotException.class)
+                .hasMessage("Snapshot checksum does not match its contents");
+    }
+
+    @Test
+    @DisplayName("Should reject a damaged compressed snapshot")
+    void testDamagedCompressed() throws IOException {
+        byte[] bytes = write(ADDRESS_BOOKS, contacts(1_000), true);
+        bytes[bytes.length / 2] ^= 0x55;
+
+        assertThatThrownBy(() -> read(bytes)).isInstanceOf(MalformedSnapshotException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject truncated, foreign and newer snapshots")
+    void testInvalidInput() throws IOException {
+        byte[] bytes = write(ADDRESS_BOOKS, contacts(100), false);
+
+        assertThatThrownBy(() -> read(Arrays.copyOf(bytes, bytes.length - 10)))
+                .isInstanceOf(MalformedSnapshotException.class)
+                .hasMessage("Snapshot is truncated");
+        assertThatThrownBy(() -> read("name,phoneNumber\n".getBytes()))
+                .isInstanceOf(MalformedSnapshotException.class)
+                .hasMessage("Not an address book snapshot");
+
+        byte[] newer = Arrays.copyOf(bytes, bytes.length);
+        newer[5] = 2;
+        assertThatThrownBy(() -> read(newer))
+                .isInstanceOf(MalformedSnapshotException.class)
+                .hasMessage("Unsupported snapshot version 2");
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThatThrownBy(() -> read(trailing))
+                .isInstanceOf(MalformedSnapshotException.class)
+                .hasMessage("Snapshot has data after its end");
+    }
+
+    private static List<ContactRecord> contacts(int count) {
+        List<ContactRecord> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(new ContactRecord(1_000 + i, i % 7 == 0 ? 51 : 1, "Contact " + i,
+                    "+614" + String.format("%08d", i), CREATED.plusSeconds(i)));
+        }
+        return contacts;
+    }
+
+    private static byte[] write(List<AddressBookRecord> addressBooks, List<ContactRecord> contacts,
+            boolean compress) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SnapshotWriter writer = new SnapshotWriter(Channels.newChannel(out), compress)) {
+            for (AddressBookRecord addressBook : addressBooks) {
+                writer.write(addressBook);
+            }
+            for (ContactRecord contact : contacts) {
+                writer.write(contact);
+            }
+            writer.finish();
+        }
+        return out.toByteArray();
+    }
+
+    private static Snapshot read(byte[] bytes) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+            List<AddressBookRecord> addressBooks = new ArrayList<>();
+            List<ContactRecord> contacts = new ArrayList<>();
+            AddressBookRecord addressBook;
+            while ((addressBook = reader.nextAddressBook()) != null) {
+                addressBooks.add(addressBook);
+            }
+            ContactRecord contact;
+            while ((contact = reader.nextContact()) != null) {
+                contacts.add(contact);
+            }
+            reader.finish();
+            return new Snapshot(addressBooks, contacts);
+        }
+    }
+
+    private record Snapshot(List<AddressBookRecord> addressBooks, List<ContactRecord> contacts) {
+    }
+}